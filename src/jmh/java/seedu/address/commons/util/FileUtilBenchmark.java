@@ -0,0 +1,83 @@
+package seedu.address.commons.util;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the cost of replacing a data file atomically, with and without forcing it to the disk, against writing
+ * over the file in place.
+ * <p>
+ * Run with {@code ./gradlew jmh -PjmhIncludes=FileUtilBenchmark}. The difference between the synced and unsynced
+ * atomic writes is the price of {@link FileUtil#setSyncOnWrite(boolean)}, which is set from {@code syncFileWrites}
+ * in {@code config.json}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FileUtilBenchmark {
+
+    // Roughly the size of a data file holding 100 and 10,000 persons
+    @Param({"40", "4000"})
+    public int kilobytes;
+
+    private Path directory;
+    private Path file;
+    private String content;
+
+    /**
+     * Creates a scratch directory and content of the benchmarked size.
+     */
+    @Setup
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("file-util-benchmark");
+        file = directory.resolve("tutortrack.json");
+        String line = "    \"name\" : \"Alex Yeoh\", \"phone\" : \"87438807\", \"level\" : \"S3\",\n";
+        StringBuilder builder = new StringBuilder();
+        while (builder.length() < kilobytes * 1024) {
+            builder.append(line);
+        }
+        content = builder.toString();
+    }
+
+    /**
+     * Deletes the scratch directory.
+     */
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(file);
+        Files.deleteIfExists(directory);
+    }
+
+    @Benchmark
+    public void writeInPlace() throws IOException {
+        FileUtil.writeToFile(file, content);
+    }
+
+    @Benchmark
+    public void writeAtomicallyWithoutSync() throws IOException {
+        FileUtil.writeToFileAtomically(file, content, false);
+    }
+
+    @Benchmark
+    public void writeAtomicallyWithSync() throws IOException {
+        FileUtil.writeToFileAtomically(file, content, true);
+    }
+}
@@ -0,0 +1,144 @@
+package seedu.address.commons.util;
+
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.model.assignment.Assignment;
+import seedu.address.model.classgroup.ClassGroup;
+import seedu.address.model.person.Level;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Phone;
+
+/**
+ * Measures validating a million field values with the model's validators, which scan with {@link ValidationUtil},
+ * against matching them with precompiled patterns and with {@link String#matches(String)}, which compiles the regex
+ * on every call.
+ * <p>
+ * Run with {@code ./gradlew jmh -PjmhIncludes=ValidationUtilBenchmark}. The values are names, phones, levels, class
+ * groups and assignment names in turn, as when loading a data file, with every tenth value invalid.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ValidationUtilBenchmark {
+
+    private static final int VALUE_COUNT = 1_000_000;
+    private static final int FIELD_COUNT = 5;
+
+    private final Pattern[] patterns = {
+        Pattern.compile(Name.VALIDATION_REGEX),
+        Pattern.compile(Phone.VALIDATION_REGEX),
+        Pattern.compile(Level.VALIDATION_REGEX),
+        Pattern.compile(ClassGroup.VALIDATION_REGEX),
+        Pattern.compile(Assignment.VALIDATION_REGEX),
+    };
+    private final String[] regexes = {
+        Name.VALIDATION_REGEX,
+        Phone.VALIDATION_REGEX,
+        Level.VALIDATION_REGEX,
+        ClassGroup.VALIDATION_REGEX,
+        Assignment.VALIDATION_REGEX,
+    };
+
+    private String[] values;
+
+    /**
+     * Creates the field values, each of which is validated as the field at its index modulo {@link #FIELD_COUNT}.
+     */
+    @Setup
+    public void setUp() {
+        values = new String[VALUE_COUNT];
+        for (int i = 0; i < VALUE_COUNT; i++) {
+            String value;
+            switch (i % FIELD_COUNT) {
+            case 0:
+                value = "Student O'Neil-" + i;
+                break;
+            case 1:
+                value = String.format("8%07d", i);
+                break;
+            case 2:
+                value = String.valueOf(i % 5 + 1);
+                break;
+            case 3:
+                value = "CS2103T-T" + (i % 40);
+                break;
+            default:
+                value = "Homework " + (i % 10);
+                break;
+            }
+            values[i] = i % 10 == 9 ? value + "!" : value;
+        }
+    }
+
+    /**
+     * Validates the values with the hand-written scanners the field classes use.
+     */
+    @Benchmark
+    public int validateWithScanners() {
+        int valid = 0;
+        for (int i = 0; i < VALUE_COUNT; i++) {
+            if (isValid(i % FIELD_COUNT, values[i])) {
+                valid++;
+            }
+        }
+        return valid;
+    }
+
+    /**
+     * Validates the values against regexes compiled once.
+     */
+    @Benchmark
+    public int validateWithPrecompiledPatterns() {
+        int valid = 0;
+        for (int i = 0; i < VALUE_COUNT; i++) {
+            if (patterns[i % FIELD_COUNT].matcher(values[i]).matches()) {
+                valid++;
+            }
+        }
+        return valid;
+    }
+
+    /**
+     * Validates the values with {@link String#matches(String)}, which compiles the regex on every call.
+     */
+    @Benchmark
+    public int validateWithStringMatches() {
+        int valid = 0;
+        for (int i = 0; i < VALUE_COUNT; i++) {
+            if (values[i].matches(regexes[i % FIELD_COUNT])) {
+                valid++;
+            }
+        }
+        return valid;
+    }
+
+    private static boolean isValid(int field, String value) {
+        switch (field) {
+        case 0:
+            return Name.isValidName(value);
+        case 1:
+            return Phone.isValidPhone(value);
+        case 2:
+            return Level.isValidLevel(value);
+        case 3:
+            return ClassGroup.isValidClassGroupName(value);
+        default:
+            return Assignment.isValidAssignmentName(value);
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package seedu.address.model.person;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.model.assignment.Assignment;
+import seedu.address.model.classgroup.ClassGroup;
+
+/**
+ * Measures hashing persons with the hash cached at construction against computing it on every call the way
+ * {@link Person#hashCode()} used to, by case-folding each level and assignment and summing the hashes of the class
+ * groups and assignments.
+ * <p>
+ * Run with {@code ./gradlew jmh -PjmhIncludes=PersonHashBenchmark}. The lookup benchmark finds equal copies of the
+ * persons in a hash set, which hashes each copy and compares it with the person found.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PersonHashBenchmark {
+
+    // Roughly a tutor's students and a whole school's
+    @Param({"100", "10000"})
+    public int persons;
+
+    private List<Person> personList;
+    private List<Person> copies;
+    private Set<Person> personSet;
+
+    /**
+     * Creates persons with a few class groups and assignments each, and equal copies of them.
+     */
+    @Setup
+    public void setUp() {
+        personList = new ArrayList<>();
+        copies = new ArrayList<>();
+        for (int i = 0; i < persons; i++) {
+            personList.add(createPerson(i));
+            copies.add(createPerson(i));
+        }
+        personSet = new HashSet<>(personList);
+    }
+
+    private static Person createPerson(int i) {
+        Set<ClassGroup> classGroups = new HashSet<>();
+        Set<Assignment> assignments = new HashSet<>();
+        for (int j = 0; j < 2; j++) {
+            String classGroupName = "Class " + ((i + j) % 40);
+            classGroups.add(ClassGroup.of(classGroupName));
+            for (int k = 0; k < 4; k++) {
+                assignments.add(Assignment.of("Homework " + k, classGroupName, (i + k) % 2 == 0));
+            }
+        }
+        return new Person(new Name("Student " + i), new Phone(String.format("8%07d", i)),
+                new Level(String.valueOf(i % 5 + 1)), classGroups, assignments);
+    }
+
+    /**
+     * Sums the hash codes that each person caches when it is created.
+     */
+    @Benchmark
+    public int hashCached() {
+        int sum = 0;
+        for (Person person : personList) {
+            sum += person.hashCode();
+        }
+        return sum;
+    }
+
+    /**
+     * Sums hash codes recomputed from the fields, as before the hash was cached.
+     */
+    @Benchmark
+    public int hashRecomputed() {
+        int sum = 0;
+        for (Person person : personList) {
+            sum += recomputeHash(person);
+        }
+        return sum;
+    }
+
+    /**
+     * Looks up an equal copy of each person in the hash set.
+     */
+    @Benchmark
+    public int lookupCopies() {
+        int found = 0;
+        for (Person copy : copies) {
+            if (personSet.contains(copy)) {
+                found++;
+            }
+        }
+        return found;
+    }
+
+    private static int recomputeHash(Person person) {
+        int classGroupsHash = 0;
+        for (ClassGroup classGroup : person.getClassGroups()) {
+            classGroupsHash += classGroup.classGroupName.hashCode();
+        }
+        int assignmentsHash = 0;
+        for (Assignment assignment : person.getAssignments()) {
+            assignmentsHash += Objects.hash(assignment.assignmentName.toLowerCase(Locale.ROOT),
+                    assignment.classGroupName.toLowerCase(Locale.ROOT));
+        }
+        return Objects.hash(person.getName(), person.getPhone(),
+                person.getLevel().value.toLowerCase(Locale.ROOT).hashCode(), classGroupsHash, assignmentsHash);
+    }
+}
@@ -2,16 +2,21 @@ package seedu.address;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import java.util.logging.Logger;
 
 import javafx.application.Application;
 import javafx.stage.Stage;
+import seedu.address.commons.core.AddressBookFileFormat;
+import seedu.address.commons.core.AddressBookSaveMode;
 import seedu.address.commons.core.Config;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.core.Version;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.commons.util.ConfigUtil;
+import seedu.address.commons.util.FileUtil;
 import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.Logic;
 import seedu.address.logic.LogicManager;
@@ -23,14 +28,21 @@ import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.util.SampleDataUtil;
+import seedu.address.model.versionmanager.VersionHistoryEvent;
+import seedu.address.storage.AddressBookFormatConverter;
 import seedu.address.storage.AddressBookStorage;
+import seedu.address.storage.BinaryAddressBookStorage;
 import seedu.address.storage.CommandHistoryStorage;
 import seedu.address.storage.JsonAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.SegmentedAddressBookStorage;
 import seedu.address.storage.Storage;
 import seedu.address.storage.StorageManager;
 import seedu.address.storage.TxtCommandHistoryStorage;
+import seedu.address.storage.TxtUndoHistoryStorage;
+import seedu.address.storage.UndoHistoryStorage;
 import seedu.address.storage.UserPrefsStorage;
+import seedu.address.storage.WriteBehindStorage;
 import seedu.address.ui.Ui;
 import seedu.address.ui.UiManager;
 
@@ -49,6 +61,9 @@ public class MainApp extends Application {
     protected Model model;
     protected Config config;
 
+    // Whether the address book was read from the data file, rather than being a sample or empty fallback
+    private boolean isAddressBookLoaded = false;
+
     @Override
     public void init() throws Exception {
         logger.info("=============================[ Initializing AddressBook ]===========================");
@@ -57,13 +72,18 @@ public class MainApp extends Application {
         AppParameters appParameters = AppParameters.parse(getParameters());
         config = initConfig(appParameters.getConfigPath());
         initLogging(config);
+        FileUtil.setSyncOnWrite(config.isSyncFileWrites());
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        AddressBookStorage addressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
+        AddressBookStorage addressBookStorage = initAddressBookStorage(userPrefs);
         CommandHistoryStorage commandHistoryStorage = new TxtCommandHistoryStorage(
-                userPrefs.getCommandHistoryFilePath());
-        storage = new StorageManager(addressBookStorage, userPrefsStorage, commandHistoryStorage);
+                userPrefs.getCommandHistoryFilePath(), userPrefs.getCommandHistoryMaxSize());
+        UndoHistoryStorage undoHistoryStorage = new TxtUndoHistoryStorage(userPrefs.getUndoHistoryFilePath(),
+                ModelManager.getUndoHistoryBudget(userPrefs).getMaxVersions());
+        // saves are written in the background so that commands never wait on the disk
+        storage = new WriteBehindStorage(new StorageManager(addressBookStorage, userPrefsStorage,
+                commandHistoryStorage, undoHistoryStorage));
 
         model = initModelManager(storage, userPrefs);
 
@@ -72,6 +92,39 @@ public class MainApp extends Application {
         ui = new UiManager(logic);
     }
 
+    /**
+     * Returns the storage of the address book in the file format and save mode chosen in {@code userPrefs}.
+     * If the data files of another storage were saved more recently, they are converted first, so that switching
+     * formats or to and from segments keeps the data.
+     */
+    private AddressBookStorage initAddressBookStorage(ReadOnlyUserPrefs userPrefs) {
+        JsonAddressBookStorage jsonStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath(),
+                userPrefs.getAddressBookSaveMode(), userPrefs.getAddressBookCheckpointInterval(),
+                config.isPrettyPrintDataFile(), config.isParallelDataLoading());
+        BinaryAddressBookStorage binaryStorage = new BinaryAddressBookStorage(
+                BinaryAddressBookStorage.getSnapshotFilePath(userPrefs.getAddressBookFilePath()));
+        SegmentedAddressBookStorage segmentedStorage = new SegmentedAddressBookStorage(
+                SegmentedAddressBookStorage.getManifestFilePath(userPrefs.getAddressBookFilePath()));
+        AddressBookStorage chosen;
+        if (userPrefs.getAddressBookFileFormat() == AddressBookFileFormat.BINARY) {
+            chosen = binaryStorage;
+        } else if (userPrefs.getAddressBookSaveMode() == AddressBookSaveMode.SEGMENTED) {
+            chosen = segmentedStorage;
+        } else {
+            chosen = jsonStorage;
+        }
+        List<AddressBookStorage> others = new ArrayList<>(List.of(jsonStorage, binaryStorage, segmentedStorage));
+        others.remove(chosen);
+
+        try {
+            AddressBookFormatConverter.convertIfNewer(others, chosen);
+        } catch (DataLoadingException | IOException e) {
+            logger.warning("Could not convert the most recently saved data file to "
+                    + chosen.getAddressBookFilePath() + ", using the existing data file: " + e);
+        }
+        return chosen;
+    }
+
     /**
      * Loads the {@code AddressBook} from storage.
      * <p>
@@ -88,6 +141,7 @@ public class MainApp extends Application {
                 logger.info("Creating a new data file " + storage.getAddressBookFilePath()
                         + " populated with a sample AddressBook.");
             }
+            isAddressBookLoaded = addressBookOptional.isPresent();
             return addressBookOptional.orElseGet(SampleDataUtil::getSampleAddressBook);
         } catch (DataLoadingException e) {
             logger.warning("Data file at " + storage.getAddressBookFilePath() + " could not be loaded."
@@ -138,9 +192,45 @@ public class MainApp extends Application {
 
         ModelManager modelManager = new ModelManager(initialData, userPrefs);
         modelManager.setCommandHistory(initialHist);
+        restoreUndoHistory(storage, modelManager);
+        if (isAddressBookLoaded) {
+            // the data file already holds the loaded address book, so commands that change nothing write nothing
+            storage.markSaved(modelManager.getAddressBook());
+        }
         return modelManager;
     }
 
+    /**
+     * Restores the undo history of previous sessions into {@code modelManager}. The changes of each version are only
+     * read when it is undone or redone. The events after the last one that matches the loaded address book are
+     * discarded, and so is a history that does not match it at all.
+     */
+    private void restoreUndoHistory(Storage storage, ModelManager modelManager) {
+        try {
+            Optional<List<VersionHistoryEvent>> events = storage.readUndoHistory();
+            if (events.isEmpty()) {
+                return;
+            }
+            int restoredCount = modelManager.restoreVersionHistory(events.get());
+            if (restoredCount == events.get().size()) {
+                return;
+            }
+            if (restoredCount == 0) {
+                logger.warning("Undo history at " + storage.getUndoHistoryFilePath() + " does not match the data file."
+                        + " Will be starting with no undo history.");
+            } else {
+                logger.warning("Undo history at " + storage.getUndoHistoryFilePath() + " goes past the data file."
+                        + " Will be dropping its last " + (events.get().size() - restoredCount) + " entries.");
+            }
+            // rewrite the log, so that the dropped entries are not replayed before the entries of this session
+            storage.clearUndoHistory();
+            storage.appendUndoHistory(events.get().subList(0, restoredCount));
+        } catch (IOException e) {
+            logger.warning("Undo history at " + storage.getUndoHistoryFilePath() + " could not be loaded."
+                    + " Will be starting with no undo history.");
+        }
+    }
+
     private void initLogging(Config config) {
         LogsCenter.init(config);
     }
@@ -230,5 +320,15 @@ public class MainApp extends Application {
         } catch (IOException e) {
             logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
         }
+        try {
+            storage.saveCommandHistory(model.getHistory());
+        } catch (IOException e) {
+            logger.severe("Failed to save command history " + StringUtil.getDetails(e));
+        }
+        try {
+            storage.flush();
+        } catch (IOException e) {
+            logger.severe("Failed to save data " + StringUtil.getDetails(e));
+        }
     }
 }
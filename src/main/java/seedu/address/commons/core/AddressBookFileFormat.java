@@ -0,0 +1,11 @@
+package seedu.address.commons.core;
+
+/**
+ * The format in which the address book is kept on disk.
+ */
+public enum AddressBookFileFormat {
+    /** A human-readable json file, which can also be edited by hand or used to export the data. */
+    JSON,
+    /** A compact binary snapshot next to the json file, which is much faster to load and save. */
+    BINARY
+}
@@ -0,0 +1,19 @@
+package seedu.address.commons.core;
+
+/**
+ * How the address book is written to disk after each command.
+ */
+public enum AddressBookSaveMode {
+    /** Rewrites the whole data file after every command. */
+    FULL,
+    /**
+     * Appends only the changed persons to a journal next to the data file, and rewrites the data file as a
+     * checkpoint every so often.
+     */
+    WRITE_AHEAD_LOG,
+    /**
+     * Splits the persons among segment files in a directory next to the data file, and rewrites only the segments
+     * holding changed persons.
+     */
+    SEGMENTED
+}
@@ -17,6 +17,9 @@ public class Config {
     // Config values customizable through config file
     private Level logLevel = Level.INFO;
     private Path userPrefsFilePath = Paths.get("preferences.json");
+    private boolean syncFileWrites = true;
+    private boolean prettyPrintDataFile = true;
+    private boolean parallelDataLoading = true;
 
     public Level getLogLevel() {
         return logLevel;
@@ -34,6 +37,30 @@ public class Config {
         this.userPrefsFilePath = userPrefsFilePath;
     }
 
+    public boolean isSyncFileWrites() {
+        return syncFileWrites;
+    }
+
+    public void setSyncFileWrites(boolean syncFileWrites) {
+        this.syncFileWrites = syncFileWrites;
+    }
+
+    public boolean isPrettyPrintDataFile() {
+        return prettyPrintDataFile;
+    }
+
+    public void setPrettyPrintDataFile(boolean prettyPrintDataFile) {
+        this.prettyPrintDataFile = prettyPrintDataFile;
+    }
+
+    public boolean isParallelDataLoading() {
+        return parallelDataLoading;
+    }
+
+    public void setParallelDataLoading(boolean parallelDataLoading) {
+        this.parallelDataLoading = parallelDataLoading;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -47,12 +74,16 @@ public class Config {
 
         Config otherConfig = (Config) other;
         return Objects.equals(logLevel, otherConfig.logLevel)
-                && Objects.equals(userPrefsFilePath, otherConfig.userPrefsFilePath);
+                && Objects.equals(userPrefsFilePath, otherConfig.userPrefsFilePath)
+                && syncFileWrites == otherConfig.syncFileWrites
+                && prettyPrintDataFile == otherConfig.prettyPrintDataFile
+                && parallelDataLoading == otherConfig.parallelDataLoading;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(logLevel, userPrefsFilePath);
+        return Objects.hash(logLevel, userPrefsFilePath, syncFileWrites, prettyPrintDataFile,
+                parallelDataLoading);
     }
 
     @Override
@@ -60,6 +91,9 @@ public class Config {
         return new ToStringBuilder(this)
                 .add("logLevel", logLevel)
                 .add("userPrefsFilePath", userPrefsFilePath)
+                .add("syncFileWrites", syncFileWrites)
+                .add("prettyPrintDataFile", prettyPrintDataFile)
+                .add("parallelDataLoading", parallelDataLoading)
                 .toString();
     }
 
@@ -1,10 +1,17 @@
 package seedu.address.commons.util;
 
+import java.io.BufferedOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 
 /**
  * Writes and reads files
@@ -12,6 +19,10 @@ import java.nio.file.Paths;
 public class FileUtil {
 
     private static final String CHARSET = "UTF-8";
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
+    private static final int WRITE_BUFFER_SIZE = 64 * 1024;
+
+    private static volatile boolean isSyncOnWrite = true;
 
     public static boolean isFileExists(Path file) {
         return Files.exists(file) && Files.isRegularFile(file);
@@ -80,4 +91,106 @@ public class FileUtil {
         Files.write(file, content.getBytes(CHARSET));
     }
 
+    public static boolean isSyncOnWrite() {
+        return isSyncOnWrite;
+    }
+
+    /**
+     * Sets whether {@link #writeToFileAtomically(Path, String)} waits for written data to reach the disk.
+     * Turning this off trades durability on power loss for faster saves; writes stay atomic either way.
+     */
+    public static void setSyncOnWrite(boolean isSyncOnWrite) {
+        FileUtil.isSyncOnWrite = isSyncOnWrite;
+    }
+
+    /**
+     * Replaces the contents of {@code file} with {@code content}, creating the file and its missing parent
+     * directories if needed. Waits for the data to reach the disk if {@link #isSyncOnWrite()}.
+     *
+     * @see #writeToFileAtomically(Path, String, boolean)
+     */
+    public static void writeToFileAtomically(Path file, String content) throws IOException {
+        writeToFileAtomically(file, content, isSyncOnWrite);
+    }
+
+    /**
+     * Similar to {@link #writeToFileAtomically(Path, ContentWriter, boolean)}, writing {@code content}.
+     */
+    public static void writeToFileAtomically(Path file, String content, boolean isSynced) throws IOException {
+        byte[] bytes = content.getBytes(CHARSET);
+        writeToFileAtomically(file, out -> out.write(bytes), isSynced);
+    }
+
+    /**
+     * Replaces the contents of {@code file} with what {@code contentWriter} writes, creating the file and its missing
+     * parent directories if needed. Waits for the data to reach the disk if {@link #isSyncOnWrite()}.
+     *
+     * @see #writeToFileAtomically(Path, ContentWriter, boolean)
+     */
+    public static void writeToFileAtomically(Path file, ContentWriter contentWriter) throws IOException {
+        writeToFileAtomically(file, contentWriter, isSyncOnWrite);
+    }
+
+    /**
+     * Replaces the contents of {@code file} with what {@code contentWriter} writes through a buffered stream,
+     * creating the file and its missing parent directories if needed.
+     * The content is written to a temporary file next to {@code file}, which is then moved over it, so a crash or a
+     * failing {@code contentWriter} leaves either the old or the new contents but never a truncated file.
+     * If {@code isSynced}, the data and the move are forced to the disk before returning.
+     */
+    public static void writeToFileAtomically(Path file, ContentWriter contentWriter, boolean isSynced)
+            throws IOException {
+        createParentDirsOfFile(file);
+        Path tempFile = file.resolveSibling(file.getFileName() + TEMP_FILE_SUFFIX);
+        try {
+            try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.CREATE,
+                    StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                OutputStream out = new BufferedOutputStream(Channels.newOutputStream(channel), WRITE_BUFFER_SIZE);
+                contentWriter.writeTo(out);
+                out.flush();
+                if (isSynced) {
+                    channel.force(false);
+                }
+            }
+            move(tempFile, file);
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+
+        if (isSynced) {
+            syncDirectory(file.toAbsolutePath().getParent());
+        }
+    }
+
+    /**
+     * Writes the contents of a file to a stream.
+     */
+    @FunctionalInterface
+    public interface ContentWriter {
+        /**
+         * Writes the contents to {@code out}, without closing it.
+         */
+        void writeTo(OutputStream out) throws IOException;
+    }
+
+    private static void move(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Forces the entries of {@code directory} to the disk, so that a file moved into it survives a power loss.
+     * Does nothing on platforms that cannot open directories, such as Windows.
+     */
+    private static void syncDirectory(Path directory) {
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            // the move itself has still completed
+        }
+    }
+
 }
@@ -0,0 +1,65 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Validators for the simple character-class patterns that model values are checked against.
+ * <p>
+ * Each validator scans the string once without allocating, and accepts exactly the strings matched by the regex in
+ * its description, so that values can be validated without matching a regex for every field of every person.
+ * Alphanumeric characters are the ASCII letters and digits, as in the regex class {@code \p{Alnum}}.
+ */
+public class ValidationUtil {
+
+    /**
+     * Returns true if {@code c} is an ASCII letter or digit.
+     */
+    public static boolean isAlphanumeric(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9');
+    }
+
+    /**
+     * Returns true if {@code test} starts with an alphanumeric character followed by any number of alphanumeric
+     * characters or characters in {@code symbols}, like the regex {@code [\p{Alnum}][\p{Alnum}<symbols>]*}.
+     */
+    public static boolean isAlphanumericWord(String test, String symbols) {
+        requireNonNull(test);
+        if (test.isEmpty() || !isAlphanumeric(test.charAt(0))) {
+            return false;
+        }
+        for (int i = 1; i < test.length(); i++) {
+            char c = test.charAt(i);
+            if (!isAlphanumeric(c) && symbols.indexOf(c) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if {@code test} consists of at least {@code minLength} ASCII digits and nothing else, like the regex
+     * {@code \d{minLength,}}.
+     */
+    public static boolean isDigits(String test, int minLength) {
+        requireNonNull(test);
+        if (test.length() < minLength) {
+            return false;
+        }
+        for (int i = 0; i < test.length(); i++) {
+            char c = test.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if {@code test} is a single character from {@code first} to {@code last}, like the regex
+     * {@code [<first>-<last>]}.
+     */
+    public static boolean isCharInRange(String test, char first, char last) {
+        requireNonNull(test);
+        return test.length() == 1 && test.charAt(0) >= first && test.charAt(0) <= last;
+    }
+}
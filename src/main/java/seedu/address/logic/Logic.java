@@ -1,6 +1,8 @@
 package seedu.address.logic;
 
 import java.nio.file.Path;
+import java.util.Optional;
+import java.util.function.Consumer;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
@@ -57,4 +59,22 @@ public interface Logic {
      * Returns the next command in history, or null if at the end.
      */
     String getNextCommand();
+
+    /**
+     * Returns the latest command in history containing {@code query}, ignoring case, starting from the command last
+     * returned, or {@code Optional.empty()} if there is none.
+     */
+    Optional<String> searchCommand(String query);
+
+    /**
+     * Returns the latest command in history containing {@code query}, ignoring case, that is older than the command
+     * last returned, or {@code Optional.empty()} if there is none.
+     */
+    Optional<String> searchOlderCommand(String query);
+
+    /**
+     * Sets the handler to be called with an error message when data fails to save after a command has returned.
+     * The handler may be called from a background thread.
+     */
+    void setSaveFailureHandler(Consumer<String> saveFailureHandler);
 }
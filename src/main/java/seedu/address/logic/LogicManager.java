@@ -1,8 +1,12 @@
 package seedu.address.logic;
 
+import static java.util.Objects.requireNonNull;
+
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
@@ -54,16 +58,6 @@ public class LogicManager implements Logic {
         Command command = addressBookParser.parseCommand(commandText);
         commandResult = command.execute(model);
 
-        try {
-            storage.saveAddressBook(model.getAddressBook());
-            storage.saveCommandHistory(model.getHistory());
-
-        } catch (AccessDeniedException e) {
-            throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
-        } catch (IOException ioe) {
-            throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
-        }
-
         // If the executed command is a mutating command,
         // commit the current state of the address book to the versioned history.
         // This ensures that undo/redo operations will work correctly
@@ -71,9 +65,32 @@ public class LogicManager implements Logic {
             model.commit();
         }
 
+        // Commands that left the address book unchanged write nothing; the command history is saved with the next
+        // change or when the app stops
+        if (!storage.hasUnsavedChanges(model.getAddressBook())) {
+            return commandResult;
+        }
+
+        try {
+            // The undo log is written first, so that a crash before the address book is saved leaves a log that
+            // does not match the data file, which is then discarded on the next start
+            storage.appendUndoHistory(model.takeUnsavedHistoryEvents());
+            storage.saveAddressBook(model.getAddressBook(), model.takeUnsavedChanges());
+            storage.saveCommandHistory(model.getHistory());
+
+        } catch (IOException ioe) {
+            throw new CommandException(getSaveFailureMessage(ioe), ioe);
+        }
+
         return commandResult;
     }
 
+    private static String getSaveFailureMessage(IOException ioe) {
+        return ioe instanceof AccessDeniedException
+                ? String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, ioe.getMessage())
+                : String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage());
+    }
+
     @Override
     public ReadOnlyAddressBook getAddressBook() {
         return model.getAddressBook();
@@ -108,4 +125,20 @@ public class LogicManager implements Logic {
     public String getNextCommand() {
         return model.nextCommand();
     }
+
+    @Override
+    public Optional<String> searchCommand(String query) {
+        return model.searchCommand(query);
+    }
+
+    @Override
+    public Optional<String> searchOlderCommand(String query) {
+        return model.searchOlderCommand(query);
+    }
+
+    @Override
+    public void setSaveFailureHandler(Consumer<String> saveFailureHandler) {
+        requireNonNull(saveFailureHandler);
+        storage.setSaveFailureHandler(ioe -> saveFailureHandler.accept(getSaveFailureMessage(ioe)));
+    }
 }
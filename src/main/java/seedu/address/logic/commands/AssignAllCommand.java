@@ -67,12 +67,7 @@ public class AssignAllCommand extends Command {
         logger.info("Executing AssignAllCommand for class group: " + classGroupName
                 + ", assignment: " + assignment.getAssignmentName());
 
-        List<Person> fullList = model.getAddressBook().getPersonList();
-
-        // Filter students who have the specified class group
-        List<Person> studentsInClass = fullList.stream()
-                .filter(person -> hasClassGroup(person, classGroupName))
-                .collect(Collectors.toList());
+        List<Person> studentsInClass = model.getPersonsInClassGroup(classGroupName);
 
         logger.fine(() -> String.format("Found %d student(s) in class group '%s'",
                 studentsInClass.size(), classGroupName));
@@ -124,19 +119,6 @@ public class AssignAllCommand extends Command {
                 assignment.getAssignmentName(), assignedCount, classGroupName));
     }
 
-    /**
-     * Checks if the person has a class group with the specified name.
-     *
-     * @param person The person to check.
-     * @param classGroupName The name of the class group to look for.
-     * @return true if the person has a class group with the specified name, false otherwise.
-     */
-    private boolean hasClassGroup(Person person, String classGroupName) {
-        return person.getClassGroups().stream()
-                .map(ClassGroup::getClassGroupName)
-                .anyMatch(name -> name.equalsIgnoreCase(classGroupName));
-    }
-
     /**
      * Creates and returns a {@code Person} with the assignment added to their existing assignments.
      *
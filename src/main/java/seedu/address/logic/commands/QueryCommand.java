@@ -0,0 +1,75 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ASSIGNMENT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_CLASSGROUP;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_LEVEL;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.Messages;
+import seedu.address.model.Model;
+import seedu.address.model.query.PersonQuery;
+
+/**
+ * Finds and lists all persons in address book matching a query that combines conditions on their fields with
+ * {@code and}, {@code or} and {@code not}.
+ */
+public class QueryCommand extends Command {
+
+    public static final String COMMAND_WORD = "query";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all students matching the conditions "
+            + "combined with and, or, not and parentheses, and displays them as a list with index numbers.\n"
+            + "Conditions: " + PREFIX_NAME + "KEYWORD [MORE_KEYWORDS]... " + PREFIX_PHONE + "PHONE "
+            + PREFIX_LEVEL + "LEVEL " + PREFIX_CLASSGROUP + "CLASS "
+            + PREFIX_ASSIGNMENT + "CLASS/ASSIGNMENT[/marked or /unmarked]\n"
+            + "Example: " + COMMAND_WORD + " " + PREFIX_CLASSGROUP + "Math-1000 and not ("
+            + PREFIX_ASSIGNMENT + "Math-1000/Homework1/marked or " + PREFIX_LEVEL + "3)";
+
+    private final PersonQuery query;
+
+    /**
+     * Creates a QueryCommand to filter the person list by {@code query}.
+     */
+    public QueryCommand(PersonQuery query) {
+        requireNonNull(query);
+        this.query = query;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        model.updateFilteredPersonList(query);
+        return new CommandResult(
+                String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size()));
+    }
+
+    @Override
+    public String getCommandWord() {
+        return COMMAND_WORD;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof QueryCommand)) {
+            return false;
+        }
+
+        QueryCommand otherQueryCommand = (QueryCommand) other;
+        return query.equals(otherQueryCommand.query);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("query", query)
+                .toString();
+    }
+}
@@ -71,12 +71,7 @@ public class UnassignAllCommand extends Command {
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
-        List<Person> fullList = model.getAddressBook().getPersonList();
-
-        // Filter students who have the specified class group
-        List<Person> studentsInClass = fullList.stream()
-                .filter(person -> hasClassGroup(person, classGroupName))
-                .collect(Collectors.toList());
+        List<Person> studentsInClass = model.getPersonsInClassGroup(classGroupName);
 
         if (studentsInClass.isEmpty()) {
             throw new CommandException(String.format(MESSAGE_CLASS_NOT_EXIST,
@@ -109,20 +104,6 @@ public class UnassignAllCommand extends Command {
                 assignment.getAssignmentName(), unassignedCount, classGroupName));
     }
 
-    /**
-     * Checks if the person has a class group with the specified name.
-     * The comparison is case-insensitive.
-     *
-     * @param person The person to check. Must not be null.
-     * @param classGroupName The name of the class group to look for. Must not be null.
-     * @return true if the person has a class group with the specified name (case-insensitive), false otherwise.
-     */
-    private boolean hasClassGroup(Person person, String classGroupName) {
-        return person.getClassGroups().stream()
-                .map(ClassGroup::getClassGroupName)
-                .anyMatch(name -> name.equalsIgnoreCase(classGroupName));
-    }
-
     /**
      * Creates and returns a {@code Person} with the assignment removed from their existing assignments.
      * All other fields (name, phone, level, class groups) remain unchanged.
@@ -24,6 +24,7 @@ import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.commands.MarkAssignmentCommand;
+import seedu.address.logic.commands.QueryCommand;
 import seedu.address.logic.commands.RedoCommand;
 import seedu.address.logic.commands.UnassignAllCommand;
 import seedu.address.logic.commands.UndoCommand;
@@ -105,6 +106,9 @@ public class AddressBookParser {
         case FilterByClassGroupCommand.COMMAND_WORD:
             return new FilterByClassGroupCommandParser().parse(arguments);
 
+        case QueryCommand.COMMAND_WORD:
+            return new QueryCommandParser().parse(arguments);
+
         case MarkAssignmentCommand.COMMAND_WORD:
             return new MarkAssignmentCommandParser().parse(arguments);
 
@@ -216,7 +216,7 @@ public class ParserUtil {
         if (!ClassGroup.isValidClassGroupName(trimmedClassGroup)) {
             throw new ParseException(ClassGroup.MESSAGE_CONSTRAINTS);
         }
-        return new ClassGroup(trimmedClassGroup);
+        return ClassGroup.of(trimmedClassGroup);
     }
 
     /**
@@ -250,7 +250,7 @@ public class ParserUtil {
             // Invalid class group name
             throw new ParseException(ClassGroup.MESSAGE_CONSTRAINTS);
         }
-        return new Assignment(trimmedAssignment, trimmedClassGroupName);
+        return Assignment.of(trimmedAssignment, trimmedClassGroupName, false);
     }
 
     /**
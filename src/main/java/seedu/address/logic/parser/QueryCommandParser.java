@@ -0,0 +1,208 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ASSIGNMENT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_CLASSGROUP;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_LEVEL;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import seedu.address.logic.commands.QueryCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.assignment.Assignment;
+import seedu.address.model.query.AndQuery;
+import seedu.address.model.query.AssignmentQuery;
+import seedu.address.model.query.ClassGroupQuery;
+import seedu.address.model.query.LevelQuery;
+import seedu.address.model.query.NameQuery;
+import seedu.address.model.query.NotQuery;
+import seedu.address.model.query.OrQuery;
+import seedu.address.model.query.PersonQuery;
+import seedu.address.model.query.PhoneQuery;
+
+/**
+ * Parses input arguments and creates a new {@link QueryCommand} object.
+ * <p>
+ * A query is made of conditions, each a prefix followed by a value, combined with {@code not}, {@code and} and
+ * {@code or} in that order of precedence, and grouped with parentheses. Conditions next to each other without an
+ * operator are combined with {@code and}. A value runs until the next operator, parenthesis or prefix.
+ */
+public class QueryCommandParser implements Parser<QueryCommand> {
+
+    private static final String AND = "and";
+    private static final String OR = "or";
+    private static final String NOT = "not";
+    private static final String OPEN = "(";
+    private static final String CLOSE = ")";
+    private static final String MARKED = "marked";
+    private static final String UNMARKED = "unmarked";
+    private static final String ASSIGNMENT_SEPARATOR = "/";
+    private static final Prefix[] CONDITION_PREFIXES = {
+        PREFIX_NAME, PREFIX_PHONE, PREFIX_LEVEL, PREFIX_CLASSGROUP, PREFIX_ASSIGNMENT
+    };
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the QueryCommand
+     * and returns a QueryCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public QueryCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        Tokens tokens = new Tokens(args.replace(OPEN, " " + OPEN + " ").replace(CLOSE, " " + CLOSE + " "));
+        if (!tokens.hasNext()) {
+            throw invalidFormat();
+        }
+        PersonQuery query = parseOr(tokens);
+        if (tokens.hasNext()) {
+            // an unmatched closing parenthesis
+            throw invalidFormat();
+        }
+        return new QueryCommand(query);
+    }
+
+    private static PersonQuery parseOr(Tokens tokens) throws ParseException {
+        List<PersonQuery> queries = new ArrayList<>();
+        queries.add(parseAnd(tokens));
+        while (tokens.nextIs(OR)) {
+            tokens.next();
+            queries.add(parseAnd(tokens));
+        }
+        return queries.size() == 1 ? queries.get(0) : new OrQuery(queries);
+    }
+
+    private static PersonQuery parseAnd(Tokens tokens) throws ParseException {
+        List<PersonQuery> queries = new ArrayList<>();
+        queries.add(parseNot(tokens));
+        while (tokens.hasNext() && !tokens.nextIs(OR) && !tokens.nextIs(CLOSE)) {
+            if (tokens.nextIs(AND)) {
+                tokens.next();
+            }
+            queries.add(parseNot(tokens));
+        }
+        return queries.size() == 1 ? queries.get(0) : new AndQuery(queries);
+    }
+
+    private static PersonQuery parseNot(Tokens tokens) throws ParseException {
+        if (!tokens.hasNext()) {
+            throw invalidFormat();
+        }
+        if (tokens.nextIs(NOT)) {
+            tokens.next();
+            return new NotQuery(parseNot(tokens));
+        }
+        if (tokens.nextIs(OPEN)) {
+            tokens.next();
+            PersonQuery query = parseOr(tokens);
+            if (!tokens.nextIs(CLOSE)) {
+                throw invalidFormat();
+            }
+            tokens.next();
+            return query;
+        }
+        return parseCondition(tokens);
+    }
+
+    private static PersonQuery parseCondition(Tokens tokens) throws ParseException {
+        String token = tokens.next();
+        Prefix prefix = getPrefix(token);
+        if (prefix == null) {
+            throw invalidFormat();
+        }
+        List<String> words = new ArrayList<>();
+        words.add(token.substring(prefix.getPrefix().length()));
+        while (tokens.hasNext() && !isOperator(tokens.peek()) && getPrefix(tokens.peek()) == null) {
+            words.add(tokens.next());
+        }
+        String value = String.join(" ", words).trim();
+
+        if (prefix.equals(PREFIX_NAME)) {
+            if (value.isEmpty()) {
+                throw invalidFormat();
+            }
+            return new NameQuery(Arrays.asList(value.split("\\s+")));
+        } else if (prefix.equals(PREFIX_PHONE)) {
+            return new PhoneQuery(ParserUtil.parsePhone(value));
+        } else if (prefix.equals(PREFIX_LEVEL)) {
+            return new LevelQuery(ParserUtil.parseLevel(value));
+        } else if (prefix.equals(PREFIX_CLASSGROUP)) {
+            return new ClassGroupQuery(ParserUtil.parseClassGroup(value).getClassGroupName());
+        } else {
+            return parseAssignmentCondition(value);
+        }
+    }
+
+    /**
+     * Parses {@code value} of the form {@code CLASS/ASSIGNMENT}, optionally followed by {@code /marked} or
+     * {@code /unmarked}.
+     */
+    private static PersonQuery parseAssignmentCondition(String value) throws ParseException {
+        String[] parts = value.split(ASSIGNMENT_SEPARATOR, -1);
+        if (parts.length < 2 || parts.length > 3) {
+            throw invalidFormat();
+        }
+        Assignment assignment = ParserUtil.parseAssignment(parts[1], parts[0]);
+        if (parts.length == 2) {
+            return new AssignmentQuery(assignment);
+        }
+        switch (parts[2].trim()) {
+        case MARKED:
+            return new AssignmentQuery(assignment, true);
+        case UNMARKED:
+            return new AssignmentQuery(assignment, false);
+        default:
+            throw invalidFormat();
+        }
+    }
+
+    private static Prefix getPrefix(String token) {
+        for (Prefix prefix : CONDITION_PREFIXES) {
+            if (token.startsWith(prefix.getPrefix())) {
+                return prefix;
+            }
+        }
+        return null;
+    }
+
+    private static boolean isOperator(String token) {
+        return token.equals(AND) || token.equals(OR) || token.equals(NOT) || token.equals(OPEN)
+                || token.equals(CLOSE);
+    }
+
+    private static ParseException invalidFormat() {
+        return new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, QueryCommand.MESSAGE_USAGE));
+    }
+
+    /**
+     * The whitespace-separated tokens of a query, read from the first.
+     */
+    private static class Tokens {
+        private final List<String> tokens;
+        private int position = 0;
+
+        Tokens(String query) {
+            String trimmed = query.trim();
+            tokens = trimmed.isEmpty() ? List.of() : Arrays.asList(trimmed.split("\\s+"));
+        }
+
+        boolean hasNext() {
+            return position < tokens.size();
+        }
+
+        boolean nextIs(String token) {
+            return hasNext() && peek().equals(token);
+        }
+
+        String peek() {
+            return tokens.get(position);
+        }
+
+        String next() {
+            return tokens.get(position++);
+        }
+    }
+}
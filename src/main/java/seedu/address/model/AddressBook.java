@@ -6,6 +6,7 @@ import java.util.List;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.assignment.Assignment;
 import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.Phone;
@@ -18,6 +19,7 @@ import seedu.address.model.person.UniquePersonList;
 public class AddressBook implements ReadOnlyAddressBook {
 
     private final UniquePersonList persons;
+    private long modificationCount = 0;
 
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
@@ -48,15 +50,38 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void setPersons(List<Person> persons) {
         this.persons.setPersons(persons);
+        modificationCount++;
     }
 
     /**
      * Resets the existing data of this {@code AddressBook} with {@code newData}.
+     * If {@code newData} is a snapshot of this address book, only the persons that differ are replaced.
      */
     public void resetData(ReadOnlyAddressBook newData) {
         requireNonNull(newData);
 
-        setPersons(newData.getPersonList());
+        if (newData instanceof AddressBookSnapshot) {
+            persons.restore(((AddressBookSnapshot) newData).getPersons());
+            modificationCount++;
+        } else {
+            setPersons(newData.getPersonList());
+        }
+    }
+
+    /**
+     * Returns an immutable snapshot of the current data of this {@code AddressBook}.
+     * Taking a snapshot is O(1), and snapshots share the storage of persons that did not change between them.
+     */
+    public AddressBookSnapshot snapshot() {
+        return new AddressBookSnapshot(persons.snapshot());
+    }
+
+    /**
+     * Returns a checksum of the persons in this address book, including which assignments are marked.
+     * It is kept up to date as persons change, so getting it takes constant time.
+     */
+    public int getStateChecksum() {
+        return persons.getStateChecksum();
     }
 
     //// person-level operations
@@ -85,12 +110,95 @@ public class AddressBook implements ReadOnlyAddressBook {
         return persons.containsPhone(phone);
     }
 
+    /**
+     * Returns the persons in the class group named {@code classGroupName}, ignoring case, in list order.
+     */
+    public List<Person> getPersonsInClassGroup(String classGroupName) {
+        requireNonNull(classGroupName);
+        return persons.getPersonsInClassGroup(classGroupName);
+    }
+
+    /**
+     * Returns the number of persons in the class group named {@code classGroupName}, ignoring case.
+     */
+    public int countPersonsInClassGroup(String classGroupName) {
+        requireNonNull(classGroupName);
+        return persons.countPersonsInClassGroup(classGroupName);
+    }
+
+    /**
+     * Returns the persons whose names contain {@code word} as a whole word, ignoring case, in list order.
+     */
+    public List<Person> getPersonsWithNameWord(String word) {
+        requireNonNull(word);
+        return persons.getPersonsWithNameWord(word);
+    }
+
+    /**
+     * Returns the number of persons whose names contain {@code word} as a whole word, ignoring case.
+     */
+    public int countPersonsWithNameWord(String word) {
+        requireNonNull(word);
+        return persons.countPersonsWithNameWord(word);
+    }
+
+    /**
+     * Returns the persons who have {@code assignment}, marked or not, in list order.
+     */
+    public List<Person> getPersonsWithAssignment(Assignment assignment) {
+        requireNonNull(assignment);
+        return persons.getPersonsWithAssignment(assignment);
+    }
+
+    /**
+     * Returns the persons who have {@code assignment} and marked it if {@code isMarked}, or have not marked it
+     * otherwise, in list order.
+     */
+    public List<Person> getPersonsWithAssignment(Assignment assignment, boolean isMarked) {
+        requireNonNull(assignment);
+        return persons.getPersonsWithAssignment(assignment, isMarked);
+    }
+
+    /**
+     * Returns the number of persons who have {@code assignment}, marked or not.
+     */
+    public int countPersonsWithAssignment(Assignment assignment) {
+        requireNonNull(assignment);
+        return persons.countPersonsWithAssignment(assignment);
+    }
+
+    /**
+     * Returns the number of persons who have {@code assignment} and marked it if {@code isMarked}, or have not marked
+     * it otherwise.
+     */
+    public int countPersonsWithAssignment(Assignment assignment, boolean isMarked) {
+        requireNonNull(assignment);
+        return persons.countPersonsWithAssignment(assignment, isMarked);
+    }
+
     /**
      * Adds a person to the address book.
      * The person must not already exist in the address book.
      */
     public void addPerson(Person p) {
         persons.add(p);
+        modificationCount++;
+    }
+
+    /**
+     * Inserts a person into the address book at {@code index} of the person list.
+     * The person must not already exist in the address book.
+     */
+    public void addPerson(int index, Person p) {
+        persons.add(index, p);
+        modificationCount++;
+    }
+
+    /**
+     * Returns the position of {@code person} in the person list, or -1 if it is not in the address book.
+     */
+    public int indexOf(Person person) {
+        return persons.indexOf(person);
     }
 
     /**
@@ -102,6 +210,7 @@ public class AddressBook implements ReadOnlyAddressBook {
         requireNonNull(editedPerson);
 
         persons.setPerson(target, editedPerson);
+        modificationCount++;
     }
 
     /**
@@ -110,6 +219,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void removePerson(Person key) {
         persons.remove(key);
+        modificationCount++;
     }
 
     //// util methods
@@ -121,6 +231,11 @@ public class AddressBook implements ReadOnlyAddressBook {
                 .toString();
     }
 
+    @Override
+    public long getModificationCount() {
+        return modificationCount;
+    }
+
     @Override
     public ObservableList<Person> getPersonList() {
         return persons.asUnmodifiableObservableList();
@@ -0,0 +1,128 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.Person;
+import seedu.address.model.versionmanager.PersistentVector;
+import seedu.address.model.versionmanager.PersonChange;
+
+/**
+ * An immutable point-in-time view of an {@code AddressBook}, as returned by {@link AddressBook#snapshot()}.
+ * Snapshots of the same address book share the storage of every person that did not change between them.
+ */
+public class AddressBookSnapshot implements ReadOnlyAddressBook {
+
+    private final PersistentVector<Person> persons;
+
+    AddressBookSnapshot(PersistentVector<Person> persons) {
+        requireNonNull(persons);
+        this.persons = persons;
+    }
+
+    public PersistentVector<Person> getPersons() {
+        return persons;
+    }
+
+    /**
+     * Returns changes that turn this state into {@code other}, in the order they should be applied.
+     * Only the ranges where the two states hold different persons are compared, so this costs time proportional to
+     * the number of persons in such ranges rather than to the size of either state.
+     */
+    public List<PersonChange> changesTo(AddressBookSnapshot other) {
+        requireNonNull(other);
+        PersistentVector<Person> otherPersons = other.persons;
+        List<PersonChange> changes = new ArrayList<>();
+        persons.forEachDifference(otherPersons, (from, removedCount, otherFrom, addedCount) -> {
+            // the ranges before this one have been replaced already, so it now starts where it does in other
+            int editedCount = Math.min(removedCount, addedCount);
+            for (int i = 0; i < editedCount; i++) {
+                changes.add(PersonChange.ofEdit(otherFrom + i, persons.get(from + i), otherPersons.get(otherFrom + i)));
+            }
+            for (int i = removedCount - 1; i >= editedCount; i--) {
+                changes.add(PersonChange.ofRemoval(otherFrom + i, persons.get(from + i)));
+            }
+            for (int i = editedCount; i < addedCount; i++) {
+                changes.add(PersonChange.ofAddition(otherFrom + i, otherPersons.get(otherFrom + i)));
+            }
+        });
+        return changes;
+    }
+
+    /**
+     * Returns a snapshot of this state with {@code changes} applied in order.
+     */
+    public AddressBookSnapshot withChangesApplied(List<PersonChange> changes) {
+        PersistentVector<Person> result = persons;
+        for (PersonChange change : changes) {
+            result = change.apply(result);
+        }
+        return new AddressBookSnapshot(result);
+    }
+
+    /**
+     * Returns a snapshot of this state with {@code changes} reverted in reverse order.
+     */
+    public AddressBookSnapshot withChangesReverted(List<PersonChange> changes) {
+        PersistentVector<Person> result = persons;
+        for (int i = changes.size() - 1; i >= 0; i--) {
+            result = changes.get(i).revert(result);
+        }
+        return new AddressBookSnapshot(result);
+    }
+
+    /**
+     * Returns an unmodifiable list of the persons in this snapshot.
+     * The list is built on every call, so callers that only need to restore the snapshot should pass it to
+     * {@link AddressBook#resetData(ReadOnlyAddressBook)} instead.
+     */
+    @Override
+    public ObservableList<Person> getPersonList() {
+        return FXCollections.unmodifiableObservableList(FXCollections.observableArrayList(persons.toList()));
+    }
+
+    @Override
+    public int size() {
+        return persons.size();
+    }
+
+    /**
+     * Returns 0, as a snapshot never changes.
+     */
+    @Override
+    public long getModificationCount() {
+        return 0;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof AddressBookSnapshot)) {
+            return false;
+        }
+
+        AddressBookSnapshot otherSnapshot = (AddressBookSnapshot) other;
+        return persons.equals(otherSnapshot.persons);
+    }
+
+    @Override
+    public int hashCode() {
+        return persons.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("persons", persons)
+                .toString();
+    }
+}
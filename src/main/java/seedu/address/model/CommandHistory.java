@@ -3,77 +3,211 @@ package seedu.address.model;
 import static java.util.Objects.requireNonNull;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
+import java.util.OptionalInt;
 
 /**
  * Represents the history of commands entered by the user.
  * Supports navigating with up/down like a command line.
+ * <p>
+ * Only the latest {@code maxSize} commands are kept, in a ring buffer, so that adding a command takes constant time
+ * however many commands are kept. The buffer grows as commands are added until it reaches {@code maxSize}.
+ * <p>
+ * Commands can be searched for like Ctrl-R on a command line. The first search builds a {@link CommandHistoryIndex}
+ * of the kept commands, which is then updated as commands are added, so that searches stay fast in long histories.
  */
 public class CommandHistory {
 
-    private static final int MAX_SIZE = 50;
-    private final List<String> history = new ArrayList<>();
-    private int currentIndex;
+    /** Number of commands kept unless another maximum is given. */
+    public static final int DEFAULT_MAX_SIZE = 50;
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final int maxSize;
+    private String[] commands;
+    // Position in commands of the oldest command, which only moves once the buffer is full
+    private int start = 0;
+    private int size = 0;
+    private int currentIndex = 0;
+    private long modificationCount = 0;
+    private long resetModificationCount = 0;
+    // Index of the commands for searching, built on the first search, with the id of the oldest command in it
+    private CommandHistoryIndex index;
+    private int firstId = 0;
 
     /** Initializes empty command history. */
     public CommandHistory() {
-        this.currentIndex = 0;
+        this(DEFAULT_MAX_SIZE);
+    }
+
+    /** Initializes empty command history that keeps at most {@code maxSize} commands. */
+    public CommandHistory(int maxSize) {
+        assert maxSize > 0;
+        this.maxSize = maxSize;
+        this.commands = new String[Math.min(maxSize, INITIAL_CAPACITY)];
     }
 
     /** Initializes command history with a list of commands. */
     public CommandHistory(List<String> initialHistory) {
-        int start = Math.max(0, initialHistory.size() - MAX_SIZE);
-        this.history.addAll(initialHistory.subList(start, initialHistory.size()));
-        this.currentIndex = history.size(); // start after last command
+        this(initialHistory, DEFAULT_MAX_SIZE);
+    }
+
+    /** Initializes command history with the last {@code maxSize} commands of a list of commands. */
+    public CommandHistory(List<String> initialHistory, int maxSize) {
+        this(maxSize);
+        fill(initialHistory);
+    }
+
+    public int getMaxSize() {
+        return maxSize;
     }
 
     /** Adds a command to the history. */
     public void add(String command) {
-        history.add(command);
-        if (history.size() > MAX_SIZE) {
-            history.remove(0);
+        if (index != null && firstId + size == Integer.MAX_VALUE) {
+            // ids are about to run out, so the index is rebuilt with new ones on the next search
+            index = null;
+        }
+        if (index != null) {
+            index.add(firstId + size, command);
+            if (size == maxSize) {
+                index.forget(firstId, get(0));
+                firstId++;
+            }
         }
-        currentIndex = history.size(); // reset index
+        if (size < maxSize) {
+            if (size == commands.length) {
+                commands = Arrays.copyOf(commands, (int) Math.min(maxSize, 2L * commands.length));
+            }
+            commands[size++] = command;
+        } else {
+            commands[start] = command;
+            start = (start + 1) % commands.length;
+        }
+        currentIndex = size; // reset index
+        modificationCount++;
     }
 
     /** Returns the previous command (up arrow). */
     public String previous() {
-        if (history.isEmpty()) {
+        if (size == 0) {
             return "";
         }
         if (currentIndex > 0) {
             currentIndex--;
         }
-        return history.get(currentIndex);
+        return get(currentIndex);
     }
 
     /** Returns the next command (down arrow). */
     public String next() {
-        if (history.isEmpty()) {
+        if (size == 0) {
             return "";
         }
-        if (currentIndex < history.size() - 1) {
+        if (currentIndex < size - 1) {
             currentIndex++;
-            return history.get(currentIndex);
+            return get(currentIndex);
         } else {
-            currentIndex = history.size();
+            currentIndex = size;
             return ""; // empty when past last command
         }
     }
 
+    /**
+     * Returns the latest command containing {@code query}, ignoring case, starting from the command last returned by
+     * navigating or searching, and moves to it. Returns {@code Optional.empty()} without moving if there is none.
+     */
+    public Optional<String> search(String query) {
+        return searchFrom(query, Math.min(currentIndex, size - 1));
+    }
+
+    /**
+     * Returns the latest command containing {@code query}, ignoring case, that is older than the command last returned
+     * by navigating or searching, and moves to it. Returns {@code Optional.empty()} without moving if there is none.
+     */
+    public Optional<String> searchOlder(String query) {
+        return searchFrom(query, currentIndex - 1);
+    }
+
+    private Optional<String> searchFrom(String query, int lastIndex) {
+        requireNonNull(query);
+        if (lastIndex < 0) {
+            return Optional.empty();
+        }
+        if (index == null) {
+            buildIndex();
+        }
+        OptionalInt found = index.findLatest(query, firstId, firstId + lastIndex, id -> get(id - firstId));
+        if (found.isEmpty()) {
+            return Optional.empty();
+        }
+        currentIndex = found.getAsInt() - firstId;
+        return Optional.of(get(currentIndex));
+    }
+
+    private void buildIndex() {
+        index = new CommandHistoryIndex();
+        firstId = 0;
+        for (int i = 0; i < size; i++) {
+            index.add(i, get(i));
+        }
+    }
+
     /** Returns all commands in history (copy to prevent external modification). */
     public List<String> getHistory() {
-        return new ArrayList<>(history);
+        return getLast(size);
     }
 
     /** Resets history with new data, resets index. */
     public void resetHistory(CommandHistory newData) {
         requireNonNull(newData);
-        history.clear();
-        history.addAll(newData.getHistory());
-        currentIndex = history.size(); // reset index
+        fill(newData.getHistory());
     }
-}
 
+    /**
+     * Returns the number of times commands were added to or reset in this history.
+     */
+    public long getModificationCount() {
+        return modificationCount;
+    }
 
+    /**
+     * Returns the commands added since this history had {@code modificationCount} modifications, oldest first, so
+     * that storages can save only those. Returns {@code Optional.empty()} if the history was reset since then or some
+     * of those commands are no longer kept.
+     */
+    public Optional<List<String>> getCommandsAddedSince(long modificationCount) {
+        long addedCount = this.modificationCount - modificationCount;
+        if (modificationCount < resetModificationCount || addedCount < 0 || addedCount > size) {
+            return Optional.empty();
+        }
+        return Optional.of(getLast((int) addedCount));
+    }
 
+    private void fill(List<String> newHistory) {
+        commands = new String[Math.min(maxSize, Math.max(INITIAL_CAPACITY, newHistory.size()))];
+        start = 0;
+        size = 0;
+        for (String command : newHistory.subList(Math.max(0, newHistory.size() - maxSize), newHistory.size())) {
+            commands[size++] = command;
+        }
+        currentIndex = size; // start after last command
+        index = null;
+        modificationCount++;
+        resetModificationCount = modificationCount;
+    }
+
+    private String get(int index) {
+        return commands[(start + index) % commands.length];
+    }
+
+    private List<String> getLast(int count) {
+        List<String> last = new ArrayList<>(count);
+        for (int i = size - count; i < size; i++) {
+            last.add(get(i));
+        }
+        return last;
+    }
+}
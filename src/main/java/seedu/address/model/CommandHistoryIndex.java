@@ -0,0 +1,172 @@
+package seedu.address.model;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.OptionalInt;
+import java.util.function.IntFunction;
+
+/**
+ * An index of the trigrams (runs of three characters) in the commands of a {@link CommandHistory}, which finds the
+ * latest command containing a query, ignoring case, by checking only the commands that contain every trigram of the
+ * query.
+ * <p>
+ * Commands are identified by ids that increase by one with each command added. Only the oldest command can be
+ * forgotten, so the ids of the commands containing a trigram are kept in increasing order and the id of a forgotten
+ * command is always the first of its trigrams.
+ */
+class CommandHistoryIndex {
+
+    static final int GRAM_LENGTH = 3;
+
+    private final Map<Long, Postings> postings = new HashMap<>();
+
+    /** Indexes {@code command} under {@code id}, which must be greater than the ids of all indexed commands. */
+    void add(int id, String command) {
+        for (long gram : getGrams(command)) {
+            postings.computeIfAbsent(gram, unused -> new Postings()).add(id);
+        }
+    }
+
+    /** Forgets {@code command}, which must be the oldest indexed command and indexed under {@code id}. */
+    void forget(int id, String command) {
+        for (long gram : getGrams(command)) {
+            Postings ids = postings.get(gram);
+            assert ids != null && ids.get(0) == id;
+            ids.removeFirst();
+            if (ids.size() == 0) {
+                postings.remove(gram);
+            }
+        }
+    }
+
+    /**
+     * Returns the id of the latest command with an id of at most {@code maxId} that contains {@code query}, ignoring
+     * case, looking up indexed commands with {@code commandOf}.
+     * Queries shorter than a trigram are found by checking the commands from the latest.
+     */
+    OptionalInt findLatest(String query, int minId, int maxId, IntFunction<String> commandOf) {
+        if (query.length() < GRAM_LENGTH) {
+            for (int id = maxId; id >= minId; id--) {
+                if (containsIgnoreCase(commandOf.apply(id), query)) {
+                    return OptionalInt.of(id);
+                }
+            }
+            return OptionalInt.empty();
+        }
+
+        long[] grams = getGrams(query);
+        Postings[] lists = new Postings[grams.length];
+        int rarest = 0;
+        for (int i = 0; i < grams.length; i++) {
+            lists[i] = postings.get(grams[i]);
+            if (lists[i] == null) {
+                return OptionalInt.empty();
+            }
+            if (lists[i].size() < lists[rarest].size()) {
+                rarest = i;
+            }
+        }
+
+        Postings candidates = lists[rarest];
+        for (int i = candidates.indexAfter(maxId) - 1; i >= 0; i--) {
+            int id = candidates.get(i);
+            if (id < minId) {
+                break;
+            }
+            if (containsAll(lists, id) && containsIgnoreCase(commandOf.apply(id), query)) {
+                return OptionalInt.of(id);
+            }
+        }
+        return OptionalInt.empty();
+    }
+
+    private static boolean containsAll(Postings[] lists, int id) {
+        for (Postings ids : lists) {
+            if (!ids.contains(id)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean containsIgnoreCase(String command, String query) {
+        for (int i = 0; i + query.length() <= command.length(); i++) {
+            if (command.regionMatches(true, i, query, 0, query.length())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the distinct trigrams of {@code text}, each packed into a long after folding its case the way
+     * {@link String#regionMatches(boolean, int, String, int, int)} does, so that no match is missed.
+     */
+    private static long[] getGrams(String text) {
+        if (text.length() < GRAM_LENGTH) {
+            return new long[0];
+        }
+        long[] grams = new long[text.length() - GRAM_LENGTH + 1];
+        for (int i = 0; i < grams.length; i++) {
+            long gram = 0;
+            for (int j = i; j < i + GRAM_LENGTH; j++) {
+                gram = (gram << Character.SIZE) | Character.toLowerCase(Character.toUpperCase(text.charAt(j)));
+            }
+            grams[i] = gram;
+        }
+        Arrays.sort(grams);
+        int count = 0;
+        for (int i = 0; i < grams.length; i++) {
+            if (i == 0 || grams[i] != grams[i - 1]) {
+                grams[count++] = grams[i];
+            }
+        }
+        return Arrays.copyOf(grams, count);
+    }
+
+    /**
+     * The ids of the commands containing a trigram, in increasing order, which can be removed from the front.
+     */
+    private static class Postings {
+        private int[] ids = new int[2];
+        private int start = 0;
+        private int end = 0;
+
+        int size() {
+            return end - start;
+        }
+
+        int get(int index) {
+            return ids[start + index];
+        }
+
+        void add(int id) {
+            if (end == ids.length) {
+                if (size() * 2 <= ids.length) {
+                    // enough room once the removed ids are dropped
+                    System.arraycopy(ids, start, ids, 0, size());
+                } else {
+                    ids = Arrays.copyOfRange(ids, start, start + 2 * ids.length);
+                }
+                end -= start;
+                start = 0;
+            }
+            ids[end++] = id;
+        }
+
+        void removeFirst() {
+            start++;
+        }
+
+        /** Returns the index of the first id greater than {@code id}. */
+        int indexAfter(int id) {
+            int index = Arrays.binarySearch(ids, start, end, id);
+            return (index >= 0 ? index + 1 : -index - 1) - start;
+        }
+
+        boolean contains(int id) {
+            return Arrays.binarySearch(ids, start, end, id) >= 0;
+        }
+    }
+}
@@ -1,13 +1,18 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.model.assignment.Assignment;
 import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.Phone;
+import seedu.address.model.versionmanager.PersonChange;
+import seedu.address.model.versionmanager.VersionHistoryEvent;
 
 /**
  * The API of the Model component.
@@ -69,6 +74,24 @@ public interface Model {
      */
     boolean hasPhone(Phone phone);
 
+    /**
+     * Returns the persons in the address book in the class group named {@code classGroupName}, ignoring case, in the
+     * order of the address book.
+     */
+    List<Person> getPersonsInClassGroup(String classGroupName);
+
+    /**
+     * Returns the persons in the address book who have {@code assignment}, marked or not, in the order of the address
+     * book.
+     */
+    List<Person> getPersonsWithAssignment(Assignment assignment);
+
+    /**
+     * Returns the persons in the address book who have {@code assignment} and marked it if {@code isMarked}, or have
+     * not marked it otherwise, in the order of the address book.
+     */
+    List<Person> getPersonsWithAssignment(Assignment assignment, boolean isMarked);
+
     /**
      * Deletes the given person.
      * The person must exist in the address book.
@@ -113,6 +136,18 @@ public interface Model {
      */
     void redo();
 
+    /**
+     * Returns the changes made to the address book since the last call, in order, so that storages that keep a
+     * log of changes can save only those, and forgets them.
+     */
+    List<PersonChange> takeUnsavedChanges();
+
+    /**
+     * Returns the version history events since the last call, so that they can be appended to the undo log,
+     * and forgets them.
+     */
+    List<VersionHistoryEvent> takeUnsavedHistoryEvents();
+
     /** Injects an instance of Command History to model */
     void setCommandHistory(CommandHistory commandHistory);
 
@@ -125,6 +160,18 @@ public interface Model {
     /** Get next command from Command History*/
     String nextCommand();
 
+    /**
+     * Returns the latest command in history containing {@code query}, ignoring case, starting from the command last
+     * returned, or {@code Optional.empty()} if there is none.
+     */
+    Optional<String> searchCommand(String query);
+
+    /**
+     * Returns the latest command in history containing {@code query}, ignoring case, that is older than the command
+     * last returned, or {@code Optional.empty()} if there is none.
+     */
+    Optional<String> searchOlderCommand(String query);
+
     /** Returns the Command History */
     CommandHistory getHistory();
 }
@@ -4,17 +4,28 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
-import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.assignment.Assignment;
 import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.Phone;
+import seedu.address.model.person.StudentInClassGroupPredicate;
+import seedu.address.model.query.PersonQuery;
+import seedu.address.model.versionmanager.AddressBookChangeJournal;
 import seedu.address.model.versionmanager.AddressBookVersionManager;
+import seedu.address.model.versionmanager.PersonChange;
+import seedu.address.model.versionmanager.UndoHistoryBudget;
+import seedu.address.model.versionmanager.UndoHistoryMode;
+import seedu.address.model.versionmanager.VersionHistory;
+import seedu.address.model.versionmanager.VersionHistoryEvent;
 
 /**
  * Represents the in-memory model of the address book data.
@@ -24,10 +35,14 @@ public class ModelManager implements Model {
 
     private final AddressBook addressBook;
     private final UserPrefs userPrefs;
-    private final ObservableList<Person> visiblePersons;
-    private final AddressBookVersionManager versions;
-    private final CommandHistory history = new CommandHistory();
-    private Predicate<Person> currentPredicate = PREDICATE_SHOW_ALL_PERSONS;
+    private final VisiblePersonList visiblePersons;
+    private final VersionHistory versions;
+    private final CommandHistory history;
+    // Changes since the last commit, and history events not yet handed to storage, for the undo log
+    private List<PersonChange> uncommittedChanges = new ArrayList<>();
+    private List<VersionHistoryEvent> unsavedHistoryEvents = new ArrayList<>();
+    // All changes to the address book not yet handed to storage, including those made by undo and redo
+    private List<PersonChange> unsavedChanges = new ArrayList<>();
 
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
@@ -38,15 +53,33 @@ public class ModelManager implements Model {
         logger.fine("Initializing with address book: " + addressBook + " and user prefs " + userPrefs);
 
         this.addressBook = new AddressBook(addressBook);
-        this.versions = new AddressBookVersionManager(addressBook);
+        UndoHistoryBudget budget = getUndoHistoryBudget(userPrefs);
+        this.versions = userPrefs.getUndoHistoryMode() == UndoHistoryMode.DELTA
+                ? new AddressBookChangeJournal(budget)
+                : new AddressBookVersionManager(this.addressBook.snapshot(), budget);
         this.userPrefs = new UserPrefs(userPrefs);
-        this.visiblePersons = FXCollections.observableArrayList(this.addressBook.getPersonList());
+        this.visiblePersons = new VisiblePersonList(this.addressBook.getPersonList());
+        this.history = new CommandHistory(userPrefs.getCommandHistoryMaxSize());
     }
 
     public ModelManager() {
         this(new AddressBook(), new UserPrefs());
     }
 
+    /**
+     * Returns the undo history limits in {@code userPrefs}, or the default limits if those are invalid.
+     * The limits are only checked here, so that an invalid limit in the prefs file does not reset the other prefs.
+     */
+    public static UndoHistoryBudget getUndoHistoryBudget(ReadOnlyUserPrefs userPrefs) {
+        try {
+            return new UndoHistoryBudget(userPrefs.getUndoHistoryMaxVersions(), userPrefs.getUndoHistoryMaxBytes());
+        } catch (IllegalArgumentException e) {
+            logger.warning("Invalid undo history limits in user prefs, using the defaults instead: " + e.getMessage());
+            return new UndoHistoryBudget(UserPrefs.DEFAULT_UNDO_HISTORY_MAX_VERSIONS,
+                    UserPrefs.DEFAULT_UNDO_HISTORY_MAX_BYTES);
+        }
+    }
+
     //=========== UserPrefs ==================================================================================
 
     @Override
@@ -86,8 +119,21 @@ public class ModelManager implements Model {
 
     @Override
     public void setAddressBook(ReadOnlyAddressBook addressBook) {
+        List<Person> oldPersons = new ArrayList<>(this.addressBook.getPersonList());
         this.addressBook.resetData(addressBook);
-        updateVisiblePersonList();
+        for (int i = oldPersons.size() - 1; i >= 0; i--) {
+            recordChange(PersonChange.ofRemoval(i, oldPersons.get(i)));
+        }
+        List<Person> newPersons = this.addressBook.getPersonList();
+        for (int i = 0; i < newPersons.size(); i++) {
+            recordChange(PersonChange.ofAddition(i, newPersons.get(i)));
+        }
+    }
+
+    private void recordChange(PersonChange change) {
+        versions.recordChange(change);
+        uncommittedChanges.add(change);
+        unsavedChanges.add(change);
     }
 
     @Override
@@ -113,29 +159,49 @@ public class ModelManager implements Model {
         return addressBook.hasPhone(phone);
     }
 
+    @Override
+    public List<Person> getPersonsInClassGroup(String classGroupName) {
+        requireNonNull(classGroupName);
+        return addressBook.getPersonsInClassGroup(classGroupName);
+    }
+
+    @Override
+    public List<Person> getPersonsWithAssignment(Assignment assignment) {
+        requireNonNull(assignment);
+        return addressBook.getPersonsWithAssignment(assignment);
+    }
+
+    @Override
+    public List<Person> getPersonsWithAssignment(Assignment assignment, boolean isMarked) {
+        requireNonNull(assignment);
+        return addressBook.getPersonsWithAssignment(assignment, isMarked);
+    }
+
     @Override
     public void deletePerson(Person target) {
+        int index = addressBook.indexOf(target);
         addressBook.removePerson(target);
-        visiblePersons.remove(target);
+        recordChange(PersonChange.ofRemoval(index, target));
     }
 
     @Override
     public void addPerson(Person person) {
         addressBook.addPerson(person);
-        if (!visiblePersons.contains(person)) {
-            visiblePersons.add(person);
-        }
+        int index = addressBook.getPersonList().size() - 1;
+        recordChange(PersonChange.ofAddition(index, person));
+        // an added person is shown even if it does not match the current filter
+        visiblePersons.setShown(index, true);
     }
 
     @Override
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
 
-        addressBook.setPerson(target, editedPerson);
-        int index = visiblePersons.indexOf(target);
-        if (index != -1) {
-            visiblePersons.set(index, editedPerson);
-        }
+        int index = addressBook.indexOf(target);
+        // an edited person stays shown or hidden even if it no longer matches the current filter, or now does;
+        // a target not in the list is reported by addressBook.setPerson
+        visiblePersons.replaceKeepingShown(index, () -> addressBook.setPerson(target, editedPerson));
+        recordChange(PersonChange.ofEdit(index, target, editedPerson));
     }
 
     //=========== Filtered Person List Accessors =============================================================
@@ -145,36 +211,31 @@ public class ModelManager implements Model {
      */
     @Override
     public ObservableList<Person> getFilteredPersonList() {
-        return FXCollections.unmodifiableObservableList(visiblePersons);
+        return visiblePersons.asUnmodifiableObservableList();
     }
 
     @Override
     public void updateFilteredPersonList(Predicate<Person> predicate) {
         requireNonNull(predicate);
-        currentPredicate = predicate;
         if (predicate == PREDICATE_SHOW_ALL_PERSONS) {
-            visiblePersons.setAll(addressBook.getPersonList());
-        } else {
-            visiblePersons.removeIf(person -> !predicate.test(person));
-        }
-    }
-
-    private void updateVisiblePersonList() {
-        if (currentPredicate == PREDICATE_SHOW_ALL_PERSONS) {
-            visiblePersons.setAll(addressBook.getPersonList());
+            visiblePersons.showAll();
+        } else if (visiblePersons.getPredicate() == PREDICATE_SHOW_ALL_PERSONS
+                && predicate instanceof StudentInClassGroupPredicate) {
+            // filtering every person by class group takes the members of the class group from the index
+            int[] memberIndices = getPersonsInClassGroup(((StudentInClassGroupPredicate) predicate).getClassGroup())
+                    .stream().mapToInt(addressBook::indexOf).toArray();
+            visiblePersons.filter(predicate, memberIndices);
+        } else if (visiblePersons.getPredicate() == PREDICATE_SHOW_ALL_PERSONS && predicate instanceof PersonQuery) {
+            // queries are planned against the indexes of the address book
+            visiblePersons.filter(predicate, ((PersonQuery) predicate).findMatches(addressBook));
         } else {
-            visiblePersons.clear();
-            for (Person person : addressBook.getPersonList()) {
-                if (currentPredicate.test(person)) {
-                    visiblePersons.add(person);
-                }
-            }
+            visiblePersons.filter(predicate);
         }
     }
 
     @Override
     public Predicate<Person> getCurrentPredicate() {
-        return currentPredicate;
+        return visiblePersons.getPredicate();
     }
 
     @Override
@@ -191,25 +252,104 @@ public class ModelManager implements Model {
         ModelManager otherModelManager = (ModelManager) other;
         return addressBook.equals(otherModelManager.addressBook)
                 && userPrefs.equals(otherModelManager.userPrefs)
-                && visiblePersons.equals(otherModelManager.visiblePersons);
+                && getFilteredPersonList().equals(otherModelManager.getFilteredPersonList());
     }
 
     //=========== AddressBookVersionManager =======================================================================
     @Override
     public void undo() {
-        ReadOnlyAddressBook previous = this.versions.undo();
-        setAddressBook(previous);
+        unsavedChanges.addAll(this.versions.undoChanges(addressBook));
+        uncommittedChanges = new ArrayList<>();
+        unsavedHistoryEvents.add(VersionHistoryEvent.ofUndo(addressBook.getStateChecksum()));
     }
 
     @Override
     public void commit() {
-        this.versions.commit(new AddressBook(getAddressBook()));
+        this.versions.commitChanges(addressBook);
+        unsavedHistoryEvents.add(VersionHistoryEvent.ofCommit(uncommittedChanges, addressBook.getStateChecksum()));
+        uncommittedChanges = new ArrayList<>();
+        logger.fine(String.format("Undo history holds %d versions, about %d bytes",
+                versions.getVersionCount(), versions.getEstimatedSize()));
+    }
+
+    /**
+     * Returns the number of versions retained by the undo history.
+     */
+    public int getUndoHistoryVersionCount() {
+        return versions.getVersionCount();
+    }
+
+    /**
+     * Returns the estimated memory, in bytes, retained by the undo history.
+     */
+    public long getUndoHistoryEstimatedSize() {
+        return versions.getEstimatedSize();
     }
 
     @Override
     public void redo() {
-        ReadOnlyAddressBook next = this.versions.redo();
-        setAddressBook(next);
+        unsavedChanges.addAll(this.versions.redoChanges(addressBook));
+        uncommittedChanges = new ArrayList<>();
+        unsavedHistoryEvents.add(VersionHistoryEvent.ofRedo(addressBook.getStateChecksum()));
+    }
+
+    @Override
+    public List<PersonChange> takeUnsavedChanges() {
+        List<PersonChange> changes = unsavedChanges;
+        unsavedChanges = new ArrayList<>();
+        return changes;
+    }
+
+    @Override
+    public List<VersionHistoryEvent> takeUnsavedHistoryEvents() {
+        List<VersionHistoryEvent> events = unsavedHistoryEvents;
+        unsavedHistoryEvents = new ArrayList<>();
+        return events;
+    }
+
+    /**
+     * Restores the undo history of a previous session by replaying its {@code events} in order, up to the last event
+     * that left the address book in its current state. Later events are dropped, as their changes were not saved to
+     * the address book.
+     *
+     * @return the number of events restored from the start of {@code events}, or 0 if the history was not restored.
+     */
+    public int restoreVersionHistory(List<VersionHistoryEvent> events) {
+        requireNonNull(events);
+        int restoredCount = events.size();
+        while (restoredCount > 0 && events.get(restoredCount - 1).getStateHash() != addressBook.getStateChecksum()) {
+            restoredCount--;
+        }
+        if (restoredCount == 0) {
+            return 0;
+        }
+
+        List<List<PersonChange>> undoable = new ArrayList<>();
+        List<List<PersonChange>> redoable = new ArrayList<>();
+        for (VersionHistoryEvent event : events.subList(0, restoredCount)) {
+            switch (event.getType()) {
+            case COMMIT:
+                undoable.add(event.getChanges());
+                redoable.clear();
+                break;
+            case UNDO:
+                if (undoable.isEmpty()) {
+                    return 0;
+                }
+                redoable.add(0, undoable.remove(undoable.size() - 1));
+                break;
+            case REDO:
+                if (redoable.isEmpty()) {
+                    return 0;
+                }
+                undoable.add(redoable.remove(0));
+                break;
+            default:
+                throw new AssertionError(event.getType());
+            }
+        }
+        versions.restore(undoable, redoable);
+        return restoredCount;
     }
 
     //=========== Command History ============================================================================
@@ -236,4 +376,14 @@ public class ModelManager implements Model {
     public String previousCommand() {
         return history.previous();
     }
+
+    @Override
+    public Optional<String> searchCommand(String query) {
+        return history.search(query);
+    }
+
+    @Override
+    public Optional<String> searchOlderCommand(String query) {
+        return history.searchOlder(query);
+    }
 }
@@ -14,4 +14,18 @@ public interface ReadOnlyAddressBook {
      */
     ObservableList<Person> getPersonList();
 
+    /**
+     * Returns the number of persons.
+     * Views that build their person list on demand override this to count the persons without building it.
+     */
+    default int size() {
+        return getPersonList().size();
+    }
+
+    /**
+     * Returns a counter that changes whenever the data changes, so that callers can tell whether the data changed
+     * since they last looked without comparing it.
+     */
+    long getModificationCount();
+
 }
@@ -2,7 +2,10 @@ package seedu.address.model;
 
 import java.nio.file.Path;
 
+import seedu.address.commons.core.AddressBookFileFormat;
+import seedu.address.commons.core.AddressBookSaveMode;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.model.versionmanager.UndoHistoryMode;
 
 /**
  * Unmodifiable view of user prefs.
@@ -13,4 +16,18 @@ public interface ReadOnlyUserPrefs {
 
     Path getAddressBookFilePath();
 
+    AddressBookFileFormat getAddressBookFileFormat();
+
+    AddressBookSaveMode getAddressBookSaveMode();
+
+    int getAddressBookCheckpointInterval();
+
+    int getCommandHistoryMaxSize();
+
+    UndoHistoryMode getUndoHistoryMode();
+
+    int getUndoHistoryMaxVersions();
+
+    long getUndoHistoryMaxBytes();
+
 }
@@ -1,21 +1,40 @@
 package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Objects;
 
+import seedu.address.commons.core.AddressBookFileFormat;
+import seedu.address.commons.core.AddressBookSaveMode;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.model.versionmanager.UndoHistoryMode;
 
 /**
  * Represents User's preferences.
  */
 public class UserPrefs implements ReadOnlyUserPrefs {
 
+    public static final int DEFAULT_UNDO_HISTORY_MAX_VERSIONS = 100;
+    public static final long DEFAULT_UNDO_HISTORY_MAX_BYTES = 64L * 1024 * 1024;
+    public static final int DEFAULT_ADDRESS_BOOK_CHECKPOINT_INTERVAL = 100;
+    public static final int DEFAULT_COMMAND_HISTORY_MAX_SIZE = 10_000;
+    public static final String MESSAGE_CHECKPOINT_INTERVAL_CONSTRAINTS = "Checkpoint interval must be positive.";
+    public static final String MESSAGE_COMMAND_HISTORY_SIZE_CONSTRAINTS = "Command history size must be positive.";
+
     private GuiSettings guiSettings = new GuiSettings();
     private Path addressBookFilePath = Paths.get("data" , "tutortrack.json");
+    private AddressBookFileFormat addressBookFileFormat = AddressBookFileFormat.JSON;
+    private AddressBookSaveMode addressBookSaveMode = AddressBookSaveMode.FULL;
+    private int addressBookCheckpointInterval = DEFAULT_ADDRESS_BOOK_CHECKPOINT_INTERVAL;
     private Path commandHistoryFilePath = Paths.get("data", "history.txt");
+    private int commandHistoryMaxSize = DEFAULT_COMMAND_HISTORY_MAX_SIZE;
+    private Path undoHistoryFilePath = Paths.get("data", "undo.log");
+    private UndoHistoryMode undoHistoryMode = UndoHistoryMode.SNAPSHOT;
+    private int undoHistoryMaxVersions = DEFAULT_UNDO_HISTORY_MAX_VERSIONS;
+    private long undoHistoryMaxBytes = DEFAULT_UNDO_HISTORY_MAX_BYTES;
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -37,6 +56,13 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         requireNonNull(newUserPrefs);
         setGuiSettings(newUserPrefs.getGuiSettings());
         setAddressBookFilePath(newUserPrefs.getAddressBookFilePath());
+        setAddressBookFileFormat(newUserPrefs.getAddressBookFileFormat());
+        setAddressBookSaveMode(newUserPrefs.getAddressBookSaveMode());
+        setAddressBookCheckpointInterval(newUserPrefs.getAddressBookCheckpointInterval());
+        setCommandHistoryMaxSize(newUserPrefs.getCommandHistoryMaxSize());
+        setUndoHistoryMode(newUserPrefs.getUndoHistoryMode());
+        setUndoHistoryMaxVersions(newUserPrefs.getUndoHistoryMaxVersions());
+        setUndoHistoryMaxBytes(newUserPrefs.getUndoHistoryMaxBytes());
     }
 
     public GuiSettings getGuiSettings() {
@@ -57,6 +83,33 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.addressBookFilePath = addressBookFilePath;
     }
 
+    public AddressBookFileFormat getAddressBookFileFormat() {
+        return addressBookFileFormat;
+    }
+
+    public void setAddressBookFileFormat(AddressBookFileFormat addressBookFileFormat) {
+        requireNonNull(addressBookFileFormat);
+        this.addressBookFileFormat = addressBookFileFormat;
+    }
+
+    public AddressBookSaveMode getAddressBookSaveMode() {
+        return addressBookSaveMode;
+    }
+
+    public void setAddressBookSaveMode(AddressBookSaveMode addressBookSaveMode) {
+        requireNonNull(addressBookSaveMode);
+        this.addressBookSaveMode = addressBookSaveMode;
+    }
+
+    public int getAddressBookCheckpointInterval() {
+        return addressBookCheckpointInterval;
+    }
+
+    public void setAddressBookCheckpointInterval(int addressBookCheckpointInterval) {
+        checkArgument(addressBookCheckpointInterval > 0, MESSAGE_CHECKPOINT_INTERVAL_CONSTRAINTS);
+        this.addressBookCheckpointInterval = addressBookCheckpointInterval;
+    }
+
     public Path getCommandHistoryFilePath() {
         return commandHistoryFilePath;
     }
@@ -66,6 +119,49 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.commandHistoryFilePath = commandHistoryFilePath;
     }
 
+    public int getCommandHistoryMaxSize() {
+        return commandHistoryMaxSize;
+    }
+
+    public void setCommandHistoryMaxSize(int commandHistoryMaxSize) {
+        checkArgument(commandHistoryMaxSize > 0, MESSAGE_COMMAND_HISTORY_SIZE_CONSTRAINTS);
+        this.commandHistoryMaxSize = commandHistoryMaxSize;
+    }
+
+    public Path getUndoHistoryFilePath() {
+        return undoHistoryFilePath;
+    }
+
+    public void setUndoHistoryFilePath(Path undoHistoryFilePath) {
+        requireNonNull(undoHistoryFilePath);
+        this.undoHistoryFilePath = undoHistoryFilePath;
+    }
+
+    public UndoHistoryMode getUndoHistoryMode() {
+        return undoHistoryMode;
+    }
+
+    public void setUndoHistoryMode(UndoHistoryMode undoHistoryMode) {
+        requireNonNull(undoHistoryMode);
+        this.undoHistoryMode = undoHistoryMode;
+    }
+
+    public int getUndoHistoryMaxVersions() {
+        return undoHistoryMaxVersions;
+    }
+
+    public void setUndoHistoryMaxVersions(int undoHistoryMaxVersions) {
+        this.undoHistoryMaxVersions = undoHistoryMaxVersions;
+    }
+
+    public long getUndoHistoryMaxBytes() {
+        return undoHistoryMaxBytes;
+    }
+
+    public void setUndoHistoryMaxBytes(long undoHistoryMaxBytes) {
+        this.undoHistoryMaxBytes = undoHistoryMaxBytes;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -80,13 +176,24 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         UserPrefs otherUserPrefs = (UserPrefs) other;
         return guiSettings.equals(otherUserPrefs.guiSettings)
                 && addressBookFilePath.equals(otherUserPrefs.addressBookFilePath)
-                && commandHistoryFilePath.equals(otherUserPrefs.commandHistoryFilePath);
+                && addressBookFileFormat == otherUserPrefs.addressBookFileFormat
+                && addressBookSaveMode == otherUserPrefs.addressBookSaveMode
+                && addressBookCheckpointInterval == otherUserPrefs.addressBookCheckpointInterval
+                && commandHistoryFilePath.equals(otherUserPrefs.commandHistoryFilePath)
+                && commandHistoryMaxSize == otherUserPrefs.commandHistoryMaxSize
+                && undoHistoryFilePath.equals(otherUserPrefs.undoHistoryFilePath)
+                && undoHistoryMode == otherUserPrefs.undoHistoryMode
+                && undoHistoryMaxVersions == otherUserPrefs.undoHistoryMaxVersions
+                && undoHistoryMaxBytes == otherUserPrefs.undoHistoryMaxBytes;
     }
 
     @Override
     public int hashCode() {
         return Objects.hash(
-                guiSettings, addressBookFilePath, commandHistoryFilePath);
+                guiSettings, addressBookFilePath, addressBookFileFormat, addressBookSaveMode,
+                addressBookCheckpointInterval,
+                commandHistoryFilePath, commandHistoryMaxSize, undoHistoryFilePath, undoHistoryMode,
+                undoHistoryMaxVersions, undoHistoryMaxBytes);
     }
 
     @Override
@@ -94,7 +201,15 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         StringBuilder sb = new StringBuilder();
         sb.append("Gui Settings : " + guiSettings);
         sb.append("\nLocal data file location : " + addressBookFilePath);
-        sb.append("\n:Local command history file location : " + commandHistoryFilePath);
+        sb.append("\nLocal data file format : " + addressBookFileFormat);
+        sb.append("\nLocal data save mode : " + addressBookSaveMode
+                + " (checkpoint every " + addressBookCheckpointInterval + " commands)");
+        sb.append("\n:Local command history file location : " + commandHistoryFilePath
+                + " (keeping " + commandHistoryMaxSize + " commands)");
+        sb.append("\nLocal undo history file location : " + undoHistoryFilePath);
+        sb.append("\nUndo history mode : " + undoHistoryMode);
+        sb.append("\nUndo history limits : " + undoHistoryMaxVersions + " versions, "
+                + undoHistoryMaxBytes + " bytes");
         return sb.toString();
     }
 
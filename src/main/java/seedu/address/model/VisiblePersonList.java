@@ -0,0 +1,253 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.model.person.Person;
+
+/**
+ * The persons of a source list that are shown, in the order of the source list, kept up to date as the source list
+ * changes.
+ * <p>
+ * The persons shown are those that matched the predicate when it was set, or when they were added to or replaced in
+ * the source list, unless they were shown or hidden explicitly since, or replaced through
+ * {@link #replaceKeepingShown(int, Runnable)}. Changes to the source list only test the persons changed, and the
+ * position in the shown list of every person in the source list is kept, so replacing a person takes constant time
+ * unless it becomes shown or hidden.
+ */
+class VisiblePersonList {
+
+    private static final int HIDDEN = -1;
+    private static final int NO_INDEX = -1;
+
+    private final ObservableList<Person> source;
+    private final ObservableList<Person> shown = FXCollections.observableArrayList();
+    private final ObservableList<Person> unmodifiableShown = FXCollections.unmodifiableObservableList(shown);
+    // Position in shown of the person at each position in source, or HIDDEN; only the first size entries are used
+    private int[] shownIndices = new int[16];
+    private int size = 0;
+    private Predicate<Person> predicate = PREDICATE_SHOW_ALL_PERSONS;
+    // Position in source of the person whose replacement keeps it shown or hidden, or NO_INDEX
+    private int keptIndex = NO_INDEX;
+
+    /**
+     * Constructs a {@code VisiblePersonList} that shows every person in {@code source} and follows its changes.
+     */
+    VisiblePersonList(ObservableList<Person> source) {
+        requireNonNull(source);
+        this.source = source;
+        showAll();
+        source.addListener(this::onSourceChanged);
+    }
+
+    ObservableList<Person> asUnmodifiableObservableList() {
+        return unmodifiableShown;
+    }
+
+    Predicate<Person> getPredicate() {
+        return predicate;
+    }
+
+    /**
+     * Shows every person and keeps showing every person added later.
+     */
+    void showAll() {
+        predicate = PREDICATE_SHOW_ALL_PERSONS;
+        ensureCapacity(source.size());
+        for (size = 0; size < source.size(); size++) {
+            shownIndices[size] = size;
+        }
+        shown.setAll(source);
+    }
+
+    /**
+     * Hides the shown persons that do not match {@code predicate}, which later changed persons are tested against.
+     */
+    void filter(Predicate<Person> predicate) {
+        requireNonNull(predicate);
+        this.predicate = predicate;
+        List<Person> stillShown = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            if (shownIndices[i] != HIDDEN && predicate.test(source.get(i))) {
+                shownIndices[i] = stillShown.size();
+                stillShown.add(source.get(i));
+            } else {
+                shownIndices[i] = HIDDEN;
+            }
+        }
+        shown.setAll(stillShown);
+    }
+
+    /**
+     * Shows only the persons at {@code matchingIndices} in the source list, given in increasing order, which must be
+     * the persons matching {@code predicate}. Later changed persons are tested against {@code predicate}.
+     */
+    void filter(Predicate<Person> predicate, int[] matchingIndices) {
+        requireNonNull(predicate);
+        this.predicate = predicate;
+        Arrays.fill(shownIndices, 0, size, HIDDEN);
+        List<Person> matching = new ArrayList<>(matchingIndices.length);
+        for (int index : matchingIndices) {
+            assert predicate.test(source.get(index));
+            shownIndices[index] = matching.size();
+            matching.add(source.get(index));
+        }
+        shown.setAll(matching);
+    }
+
+    /**
+     * Returns true if the person at {@code sourceIndex} in the source list is shown.
+     */
+    boolean isShown(int sourceIndex) {
+        return shownIndices[sourceIndex] != HIDDEN;
+    }
+
+    /**
+     * Shows or hides the person at {@code sourceIndex} in the source list, whether or not it matches the predicate.
+     */
+    void setShown(int sourceIndex, boolean isShown) {
+        if (isShown && !isShown(sourceIndex)) {
+            show(sourceIndex);
+        } else if (!isShown && isShown(sourceIndex)) {
+            hide(sourceIndex);
+        }
+    }
+
+    /**
+     * Runs {@code replacement}, which replaces the person at {@code sourceIndex} in the source list, keeping the
+     * person shown or hidden as it is instead of testing its replacement against the predicate.
+     */
+    void replaceKeepingShown(int sourceIndex, Runnable replacement) {
+        keptIndex = sourceIndex;
+        try {
+            replacement.run();
+        } finally {
+            keptIndex = NO_INDEX;
+        }
+    }
+
+    private void onSourceChanged(ListChangeListener.Change<? extends Person> change) {
+        while (change.next()) {
+            if (change.wasPermutated()) {
+                // the source list is never sorted, so this is only handled for completeness
+                filter(predicate, getMatchingIndices());
+            } else if (change.wasReplaced() && change.getRemovedSize() == 1 && change.getAddedSize() == 1) {
+                replace(change.getFrom());
+            } else {
+                if (change.wasRemoved()) {
+                    removeRange(change.getFrom(), change.getRemovedSize());
+                }
+                if (change.wasAdded()) {
+                    insertRange(change.getFrom(), change.getAddedSize());
+                }
+            }
+        }
+    }
+
+    private int[] getMatchingIndices() {
+        return IntStream.range(0, source.size())
+                .filter(i -> predicate.test(source.get(i)))
+                .toArray();
+    }
+
+    private void replace(int sourceIndex) {
+        Person person = source.get(sourceIndex);
+        boolean isToBeShown = sourceIndex == keptIndex ? isShown(sourceIndex) : predicate.test(person);
+        if (isToBeShown && isShown(sourceIndex)) {
+            shown.set(shownIndices[sourceIndex], person);
+        } else {
+            setShown(sourceIndex, isToBeShown);
+        }
+    }
+
+    private void show(int sourceIndex) {
+        int index = getShownIndexAfter(sourceIndex);
+        shown.add(index, source.get(sourceIndex));
+        shownIndices[sourceIndex] = index;
+        shiftShownIndices(sourceIndex + 1, 1);
+    }
+
+    private void hide(int sourceIndex) {
+        shown.remove(shownIndices[sourceIndex]);
+        shownIndices[sourceIndex] = HIDDEN;
+        shiftShownIndices(sourceIndex + 1, -1);
+    }
+
+    private void insertRange(int from, int count) {
+        ensureCapacity(size + count);
+        System.arraycopy(shownIndices, from, shownIndices, from + count, size - from);
+        size += count;
+
+        int index = getShownIndexAfter(from + count - 1);
+        List<Person> matching = new ArrayList<>();
+        for (int i = from; i < from + count; i++) {
+            Person person = source.get(i);
+            if (predicate.test(person)) {
+                shownIndices[i] = index + matching.size();
+                matching.add(person);
+            } else {
+                shownIndices[i] = HIDDEN;
+            }
+        }
+        if (!matching.isEmpty()) {
+            shown.addAll(index, matching);
+            shiftShownIndices(from + count, matching.size());
+        }
+    }
+
+    private void removeRange(int from, int count) {
+        int firstShownIndex = HIDDEN;
+        int shownCount = 0;
+        for (int i = from; i < from + count; i++) {
+            if (shownIndices[i] != HIDDEN) {
+                if (shownCount == 0) {
+                    firstShownIndex = shownIndices[i];
+                }
+                shownCount++;
+            }
+        }
+        System.arraycopy(shownIndices, from + count, shownIndices, from, size - from - count);
+        size -= count;
+        if (shownCount > 0) {
+            // the shown persons in a range of the source list are next to each other in the shown list
+            shown.remove(firstShownIndex, firstShownIndex + shownCount);
+            shiftShownIndices(from, -shownCount);
+        }
+    }
+
+    /**
+     * Returns the position in the shown list at which the person at {@code sourceIndex} is shown, or would be shown
+     * if it were. The last person of the source list is found in constant time.
+     */
+    private int getShownIndexAfter(int sourceIndex) {
+        for (int i = sourceIndex + 1; i < size; i++) {
+            if (shownIndices[i] != HIDDEN) {
+                return shownIndices[i];
+            }
+        }
+        return shown.size();
+    }
+
+    private void shiftShownIndices(int from, int offset) {
+        for (int i = from; i < size; i++) {
+            if (shownIndices[i] != HIDDEN) {
+                shownIndices[i] += offset;
+            }
+        }
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity > shownIndices.length) {
+            shownIndices = Arrays.copyOf(shownIndices, Math.max(capacity, 2 * shownIndices.length));
+        }
+    }
+}
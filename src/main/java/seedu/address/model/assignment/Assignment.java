@@ -2,10 +2,19 @@ package seedu.address.model.assignment;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.ValidationUtil.isAlphanumericWord;
+
+import java.util.Locale;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * Represents an Assignment in the address book.
  * Guarantees: immutable; name is valid as declared in {@link #isValidAssignmentName(String)}
+ * <p>
+ * Assignments obtained with {@link #of(String, String, boolean)}, and by marking or unmarking them, are pooled, so the
+ * persons with the same assignment share one instance per marked status.
  */
 public class Assignment {
 
@@ -18,9 +27,15 @@ public class Assignment {
     public static final String VALIDATION_REGEX = "[\\p{Alnum}][\\p{Alnum} \\-]*";
 
 
+    // Canonical assignments; there are few distinct assignments, so the pool is never pruned
+    private static final ConcurrentMap<PoolKey, Assignment> pool = new ConcurrentHashMap<>();
+
     public final String assignmentName;
     public final String classGroupName;
     private final boolean isMarked;
+    private final boolean isPooled;
+    // Hash of the case-folded names, which equal assignments share
+    private final int hash;
 
     /**
      * Constructs a {@code Assignment}.
@@ -40,6 +55,10 @@ public class Assignment {
      * @param isMarked The marked status of the assignment.
      */
     public Assignment(String assignmentName, String classGroupName, boolean isMarked) {
+        this(assignmentName, classGroupName, isMarked, false);
+    }
+
+    private Assignment(String assignmentName, String classGroupName, boolean isMarked, boolean isPooled) {
         requireNonNull(assignmentName);
         requireNonNull(classGroupName);
         checkArgument(isValidAssignmentName(assignmentName), MESSAGE_CONSTRAINTS);
@@ -47,20 +66,49 @@ public class Assignment {
         this.assignmentName = assignmentName;
         this.classGroupName = classGroupName;
         this.isMarked = isMarked;
+        this.isPooled = isPooled;
+        this.hash = Objects.hash(assignmentName.toLowerCase(Locale.ROOT), classGroupName.toLowerCase(Locale.ROOT));
+    }
+
+    /**
+     * Returns the pooled {@code Assignment} with the given details, creating it if there is none.
+     *
+     * @param assignmentName A valid assignment name.
+     * @param classGroupName A valid class group name.
+     * @param isMarked The marked status of the assignment.
+     */
+    public static Assignment of(String assignmentName, String classGroupName, boolean isMarked) {
+        requireNonNull(assignmentName);
+        requireNonNull(classGroupName);
+        PoolKey key = new PoolKey(assignmentName, classGroupName, isMarked);
+        Assignment pooled = pool.get(key);
+        if (pooled != null) {
+            return pooled;
+        }
+        Assignment created = new Assignment(assignmentName, classGroupName, isMarked, true);
+        pooled = pool.putIfAbsent(key, created);
+        return pooled != null ? pooled : created;
+    }
+
+    /**
+     * Returns the pooled {@code Assignment} with the same details as this one, which is this one if it is pooled.
+     */
+    public Assignment intern() {
+        return isPooled ? this : of(assignmentName, classGroupName, isMarked);
     }
 
     /**
      * Returns true if a given string is a valid assignment name.
      */
     public static boolean isValidAssignmentName(String test) {
-        return test != null && test.matches(VALIDATION_REGEX);
+        return test != null && isAlphanumericWord(test, " -");
     }
 
     /**
      * Returns true if a given string is a valid class group name.
      */
     public static boolean isValidClassGroupName(String test) {
-        return test != null && test.matches(VALIDATION_REGEX);
+        return test != null && isAlphanumericWord(test, " -");
     }
 
     /**
@@ -72,8 +120,7 @@ public class Assignment {
         if (this.isMarked) {
             return this;
         }
-        Assignment markedAssignment = new Assignment(this.assignmentName, this.classGroupName, true);
-        return markedAssignment;
+        return of(this.assignmentName, this.classGroupName, true);
     }
 
     /**
@@ -85,8 +132,7 @@ public class Assignment {
         if (!this.isMarked) {
             return this;
         }
-        Assignment unmarkedAssignment = new Assignment(this.assignmentName, this.classGroupName, false);
-        return unmarkedAssignment;
+        return of(this.assignmentName, this.classGroupName, false);
     }
 
     /**
@@ -108,7 +154,8 @@ public class Assignment {
         }
 
         Assignment otherAssignment = (Assignment) other;
-        return assignmentName.equalsIgnoreCase(otherAssignment.assignmentName)
+        return hash == otherAssignment.hash
+                && assignmentName.equalsIgnoreCase(otherAssignment.assignmentName)
                 && classGroupName.equalsIgnoreCase(otherAssignment.classGroupName);
     }
 
@@ -122,7 +169,7 @@ public class Assignment {
 
     @Override
     public int hashCode() {
-        return java.util.Objects.hash(assignmentName.toLowerCase(), classGroupName.toLowerCase());
+        return hash;
     }
 
     /**
@@ -133,4 +180,39 @@ public class Assignment {
         return assignmentName + " (" + classGroupName + ")";
     }
 
+    /**
+     * The exact details of a pooled assignment, usable as a hash key.
+     */
+    private static final class PoolKey {
+        private final String assignmentName;
+        private final String classGroupName;
+        private final boolean isMarked;
+
+        private PoolKey(String assignmentName, String classGroupName, boolean isMarked) {
+            this.assignmentName = assignmentName;
+            this.classGroupName = classGroupName;
+            this.isMarked = isMarked;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+
+            if (!(other instanceof PoolKey)) {
+                return false;
+            }
+
+            PoolKey otherKey = (PoolKey) other;
+            return assignmentName.equals(otherKey.assignmentName) && classGroupName.equals(otherKey.classGroupName)
+                    && isMarked == otherKey.isMarked;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(assignmentName, classGroupName, isMarked);
+        }
+    }
+
 }
@@ -2,10 +2,18 @@ package seedu.address.model.classgroup;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.ValidationUtil.isAlphanumericWord;
+
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * Represents a ClassGroup in the address book.
  * Guarantees: immutable; name is valid as declared in {@link #isValidClassGroupName(String)}
+ * <p>
+ * Class groups obtained with {@link #of(String)} are pooled, so the persons in a class group share one instance, which
+ * compares equal to itself without comparing names.
  */
 public class ClassGroup {
 
@@ -15,7 +23,12 @@ public class ClassGroup {
     // Allow alphanumeric characters, spaces and hyphens; must contain at least one alphanumeric character
     public static final String VALIDATION_REGEX = "[\\p{Alnum}][\\p{Alnum} \\-]*";
 
+    // Canonical class groups by name; there are few distinct names, so the pool is never pruned
+    private static final ConcurrentMap<String, ClassGroup> pool = new ConcurrentHashMap<>();
+
     public final String classGroupName;
+    private final String lookupKey;
+    private final boolean isPooled;
 
     /**
      * Constructs a {@code ClassGroup}.
@@ -23,15 +36,60 @@ public class ClassGroup {
      * @param classGroupName A valid class group name.
      */
     public ClassGroup(String classGroupName) {
+        this(classGroupName, false);
+    }
+
+    private ClassGroup(String classGroupName, boolean isPooled) {
         requireNonNull(classGroupName);
         checkArgument(isValidClassGroupName(classGroupName), MESSAGE_CONSTRAINTS);
         this.classGroupName = classGroupName;
+        this.lookupKey = getLookupKey(classGroupName);
+        this.isPooled = isPooled;
     }
+
+    /**
+     * Returns the pooled {@code ClassGroup} named {@code classGroupName}, creating it if there is none.
+     *
+     * @param classGroupName A valid class group name.
+     */
+    public static ClassGroup of(String classGroupName) {
+        requireNonNull(classGroupName);
+        ClassGroup pooled = pool.get(classGroupName);
+        if (pooled != null) {
+            return pooled;
+        }
+        ClassGroup created = new ClassGroup(classGroupName, true);
+        pooled = pool.putIfAbsent(classGroupName, created);
+        return pooled != null ? pooled : created;
+    }
+
+    /**
+     * Returns the pooled {@code ClassGroup} equal to this one, which is this one if it is pooled.
+     */
+    public ClassGroup intern() {
+        return isPooled ? this : of(classGroupName);
+    }
+
     /**
      * Returns true if a given string is a valid class group name.
      */
     public static boolean isValidClassGroupName(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return isAlphanumericWord(test, " -");
+    }
+
+    /**
+     * Returns the key under which the class group named {@code classGroupName} is looked up, which is the same for
+     * names that differ only in case.
+     */
+    public static String getLookupKey(String classGroupName) {
+        return classGroupName.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Returns the key under which this class group is looked up, which is the same for names that differ only in case.
+     */
+    public String getLookupKey() {
+        return lookupKey;
     }
 
     @Override
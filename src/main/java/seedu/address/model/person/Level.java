@@ -2,6 +2,9 @@ package seedu.address.model.person;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.ValidationUtil.isCharInRange;
+
+import java.util.Locale;
 
 /**
  * Represents a student's academic level in TutorTrack.
@@ -13,6 +16,8 @@ public class Level {
             + "and it should not be blank.";
     public static final String VALIDATION_REGEX = "[1-5]"; // case-insensitive regex for Secondary1–4
     public final String value;
+    // Hash of the case-folded value, which equal levels share
+    private final int hash;
 
     /**
      * Constructs a {@code Level}.
@@ -23,6 +28,7 @@ public class Level {
         requireNonNull(level);
         checkArgument(isValidLevel(level), MESSAGE_CONSTRAINTS);
         value = level.trim();
+        hash = value.toLowerCase(Locale.ROOT).hashCode();
     }
 
     /**
@@ -32,7 +38,7 @@ public class Level {
      * @return True if the string is valid; false otherwise.
      */
     public static boolean isValidLevel(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return isCharInRange(test, '1', '5');
     }
 
     @Override
@@ -49,11 +55,11 @@ public class Level {
             return false;
         }
         Level otherLevel = (Level) other;
-        return value.equalsIgnoreCase(otherLevel.value);
+        return hash == otherLevel.hash && value.equalsIgnoreCase(otherLevel.value);
     }
 
     @Override
     public int hashCode() {
-        return value.toLowerCase().hashCode();
+        return hash;
     }
 }
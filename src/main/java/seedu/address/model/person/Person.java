@@ -2,10 +2,15 @@ package seedu.address.model.person;
 
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
-import java.util.Collections;
-import java.util.HashSet;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
 import java.util.Objects;
 import java.util.Set;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
 
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.assignment.Assignment;
@@ -14,17 +19,30 @@ import seedu.address.model.classgroup.ClassGroup;
 /**
  * Represents a Person in the address book.
  * Guarantees: details are present and not null, field values are validated, immutable.
+ * <p>
+ * Class groups and assignments are kept as sorted arrays of pooled values, which take a reference each, instead of
+ * hash sets. The sets returned by {@link #getClassGroups()} and {@link #getAssignments()} are views over the arrays.
  */
 public class Person {
 
+    // Orders consistent with equality of class groups and of assignments, in which they are displayed
+    private static final Comparator<ClassGroup> CLASS_GROUP_ORDER = Comparator.comparing(ClassGroup::getClassGroupName);
+    private static final Comparator<Assignment> ASSIGNMENT_ORDER =
+            Comparator.comparing(Assignment::getClassGroupName, String.CASE_INSENSITIVE_ORDER)
+                    .thenComparing(Assignment::getAssignmentName, String.CASE_INSENSITIVE_ORDER);
+    private static final ClassGroup[] NO_CLASS_GROUPS = new ClassGroup[0];
+    private static final Assignment[] NO_ASSIGNMENTS = new Assignment[0];
+
     // Identity fields
     private final Name name;
     private final Phone phone;
 
     // Data fields
     private final Level level;
-    private final Set<ClassGroup> classGroups = new HashSet<>();
-    private final Set<Assignment> assignments = new HashSet<>();
+    private final ClassGroup[] classGroups;
+    private final Assignment[] assignments;
+    // All fields are immutable, so the hash is computed once
+    private final int hash;
 
     /**
      * Every field must be present and not null.
@@ -34,9 +52,46 @@ public class Person {
         this.name = name;
         this.phone = phone;
         this.level = level;
-        this.classGroups.addAll(classGroups);
-        this.assignments.addAll(assignments);
+        this.classGroups = toSortedArray(classGroups, ClassGroup::intern, CLASS_GROUP_ORDER, NO_CLASS_GROUPS);
+        this.assignments = toSortedArray(assignments, Assignment::intern, ASSIGNMENT_ORDER, NO_ASSIGNMENTS);
+        this.hash = computeHash();
+    }
 
+    private Person(Name name, Phone phone, Level level, ClassGroup[] classGroups, Assignment[] assignments) {
+        this.name = name;
+        this.phone = phone;
+        this.level = level;
+        this.classGroups = classGroups;
+        this.assignments = assignments;
+        this.hash = computeHash();
+    }
+
+    private int computeHash() {
+        // use this method for custom fields hashing instead of implementing your own
+        return Objects.hash(name, phone, level, getClassGroups(), getAssignments());
+    }
+
+    /**
+     * Returns the pooled values in {@code values}, sorted by {@code order} without duplicates.
+     * Values from a view over the array of another person are already so, and share that array.
+     */
+    private static <E> E[] toSortedArray(Set<E> values, UnaryOperator<E> intern, Comparator<? super E> order,
+            E[] empty) {
+        if (values instanceof SortedArraySet && ((SortedArraySet<E>) values).order == order) {
+            return ((SortedArraySet<E>) values).elements;
+        }
+        E[] elements = values.toArray(empty);
+        for (int i = 0; i < elements.length; i++) {
+            elements[i] = intern.apply(elements[i]);
+        }
+        Arrays.sort(elements, order);
+        int count = 0;
+        for (E element : elements) {
+            if (count == 0 || order.compare(elements[count - 1], element) != 0) {
+                elements[count++] = element;
+            }
+        }
+        return count == elements.length ? elements : Arrays.copyOf(elements, count);
     }
 
     public Name getName() {
@@ -56,7 +111,7 @@ public class Person {
      * if modification is attempted.
      */
     public Set<ClassGroup> getClassGroups() {
-        return Collections.unmodifiableSet(classGroups);
+        return new SortedArraySet<>(classGroups, CLASS_GROUP_ORDER, ClassGroup.class);
     }
 
     /**
@@ -64,7 +119,7 @@ public class Person {
      * if modification is attempted.
      */
     public Set<Assignment> getAssignments() {
-        return Collections.unmodifiableSet(assignments);
+        return new SortedArraySet<>(assignments, ASSIGNMENT_ORDER, Assignment.class);
     }
 
     /**
@@ -101,17 +156,17 @@ public class Person {
         }
 
         Person otherPerson = (Person) other;
-        return name.equals(otherPerson.name)
+        return hash == otherPerson.hash
+                && name.equals(otherPerson.name)
                 && phone.equals(otherPerson.phone)
                 && level.equals(otherPerson.level)
-                && classGroups.equals(otherPerson.classGroups)
-                && assignments.equals(otherPerson.assignments);
+                && Arrays.equals(classGroups, otherPerson.classGroups)
+                && Arrays.equals(assignments, otherPerson.assignments);
     }
 
     @Override
     public int hashCode() {
-        // use this method for custom fields hashing instead of implementing your own
-        return Objects.hash(name, phone, level, classGroups, assignments);
+        return hash;
     }
 
     @Override
@@ -120,8 +175,8 @@ public class Person {
                 .add("name", name)
                 .add("phone", phone)
                 .add("level", level)
-                .add("classes", classGroups)
-                .add("assignments", assignments)
+                .add("classes", getClassGroups())
+                .add("assignments", getAssignments())
                 .toString();
     }
 
@@ -131,7 +186,8 @@ public class Person {
      * @return A new Person instance with updated assignments
      */
     public Person withAssignments(Set<Assignment> newAssignments) {
-        return new Person(this.name, this.phone, this.level, this.classGroups, newAssignments);
+        return new Person(this.name, this.phone, this.level, this.classGroups,
+                toSortedArray(newAssignments, Assignment::intern, ASSIGNMENT_ORDER, NO_ASSIGNMENTS));
     }
 
     public Person withName(Name name) {
@@ -141,4 +197,65 @@ public class Person {
     public Person withPhone(Phone phone) {
         return new Person(this.name, phone, this.level, this.classGroups, this.assignments);
     }
+
+    /**
+     * An unmodifiable set backed by a sorted array without duplicates, in which elements are found by binary search.
+     * Every method that could modify it throws {@code UnsupportedOperationException}.
+     */
+    private static final class SortedArraySet<E> extends AbstractSet<E> {
+        private final E[] elements;
+        private final Comparator<? super E> order;
+        private final Class<E> type;
+
+        private SortedArraySet(E[] elements, Comparator<? super E> order, Class<E> type) {
+            this.elements = elements;
+            this.order = order;
+            this.type = type;
+        }
+
+        @Override
+        public Iterator<E> iterator() {
+            return Arrays.asList(elements).iterator();
+        }
+
+        @Override
+        public int size() {
+            return elements.length;
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            return type.isInstance(o) && Arrays.binarySearch(elements, type.cast(o), order) >= 0;
+        }
+
+        @Override
+        public boolean addAll(Collection<? extends E> c) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public boolean remove(Object o) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public boolean removeAll(Collection<?> c) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public boolean retainAll(Collection<?> c) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public boolean removeIf(Predicate<? super E> filter) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void clear() {
+            throw new UnsupportedOperationException();
+        }
+    }
 }
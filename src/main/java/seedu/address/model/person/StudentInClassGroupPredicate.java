@@ -20,6 +20,10 @@ public class StudentInClassGroupPredicate implements Predicate<Person> {
         this.classGroup = classGroup;
     }
 
+    public String getClassGroup() {
+        return classGroup;
+    }
+
     /**
      * Tests whether the given person belongs to the class group specified by this predicate.
      * The comparison is case-insensitive.
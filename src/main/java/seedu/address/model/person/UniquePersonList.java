@@ -3,13 +3,24 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.model.assignment.Assignment;
+import seedu.address.model.classgroup.ClassGroup;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
+import seedu.address.model.versionmanager.PersistentVector;
 
 /**
  * A list of persons that enforces uniqueness between its elements and does not allow nulls.
@@ -20,6 +31,18 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
  *
  * Supports a minimal set of list operations.
  *
+ * Identity, name, phone and class group lookups are answered from hash indexes that are kept in sync with the backing
+ * list on every mutation, so membership checks, locating a person for replacement or removal and listing the persons
+ * in a class group do not scan the list. The persons whose names contain a word are indexed the same way, once the
+ * first such lookup is made.
+ *
+ * Each person also holds a slot that stays the same while the person is in the list, and each assignment keeps
+ * bitmaps over the slots of the persons who have it and of those who marked it, so the persons who have (or have not)
+ * completed an assignment are found with bitmap operations instead of scanning everyone's assignments.
+ *
+ * The list also keeps a {@link PersistentVector} mirroring its contents. Snapshots taken with {@link #snapshot()}
+ * share structure with one another, and {@link #restore(PersistentVector)} only touches the persons that differ.
+ *
  * @see Person#isSamePerson(Person)
  */
 public class UniquePersonList implements Iterable<Person> {
@@ -28,12 +51,32 @@ public class UniquePersonList implements Iterable<Person> {
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
 
+    // Position of each person in internalList, keyed by identity (name and phone)
+    private final Map<Identity, Integer> positions = new HashMap<>();
+    // Number of persons in internalList sharing each name / phone
+    private final Map<Name, Integer> nameCounts = new HashMap<>();
+    private final Map<Phone, Integer> phoneCounts = new HashMap<>();
+    // Identities of the persons in each class group, keyed by the lookup key of the class group name
+    private final Map<String, Set<Identity>> classGroupMembers = new HashMap<>();
+    // Persons whose names contain each word, keyed by the case-folded word; built on the first lookup by name word
+    private Map<String, Set<Identity>> nameWordMembers;
+    // Slot of each person in the assignment bitmaps, and the person in each slot, or null if the slot is free
+    private final Map<Identity, Integer> slots = new HashMap<>();
+    private final List<Identity> slotOwners = new ArrayList<>();
+    private final BitSet usedSlots = new BitSet();
+    // Bitmaps over slots for each assignment, keyed by assignment, which ignores case and marking
+    private final Map<Assignment, AssignmentBitmaps> assignmentBitmaps = new HashMap<>();
+    // Immutable copy of internalList, updated alongside it
+    private PersistentVector<Person> persistentPersons = PersistentVector.empty();
+    // Sum of the checksums of the persons in internalList, updated as they are indexed and unindexed
+    private int stateChecksum = 0;
+
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        return positions.containsKey(Identity.of(toCheck));
     }
 
     /**
@@ -41,7 +84,7 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public boolean containsName(Name name) {
         requireNonNull(name);
-        return internalList.stream().anyMatch(person -> person.getName().equals(name));
+        return nameCounts.containsKey(name);
     }
 
     /**
@@ -49,7 +92,91 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public boolean containsPhone(Phone phone) {
         requireNonNull(phone);
-        return internalList.stream().anyMatch(person -> person.getPhone().equals(phone));
+        return phoneCounts.containsKey(phone);
+    }
+
+    /**
+     * Returns the persons in the class group named {@code classGroupName}, ignoring case, in list order.
+     */
+    public List<Person> getPersonsInClassGroup(String classGroupName) {
+        requireNonNull(classGroupName);
+        return getPersonsOf(classGroupMembers.get(ClassGroup.getLookupKey(classGroupName)));
+    }
+
+    /**
+     * Returns the number of persons in the class group named {@code classGroupName}, ignoring case.
+     */
+    public int countPersonsInClassGroup(String classGroupName) {
+        requireNonNull(classGroupName);
+        return classGroupMembers.getOrDefault(ClassGroup.getLookupKey(classGroupName), Set.of()).size();
+    }
+
+    /**
+     * Returns the persons whose names contain {@code word} as a whole word, ignoring case, in list order.
+     */
+    public List<Person> getPersonsWithNameWord(String word) {
+        requireNonNull(word);
+        return getPersonsOf(getNameWordMembers().get(toNameWordKey(word)));
+    }
+
+    /**
+     * Returns the number of persons whose names contain {@code word} as a whole word, ignoring case.
+     */
+    public int countPersonsWithNameWord(String word) {
+        requireNonNull(word);
+        return getNameWordMembers().getOrDefault(toNameWordKey(word), Set.of()).size();
+    }
+
+    /**
+     * Returns the persons who have {@code assignment}, marked or not, in list order.
+     */
+    public List<Person> getPersonsWithAssignment(Assignment assignment) {
+        requireNonNull(assignment);
+        AssignmentBitmaps bitmaps = assignmentBitmaps.get(assignment);
+        return bitmaps == null ? List.of() : getPersonsInSlots(bitmaps.assigned);
+    }
+
+    /**
+     * Returns the persons who have {@code assignment} and marked it if {@code isMarked}, or have not marked it
+     * otherwise, in list order.
+     */
+    public List<Person> getPersonsWithAssignment(Assignment assignment, boolean isMarked) {
+        requireNonNull(assignment);
+        AssignmentBitmaps bitmaps = assignmentBitmaps.get(assignment);
+        if (bitmaps == null) {
+            return List.of();
+        }
+        BitSet matching = (BitSet) bitmaps.assigned.clone();
+        if (isMarked) {
+            matching.and(bitmaps.marked);
+        } else {
+            matching.andNot(bitmaps.marked);
+        }
+        return getPersonsInSlots(matching);
+    }
+
+    /**
+     * Returns the number of persons who have {@code assignment}, marked or not.
+     */
+    public int countPersonsWithAssignment(Assignment assignment) {
+        requireNonNull(assignment);
+        AssignmentBitmaps bitmaps = assignmentBitmaps.get(assignment);
+        return bitmaps == null ? 0 : bitmaps.assigned.cardinality();
+    }
+
+    /**
+     * Returns the number of persons who have {@code assignment} and marked it if {@code isMarked}, or have not marked
+     * it otherwise.
+     */
+    public int countPersonsWithAssignment(Assignment assignment, boolean isMarked) {
+        requireNonNull(assignment);
+        AssignmentBitmaps bitmaps = assignmentBitmaps.get(assignment);
+        if (bitmaps == null) {
+            return 0;
+        }
+        // only assigned slots are ever marked
+        int markedCount = bitmaps.marked.cardinality();
+        return isMarked ? markedCount : bitmaps.assigned.cardinality() - markedCount;
     }
 
     /**
@@ -62,6 +189,37 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
         internalList.add(toAdd);
+        index(toAdd, internalList.size() - 1);
+        persistentPersons = persistentPersons.append(toAdd);
+    }
+
+    /**
+     * Inserts a person into the list at {@code index}, shifting later persons down by one.
+     * The person must not already exist in the list.
+     *
+     * @throws IndexOutOfBoundsException if {@code index} is not within {@code [0, size]}.
+     */
+    public void add(int index, Person toAdd) {
+        requireNonNull(toAdd);
+        Objects.checkIndex(index, internalList.size() + 1);
+        if (contains(toAdd)) {
+            throw new DuplicatePersonException();
+        }
+        internalList.add(index, toAdd);
+        index(toAdd, index);
+        // persons after the inserted one have shifted up by one
+        for (int i = index + 1; i < internalList.size(); i++) {
+            positions.put(Identity.of(internalList.get(i)), i);
+        }
+        persistentPersons = persistentPersons.insert(index, toAdd);
+    }
+
+    /**
+     * Returns the position of the person equal to {@code person} in the list, or -1 if there is none.
+     */
+    public int indexOf(Person person) {
+        requireNonNull(person);
+        return positionOf(person);
     }
 
     /**
@@ -72,7 +230,7 @@ public class UniquePersonList implements Iterable<Person> {
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
 
-        int index = internalList.indexOf(target);
+        int index = positionOf(target);
         if (index == -1) {
             throw new PersonNotFoundException();
         }
@@ -82,6 +240,9 @@ public class UniquePersonList implements Iterable<Person> {
         }
 
         internalList.set(index, editedPerson);
+        unindex(target);
+        index(editedPerson, index);
+        persistentPersons = persistentPersons.set(index, editedPerson);
     }
 
     /**
@@ -90,14 +251,25 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void remove(Person toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = positionOf(toRemove);
+        if (index == -1) {
             throw new PersonNotFoundException();
         }
+
+        internalList.remove(index);
+        unindex(toRemove);
+        // persons after the removed one have shifted down by one
+        for (int i = index; i < internalList.size(); i++) {
+            positions.put(Identity.of(internalList.get(i)), i);
+        }
+        persistentPersons = persistentPersons.remove(index);
     }
 
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        reindex();
+        persistentPersons = replacement.persistentPersons;
     }
 
     /**
@@ -111,6 +283,70 @@ public class UniquePersonList implements Iterable<Person> {
         }
 
         internalList.setAll(persons);
+        reindex();
+        persistentPersons = PersistentVector.copyOf(persons);
+    }
+
+    /**
+     * Returns an immutable snapshot of the persons currently in the list, in order.
+     * Taking a snapshot is O(1); consecutive snapshots share every part of the list that did not change between them.
+     */
+    public PersistentVector<Person> snapshot() {
+        return persistentPersons;
+    }
+
+    /**
+     * Replaces the contents of this list with the persons in {@code target}, which must have been obtained from
+     * {@link #snapshot()}. Only the ranges in which {@code target} differs from the current contents are replaced,
+     * so restoring a snapshot derived from the current one touches only the persons changed in between, apart from
+     * recording the new positions of later persons when the size of a range changes.
+     */
+    public void restore(PersistentVector<Person> target) {
+        requireNonNull(target);
+        List<int[]> ranges = new ArrayList<>();
+        persistentPersons.forEachDifference(target, (from, removedCount, targetFrom, addedCount) ->
+                ranges.add(new int[] {from, removedCount, targetFrom, addedCount}));
+
+        // unindex every outgoing person before indexing incoming ones, as an identity may move between positions
+        int firstMoved = target.size();
+        for (int[] range : ranges) {
+            for (int i = range[0]; i < range[0] + range[1]; i++) {
+                unindex(internalList.get(i));
+            }
+            if (range[1] != range[3]) {
+                firstMoved = Math.min(firstMoved, range[2] + range[3]);
+            }
+        }
+
+        // replace the last range first, so that the positions of the earlier ones stay the same
+        for (int r = ranges.size() - 1; r >= 0; r--) {
+            int from = ranges.get(r)[0];
+            int removedCount = ranges.get(r)[1];
+            int targetFrom = ranges.get(r)[2];
+            int addedCount = ranges.get(r)[3];
+            int replacedCount = Math.min(removedCount, addedCount);
+            for (int i = 0; i < replacedCount; i++) {
+                internalList.set(from + i, target.get(targetFrom + i));
+            }
+            if (removedCount > replacedCount) {
+                internalList.remove(from + replacedCount, from + removedCount);
+            }
+            List<Person> added = new ArrayList<>();
+            for (int i = replacedCount; i < addedCount; i++) {
+                added.add(target.get(targetFrom + i));
+            }
+            internalList.addAll(from + replacedCount, added);
+        }
+
+        for (int[] range : ranges) {
+            for (int i = range[2]; i < range[2] + range[3]; i++) {
+                index(internalList.get(i), i);
+            }
+        }
+        for (int i = firstMoved; i < internalList.size(); i++) {
+            positions.put(Identity.of(internalList.get(i)), i);
+        }
+        persistentPersons = target;
     }
 
     /**
@@ -125,6 +361,15 @@ public class UniquePersonList implements Iterable<Person> {
         return internalList.iterator();
     }
 
+    /**
+     * Returns a checksum of the persons in the list, including which of their assignments are marked, that is
+     * kept up to date as persons change and so takes constant time to get. It does not depend on the order of the
+     * persons.
+     */
+    public int getStateChecksum() {
+        return stateChecksum;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -150,17 +395,245 @@ public class UniquePersonList implements Iterable<Person> {
         return internalList.toString();
     }
 
+    /**
+     * Returns the position of the person equal to {@code person} in the list, or -1 if there is none.
+     */
+    private int positionOf(Person person) {
+        Integer index = positions.get(Identity.of(person));
+        if (index == null || !internalList.get(index).equals(person)) {
+            return -1;
+        }
+        return index;
+    }
+
+    private List<Person> getPersonsOf(Set<Identity> identities) {
+        if (identities == null) {
+            return List.of();
+        }
+        int[] indices = new int[identities.size()];
+        int count = 0;
+        for (Identity identity : identities) {
+            indices[count++] = positions.get(identity);
+        }
+        Arrays.sort(indices);
+        List<Person> persons = new ArrayList<>(indices.length);
+        for (int index : indices) {
+            persons.add(internalList.get(index));
+        }
+        return persons;
+    }
+
+    private Map<String, Set<Identity>> getNameWordMembers() {
+        if (nameWordMembers == null) {
+            nameWordMembers = new HashMap<>();
+            for (Person person : internalList) {
+                indexNameWords(person);
+            }
+        }
+        return nameWordMembers;
+    }
+
+    /**
+     * Returns the key of {@code word} in the name word index, which is the same for words that are equal ignoring
+     * case as {@link String#equalsIgnoreCase(String)} compares them.
+     */
+    private static String toNameWordKey(String word) {
+        char[] chars = word.toCharArray();
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = Character.toLowerCase(Character.toUpperCase(chars[i]));
+        }
+        return new String(chars);
+    }
+
+    private static String[] getNameWords(Person person) {
+        return person.getName().fullName.split("\\s+");
+    }
+
+    private void indexNameWords(Person person) {
+        Identity identity = Identity.of(person);
+        for (String word : getNameWords(person)) {
+            nameWordMembers.computeIfAbsent(toNameWordKey(word), unused -> new HashSet<>()).add(identity);
+        }
+    }
+
+    private void unindexNameWords(Person person) {
+        Identity identity = Identity.of(person);
+        for (String word : getNameWords(person)) {
+            nameWordMembers.computeIfPresent(toNameWordKey(word), (unused, members) ->
+                    members.remove(identity) && members.isEmpty() ? null : members);
+        }
+    }
+
+    private List<Person> getPersonsInSlots(BitSet slotsToGet) {
+        int[] indices = slotsToGet.stream().map(slot -> positions.get(slotOwners.get(slot))).sorted().toArray();
+        List<Person> persons = new ArrayList<>(indices.length);
+        for (int index : indices) {
+            persons.add(internalList.get(index));
+        }
+        return persons;
+    }
+
+    /**
+     * Records {@code person}, found at {@code index} of the backing list, in all indexes.
+     */
+    private void index(Person person, int index) {
+        Identity identity = Identity.of(person);
+        positions.put(identity, index);
+        stateChecksum += checksumOf(person);
+        nameCounts.merge(person.getName(), 1, Integer::sum);
+        phoneCounts.merge(person.getPhone(), 1, Integer::sum);
+        for (ClassGroup classGroup : person.getClassGroups()) {
+            classGroupMembers.computeIfAbsent(classGroup.getLookupKey(),
+                    unused -> new HashSet<>()).add(identity);
+        }
+        if (nameWordMembers != null) {
+            indexNameWords(person);
+        }
+
+        int slot = usedSlots.nextClearBit(0);
+        usedSlots.set(slot);
+        if (slot == slotOwners.size()) {
+            slotOwners.add(identity);
+        } else {
+            slotOwners.set(slot, identity);
+        }
+        slots.put(identity, slot);
+        for (Assignment assignment : person.getAssignments()) {
+            AssignmentBitmaps bitmaps =
+                    assignmentBitmaps.computeIfAbsent(assignment, unused -> new AssignmentBitmaps());
+            bitmaps.assigned.set(slot);
+            bitmaps.marked.set(slot, assignment.isMarked());
+        }
+    }
+
+    /**
+     * Removes {@code person} from all indexes.
+     */
+    private void unindex(Person person) {
+        Identity identity = Identity.of(person);
+        positions.remove(identity);
+        decrement(nameCounts, person.getName());
+        decrement(phoneCounts, person.getPhone());
+        for (ClassGroup classGroup : person.getClassGroups()) {
+            classGroupMembers.computeIfPresent(classGroup.getLookupKey(), (unused, members) ->
+                    members.remove(identity) && members.isEmpty() ? null : members);
+        }
+        if (nameWordMembers != null) {
+            unindexNameWords(person);
+        }
+
+        Integer slot = slots.remove(identity);
+        if (slot == null) {
+            return;
+        }
+        stateChecksum -= checksumOf(person);
+        usedSlots.clear(slot);
+        slotOwners.set(slot, null);
+        for (Assignment assignment : person.getAssignments()) {
+            assignmentBitmaps.computeIfPresent(assignment, (unused, bitmaps) -> {
+                bitmaps.assigned.clear(slot);
+                bitmaps.marked.clear(slot);
+                return bitmaps.assigned.isEmpty() ? null : bitmaps;
+            });
+        }
+    }
+
+    /**
+     * Returns the checksum of {@code person} and the marks of its assignments, which {@link Person#hashCode()}
+     * ignores. The bits are mixed so that moving a mark to another person changes the sum of the checksums.
+     */
+    private static int checksumOf(Person person) {
+        int marks = 0;
+        for (Assignment assignment : person.getAssignments()) {
+            if (assignment.isMarked()) {
+                marks += assignment.hashCode();
+            }
+        }
+        int checksum = 31 * person.hashCode() + marks;
+        checksum = (checksum ^ (checksum >>> 16)) * 0x85ebca6b;
+        checksum = (checksum ^ (checksum >>> 13)) * 0xc2b2ae35;
+        return checksum ^ (checksum >>> 16);
+    }
+
+    private static <K> void decrement(Map<K, Integer> counts, K key) {
+        counts.computeIfPresent(key, (unused, count) -> count == 1 ? null : count - 1);
+    }
+
+    /**
+     * Rebuilds all indexes from the backing list.
+     */
+    private void reindex() {
+        positions.clear();
+        nameCounts.clear();
+        phoneCounts.clear();
+        classGroupMembers.clear();
+        nameWordMembers = null;
+        slots.clear();
+        slotOwners.clear();
+        usedSlots.clear();
+        assignmentBitmaps.clear();
+        stateChecksum = 0;
+        for (int i = 0; i < internalList.size(); i++) {
+            index(internalList.get(i), i);
+        }
+    }
+
     /**
      * Returns true if {@code persons} contains only unique persons.
      */
     private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
+        Set<Identity> seen = new HashSet<>();
+        for (Person person : persons) {
+            if (!seen.add(Identity.of(person))) {
+                return false;
             }
         }
         return true;
     }
+
+    /**
+     * The slots of the persons who have an assignment, and of those among them who marked it.
+     */
+    private static final class AssignmentBitmaps {
+        private final BitSet assigned = new BitSet();
+        private final BitSet marked = new BitSet();
+    }
+
+    /**
+     * The identity of a person as defined by {@link Person#isSamePerson(Person)}, usable as a hash key.
+     */
+    private static final class Identity {
+        private final Name name;
+        private final Phone phone;
+        private final int hash;
+
+        private Identity(Name name, Phone phone) {
+            this.name = name;
+            this.phone = phone;
+            this.hash = 31 * name.hashCode() + phone.hashCode();
+        }
+
+        static Identity of(Person person) {
+            return new Identity(person.getName(), person.getPhone());
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+
+            if (!(other instanceof Identity)) {
+                return false;
+            }
+
+            Identity otherIdentity = (Identity) other;
+            return hash == otherIdentity.hash && name.equals(otherIdentity.name) && phone.equals(otherIdentity.phone);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
 }
@@ -0,0 +1,86 @@
+package seedu.address.model.query;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+
+/**
+ * Matches the persons matching every one of its queries.
+ * Its candidates are those of its most selective query that can be looked up.
+ */
+public class AndQuery extends PersonQuery {
+
+    private final List<PersonQuery> queries;
+
+    /**
+     * Constructs an {@code AndQuery} of at least one query.
+     */
+    public AndQuery(List<PersonQuery> queries) {
+        requireNonNull(queries);
+        assert !queries.isEmpty();
+        this.queries = List.copyOf(queries);
+    }
+
+    @Override
+    public boolean test(Person person) {
+        for (PersonQuery query : queries) {
+            if (!query.test(person)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    int estimateCandidates(AddressBook addressBook) {
+        int estimate = UNINDEXED;
+        for (PersonQuery query : queries) {
+            estimate = Math.min(estimate, query.estimateCandidates(addressBook));
+        }
+        return estimate;
+    }
+
+    @Override
+    int[] getCandidates(AddressBook addressBook) {
+        PersonQuery mostSelective = queries.get(0);
+        int estimate = mostSelective.estimateCandidates(addressBook);
+        for (PersonQuery query : queries.subList(1, queries.size())) {
+            int queryEstimate = query.estimateCandidates(addressBook);
+            if (queryEstimate < estimate) {
+                mostSelective = query;
+                estimate = queryEstimate;
+            }
+        }
+        assert estimate != UNINDEXED;
+        return mostSelective.getCandidates(addressBook);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof AndQuery)) {
+            return false;
+        }
+
+        AndQuery otherAndQuery = (AndQuery) other;
+        return queries.equals(otherAndQuery.queries);
+    }
+
+    @Override
+    public int hashCode() {
+        return queries.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("queries", queries).toString();
+    }
+}
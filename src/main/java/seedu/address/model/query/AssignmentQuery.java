@@ -0,0 +1,93 @@
+package seedu.address.model.query;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Objects;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.AddressBook;
+import seedu.address.model.assignment.Assignment;
+import seedu.address.model.person.Person;
+
+/**
+ * Matches the persons who have an assignment, optionally only those who marked it or only those who did not.
+ * Its candidates are looked up in the bitmaps of the assignment.
+ */
+public class AssignmentQuery extends PersonQuery {
+
+    private final Assignment assignment;
+    // Whether the assignment must be marked, or null if it may be either
+    private final Boolean isMarked;
+
+    /**
+     * Constructs an {@code AssignmentQuery} of the persons who have {@code assignment}, marked or not.
+     */
+    public AssignmentQuery(Assignment assignment) {
+        requireNonNull(assignment);
+        this.assignment = assignment;
+        this.isMarked = null;
+    }
+
+    /**
+     * Constructs an {@code AssignmentQuery} of the persons who have {@code assignment} and marked it if
+     * {@code isMarked}, or have not marked it otherwise.
+     */
+    public AssignmentQuery(Assignment assignment, boolean isMarked) {
+        requireNonNull(assignment);
+        this.assignment = assignment;
+        this.isMarked = isMarked;
+    }
+
+    @Override
+    public boolean test(Person person) {
+        for (Assignment personAssignment : person.getAssignments()) {
+            if (personAssignment.equals(assignment)) {
+                return isMarked == null || personAssignment.isMarked() == isMarked;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    int estimateCandidates(AddressBook addressBook) {
+        return isMarked == null
+                ? addressBook.countPersonsWithAssignment(assignment)
+                : addressBook.countPersonsWithAssignment(assignment, isMarked);
+    }
+
+    @Override
+    int[] getCandidates(AddressBook addressBook) {
+        return toPositions(addressBook, isMarked == null
+                ? addressBook.getPersonsWithAssignment(assignment)
+                : addressBook.getPersonsWithAssignment(assignment, isMarked));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof AssignmentQuery)) {
+            return false;
+        }
+
+        AssignmentQuery otherAssignmentQuery = (AssignmentQuery) other;
+        return assignment.equals(otherAssignmentQuery.assignment)
+                && Objects.equals(isMarked, otherAssignmentQuery.isMarked);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(assignment, isMarked);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("assignment", assignment)
+                .add("isMarked", isMarked)
+                .toString();
+    }
+}
@@ -0,0 +1,72 @@
+package seedu.address.model.query;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.AddressBook;
+import seedu.address.model.classgroup.ClassGroup;
+import seedu.address.model.person.Person;
+
+/**
+ * Matches the persons in a class group, ignoring case.
+ * Its candidates are looked up in the index of class group members.
+ */
+public class ClassGroupQuery extends PersonQuery {
+
+    private final String classGroupName;
+    private final String lookupKey;
+
+    /**
+     * Constructs a {@code ClassGroupQuery} of the class group named {@code classGroupName}.
+     */
+    public ClassGroupQuery(String classGroupName) {
+        requireNonNull(classGroupName);
+        this.classGroupName = classGroupName;
+        this.lookupKey = ClassGroup.getLookupKey(classGroupName);
+    }
+
+    @Override
+    public boolean test(Person person) {
+        for (ClassGroup classGroup : person.getClassGroups()) {
+            if (classGroup.getLookupKey().equals(lookupKey)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    int estimateCandidates(AddressBook addressBook) {
+        return addressBook.countPersonsInClassGroup(classGroupName);
+    }
+
+    @Override
+    int[] getCandidates(AddressBook addressBook) {
+        return toPositions(addressBook, addressBook.getPersonsInClassGroup(classGroupName));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ClassGroupQuery)) {
+            return false;
+        }
+
+        ClassGroupQuery otherClassGroupQuery = (ClassGroupQuery) other;
+        return classGroupName.equals(otherClassGroupQuery.classGroupName);
+    }
+
+    @Override
+    public int hashCode() {
+        return classGroupName.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("classGroupName", classGroupName).toString();
+    }
+}
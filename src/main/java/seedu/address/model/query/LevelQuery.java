@@ -0,0 +1,65 @@
+package seedu.address.model.query;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Level;
+import seedu.address.model.person.Person;
+
+/**
+ * Matches the persons at a level.
+ * It cannot be looked up, so it is tested against every person unless combined with a query that can.
+ */
+public class LevelQuery extends PersonQuery {
+
+    private final Level level;
+
+    /**
+     * Constructs a {@code LevelQuery} of {@code level}.
+     */
+    public LevelQuery(Level level) {
+        requireNonNull(level);
+        this.level = level;
+    }
+
+    @Override
+    public boolean test(Person person) {
+        return person.getLevel().equals(level);
+    }
+
+    @Override
+    int estimateCandidates(AddressBook addressBook) {
+        return UNINDEXED;
+    }
+
+    @Override
+    int[] getCandidates(AddressBook addressBook) {
+        throw new UnsupportedOperationException("A level query cannot be looked up");
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof LevelQuery)) {
+            return false;
+        }
+
+        LevelQuery otherLevelQuery = (LevelQuery) other;
+        return level.equals(otherLevelQuery.level);
+    }
+
+    @Override
+    public int hashCode() {
+        return level.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("level", level).toString();
+    }
+}
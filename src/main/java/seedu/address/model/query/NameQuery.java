@@ -0,0 +1,81 @@
+package seedu.address.model.query;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+
+/**
+ * Matches the persons whose names contain any of the keywords as a whole word, ignoring case, as {@code find} does.
+ * Its candidates are looked up in the index of name words.
+ */
+public class NameQuery extends PersonQuery {
+
+    private final List<String> keywords;
+
+    /**
+     * Constructs a {@code NameQuery} of at least one keyword, each a single word.
+     */
+    public NameQuery(List<String> keywords) {
+        requireNonNull(keywords);
+        assert !keywords.isEmpty();
+        this.keywords = List.copyOf(keywords);
+    }
+
+    @Override
+    public boolean test(Person person) {
+        for (String keyword : keywords) {
+            if (StringUtil.containsWordIgnoreCase(person.getName().fullName, keyword)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    int estimateCandidates(AddressBook addressBook) {
+        int estimate = 0;
+        for (String keyword : keywords) {
+            estimate += addressBook.countPersonsWithNameWord(keyword);
+        }
+        return estimate;
+    }
+
+    @Override
+    int[] getCandidates(AddressBook addressBook) {
+        int[] candidates = new int[0];
+        for (String keyword : keywords) {
+            candidates = union(candidates, toPositions(addressBook, addressBook.getPersonsWithNameWord(keyword)));
+        }
+        return candidates;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof NameQuery)) {
+            return false;
+        }
+
+        NameQuery otherNameQuery = (NameQuery) other;
+        return keywords.equals(otherNameQuery.keywords);
+    }
+
+    @Override
+    public int hashCode() {
+        return keywords.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("keywords", keywords).toString();
+    }
+}
@@ -0,0 +1,64 @@
+package seedu.address.model.query;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+
+/**
+ * Matches the persons not matching its query.
+ * It cannot be looked up, as most persons usually match it.
+ */
+public class NotQuery extends PersonQuery {
+
+    private final PersonQuery query;
+
+    /**
+     * Constructs a {@code NotQuery} of {@code query}.
+     */
+    public NotQuery(PersonQuery query) {
+        requireNonNull(query);
+        this.query = query;
+    }
+
+    @Override
+    public boolean test(Person person) {
+        return !query.test(person);
+    }
+
+    @Override
+    int estimateCandidates(AddressBook addressBook) {
+        return UNINDEXED;
+    }
+
+    @Override
+    int[] getCandidates(AddressBook addressBook) {
+        throw new UnsupportedOperationException("A NOT query cannot be looked up");
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof NotQuery)) {
+            return false;
+        }
+
+        NotQuery otherNotQuery = (NotQuery) other;
+        return query.equals(otherNotQuery.query);
+    }
+
+    @Override
+    public int hashCode() {
+        return query.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("query", query).toString();
+    }
+}
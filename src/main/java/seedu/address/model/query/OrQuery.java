@@ -0,0 +1,84 @@
+package seedu.address.model.query;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+
+/**
+ * Matches the persons matching any of its queries.
+ * It can only be looked up if every one of its queries can, and its candidates are theirs together.
+ */
+public class OrQuery extends PersonQuery {
+
+    private final List<PersonQuery> queries;
+
+    /**
+     * Constructs an {@code OrQuery} of at least one query.
+     */
+    public OrQuery(List<PersonQuery> queries) {
+        requireNonNull(queries);
+        assert !queries.isEmpty();
+        this.queries = List.copyOf(queries);
+    }
+
+    @Override
+    public boolean test(Person person) {
+        for (PersonQuery query : queries) {
+            if (query.test(person)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    int estimateCandidates(AddressBook addressBook) {
+        long estimate = 0;
+        for (PersonQuery query : queries) {
+            int queryEstimate = query.estimateCandidates(addressBook);
+            if (queryEstimate == UNINDEXED) {
+                return UNINDEXED;
+            }
+            estimate += queryEstimate;
+        }
+        return (int) Math.min(estimate, UNINDEXED - 1);
+    }
+
+    @Override
+    int[] getCandidates(AddressBook addressBook) {
+        int[] candidates = new int[0];
+        for (PersonQuery query : queries) {
+            candidates = union(candidates, query.getCandidates(addressBook));
+        }
+        return candidates;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof OrQuery)) {
+            return false;
+        }
+
+        OrQuery otherOrQuery = (OrQuery) other;
+        return queries.equals(otherOrQuery.queries);
+    }
+
+    @Override
+    public int hashCode() {
+        return queries.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("queries", queries).toString();
+    }
+}
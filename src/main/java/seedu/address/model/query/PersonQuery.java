@@ -0,0 +1,82 @@
+package seedu.address.model.query;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+
+/**
+ * A condition on persons that can be combined with others with {@link AndQuery}, {@link OrQuery} and
+ * {@link NotQuery}, and that finds the persons matching it in an address book from the address book's indexes where
+ * it can.
+ * <p>
+ * Each query estimates how many candidates looking it up in an index would give, or {@link #UNINDEXED} if it cannot
+ * be looked up. An AND looks up only its most selective child and tests the candidates against the others, an OR
+ * unites the candidates of its children if every child can be looked up, and a query that cannot be looked up is
+ * answered by testing every person.
+ */
+public abstract class PersonQuery implements Predicate<Person> {
+
+    /** Estimate of a query that cannot be looked up in an index. */
+    static final int UNINDEXED = Integer.MAX_VALUE;
+
+    /**
+     * Returns the positions in the person list of {@code addressBook} of the persons matching this query, in
+     * increasing order.
+     */
+    public int[] findMatches(AddressBook addressBook) {
+        requireNonNull(addressBook);
+        List<Person> persons = addressBook.getPersonList();
+        IntStream candidates = estimateCandidates(addressBook) < persons.size()
+                ? IntStream.of(getCandidates(addressBook))
+                : IntStream.range(0, persons.size());
+        return candidates.filter(index -> test(persons.get(index))).toArray();
+    }
+
+    /**
+     * Returns the number of candidates that {@link #getCandidates(AddressBook)} would give, or {@link #UNINDEXED} if
+     * this query cannot be looked up in the indexes of {@code addressBook}.
+     */
+    abstract int estimateCandidates(AddressBook addressBook);
+
+    /**
+     * Returns the positions in the person list of {@code addressBook}, in increasing order, of the persons that may
+     * match this query, which include every person that does.
+     * Only called if {@link #estimateCandidates(AddressBook)} is not {@link #UNINDEXED}.
+     */
+    abstract int[] getCandidates(AddressBook addressBook);
+
+    /**
+     * Returns the positions in the person list of {@code addressBook} of {@code persons}, which must be in list order.
+     */
+    static int[] toPositions(AddressBook addressBook, List<Person> persons) {
+        return persons.stream().mapToInt(addressBook::indexOf).toArray();
+    }
+
+    /**
+     * Returns the positions in either {@code positions} or {@code otherPositions}, both in increasing order, in
+     * increasing order.
+     */
+    static int[] union(int[] positions, int[] otherPositions) {
+        int[] union = new int[positions.length + otherPositions.length];
+        int i = 0;
+        int j = 0;
+        int count = 0;
+        while (i < positions.length || j < otherPositions.length) {
+            if (j == otherPositions.length || (i < positions.length && positions[i] < otherPositions[j])) {
+                union[count++] = positions[i++];
+            } else if (i == positions.length || otherPositions[j] < positions[i]) {
+                union[count++] = otherPositions[j++];
+            } else {
+                union[count++] = positions[i++];
+                j++;
+            }
+        }
+        return Arrays.copyOf(union, count);
+    }
+}
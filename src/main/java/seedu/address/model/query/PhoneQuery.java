@@ -0,0 +1,65 @@
+package seedu.address.model.query;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+
+/**
+ * Matches the persons with a phone number.
+ * It cannot be looked up, so it is tested against every person unless combined with a query that can.
+ */
+public class PhoneQuery extends PersonQuery {
+
+    private final Phone phone;
+
+    /**
+     * Constructs a {@code PhoneQuery} of {@code phone}.
+     */
+    public PhoneQuery(Phone phone) {
+        requireNonNull(phone);
+        this.phone = phone;
+    }
+
+    @Override
+    public boolean test(Person person) {
+        return person.getPhone().equals(phone);
+    }
+
+    @Override
+    int estimateCandidates(AddressBook addressBook) {
+        return UNINDEXED;
+    }
+
+    @Override
+    int[] getCandidates(AddressBook addressBook) {
+        throw new UnsupportedOperationException("A phone query cannot be looked up");
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof PhoneQuery)) {
+            return false;
+        }
+
+        PhoneQuery otherPhoneQuery = (PhoneQuery) other;
+        return phone.equals(otherPhoneQuery.phone);
+    }
+
+    @Override
+    public int hashCode() {
+        return phone.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("phone", phone).toString();
+    }
+}
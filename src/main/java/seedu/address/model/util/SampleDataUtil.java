@@ -59,7 +59,7 @@ public class SampleDataUtil {
      */
     public static Set<ClassGroup> getClassGroup(String... strings) {
         return Arrays.stream(strings)
-                .map(ClassGroup::new)
+                .map(ClassGroup::of)
                 .collect(Collectors.toSet());
     }
 
@@ -69,7 +69,7 @@ public class SampleDataUtil {
      */
     public static Set<Assignment> getAssignmentSet(String classGroupName, String... assignmentNames) {
         return Arrays.stream(assignmentNames)
-                .map(assignmentName -> new Assignment(assignmentName, classGroupName))
+                .map(assignmentName -> Assignment.of(assignmentName, classGroupName, false))
                 .collect(Collectors.toSet());
     }
 
@@ -0,0 +1,178 @@
+package seedu.address.model.versionmanager;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Stack;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.versionmanager.exceptions.CorruptedHistoryException;
+import seedu.address.model.versionmanager.exceptions.NoPreviousCommitException;
+import seedu.address.model.versionmanager.exceptions.NoPreviousUndoException;
+
+/**
+ * A {@code AddressBookChangeJournal} supports undo and redo by keeping, for every committed version, only the
+ * {@link PersonChange}s that produced it from the previous version.
+ * <p>
+ * Undo reverts the changes of the latest version in reverse order, and redo reapplies them in order, so both cost
+ * time and memory proportional to the number of persons a command changed rather than to the size of the roster.
+ * <p>
+ * The history is bounded by an {@link UndoHistoryBudget}: once it is exceeded, the changes of the oldest versions
+ * are dropped, folding them into the base state that can no longer be undone.
+ * <p>
+ * Versions from a previous session can be added with {@link #restore(List, List)}; their changes are only loaded
+ * when they are undone or redone.
+ */
+public class AddressBookChangeJournal implements VersionHistory {
+
+    private final Stack<List<PersonChange>> undoStack = new Stack<>();
+    private final Stack<List<PersonChange>> redoStack = new Stack<>();
+    private final UndoHistoryBudget budget;
+    private List<PersonChange> pendingChanges = new ArrayList<>();
+    private long estimatedSize;
+
+    /**
+     * Constructs a {@code AddressBookChangeJournal} with no limit on the size of its history.
+     */
+    public AddressBookChangeJournal() {
+        this(UndoHistoryBudget.UNLIMITED);
+    }
+
+    /**
+     * Constructs a {@code AddressBookChangeJournal} whose history is bounded by {@code budget}.
+     */
+    public AddressBookChangeJournal(UndoHistoryBudget budget) {
+        requireNonNull(budget);
+        this.budget = budget;
+    }
+
+    @Override
+    public void recordChange(PersonChange change) {
+        pendingChanges.add(change);
+    }
+
+    @Override
+    public void commitChanges(AddressBook current) {
+        undoStack.push(pendingChanges);
+        estimatedSize += SizeEstimator.estimate(pendingChanges);
+        pendingChanges = new ArrayList<>();
+        redoStack.forEach(changes -> estimatedSize -= SizeEstimator.estimate(changes));
+        redoStack.clear();
+        evictOverBudget();
+    }
+
+    @Override
+    public List<PersonChange> undoChanges(AddressBook target) throws NoPreviousCommitException {
+        if (!isTopLoadable(undoStack)) {
+            throw new NoPreviousCommitException();
+        }
+        List<PersonChange> made = discardPendingChanges(target);
+        List<PersonChange> changes = undoStack.pop();
+        made.addAll(revert(changes, target));
+        redoStack.push(changes);
+        return made;
+    }
+
+    @Override
+    public List<PersonChange> redoChanges(AddressBook target) throws NoPreviousUndoException {
+        if (!isTopLoadable(redoStack)) {
+            throw new NoPreviousUndoException();
+        }
+        List<PersonChange> made = discardPendingChanges(target);
+        List<PersonChange> changes = redoStack.pop();
+        for (PersonChange change : changes) {
+            change.apply(target);
+        }
+        made.addAll(changes);
+        undoStack.push(changes);
+        return made;
+    }
+
+    @Override
+    public void restore(List<List<PersonChange>> undoable, List<List<PersonChange>> redoable) {
+        undoStack.addAll(0, undoable);
+        for (List<PersonChange> changes : redoable) {
+            redoStack.add(0, changes);
+        }
+        undoable.forEach(changes -> estimatedSize += SizeEstimator.estimate(changes));
+        redoable.forEach(changes -> estimatedSize += SizeEstimator.estimate(changes));
+        evictOverBudget();
+    }
+
+    private void evictOverBudget() {
+        while (!undoStack.isEmpty() && budget.isExceededBy(undoStack.size(), estimatedSize)) {
+            estimatedSize -= SizeEstimator.estimate(undoStack.remove(0));
+        }
+    }
+
+    /**
+     * Returns true if {@code stack} has a version whose changes can be read.
+     * If the changes of the top version cannot be read, that version and all versions below it are dropped.
+     */
+    private boolean isTopLoadable(Stack<List<PersonChange>> stack) {
+        if (stack.isEmpty()) {
+            return false;
+        }
+        try {
+            stack.peek().size();
+            return true;
+        } catch (CorruptedHistoryException e) {
+            stack.forEach(changes -> estimatedSize -= SizeEstimator.estimate(changes));
+            stack.clear();
+            return false;
+        }
+    }
+
+    @Override
+    public int getVersionCount() {
+        return undoStack.size() + redoStack.size();
+    }
+
+    /**
+     * Returns the estimated memory, in bytes, retained by the changes of versions that can be undone or redone.
+     */
+    @Override
+    public long getEstimatedSize() {
+        return estimatedSize;
+    }
+
+    /**
+     * Returns the stack of changes made by each committed version, latest on top.
+     */
+    public Stack<List<PersonChange>> getUndoStack() {
+        return undoStack;
+    }
+
+    /**
+     * Returns the stack of changes made by each undone version, most recently undone on top.
+     */
+    public Stack<List<PersonChange>> getRedoStack() {
+        return redoStack;
+    }
+
+    /**
+     * Returns the changes recorded since the last commit.
+     */
+    public List<PersonChange> getPendingChanges() {
+        return pendingChanges;
+    }
+
+    private List<PersonChange> discardPendingChanges(AddressBook target) {
+        List<PersonChange> made = revert(pendingChanges, target);
+        pendingChanges = new ArrayList<>();
+        return made;
+    }
+
+    /**
+     * Reverts {@code changes} on {@code target} and returns the inverse changes that were made, in order.
+     */
+    private static List<PersonChange> revert(List<PersonChange> changes, AddressBook target) {
+        List<PersonChange> made = new ArrayList<>(changes.size());
+        for (int i = changes.size() - 1; i >= 0; i--) {
+            changes.get(i).revert(target);
+            made.add(changes.get(i).inverse());
+        }
+        return made;
+    }
+}
@@ -1,45 +1,113 @@
 package seedu.address.model.versionmanager;
 
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
 import java.util.Stack;
 
+import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookSnapshot;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.versionmanager.exceptions.CorruptedHistoryException;
 import seedu.address.model.versionmanager.exceptions.NoPreviousCommitException;
 import seedu.address.model.versionmanager.exceptions.NoPreviousUndoException;
 
 /**
  * A {@code AddressBookVersionManager} maintains a history of {@link ReadOnlyAddressBook} states
- * to support undo and redo operations within a single application session.
+ * to support undo and redo operations.
+ * <p>
+ * Callers are expected to commit cheap, structurally shared snapshots (see
+ * {@link seedu.address.model.AddressBook#snapshot()}) rather than full copies, so that each version only costs
+ * memory for the persons it changed.
+ * <p>
+ * See {@link AddressBookChangeJournal} for an alternative that keeps only the changes made by each version.
  * <p>
- * Version history is <b>not persisted</b> between sessions; it is reset when the application closes.
+ * The history is bounded by an {@link UndoHistoryBudget}: once it is exceeded, the oldest versions are dropped and
+ * the oldest remaining version becomes the base that can no longer be undone.
+ * <p>
+ * Versions restored from a previous session (see {@link #restore(List, List)}) are kept as lists of changes, and
+ * are only turned into snapshots, by applying or reverting those changes, when they are undone or redone.
  */
-public class AddressBookVersionManager {
+public class AddressBookVersionManager implements VersionHistory {
 
     private final Stack<ReadOnlyAddressBook> versionStack;
     private final Stack<ReadOnlyAddressBook> redoStack;
+    // Estimated bytes each version retains beyond the version below it, parallel to the stacks above
+    private final Stack<Long> versionSizes;
+    private final Stack<Long> redoSizes;
+    // Changes of restored versions below the bottom of versionStack, latest on top
+    private final Stack<List<PersonChange>> restoredUndoStack;
+    // Changes of restored versions to redo once redoStack is empty, next on top
+    private final Stack<List<PersonChange>> restoredRedoStack;
+    private final UndoHistoryBudget budget;
+    private long estimatedSize;
 
     /**
-     * Constructs a {@code AddressBookVersionManager} with the given initial address book data.
+     * Constructs a {@code AddressBookVersionManager} with the given initial address book data and no limit on
+     * the size of its history.
      * The initial state is recorded as the first version in the history.
      *
      * @param initialData the initial {@link ReadOnlyAddressBook} state to track
      */
     public AddressBookVersionManager(ReadOnlyAddressBook initialData) {
+        this(initialData, UndoHistoryBudget.UNLIMITED);
+    }
+
+    /**
+     * Constructs a {@code AddressBookVersionManager} with the given initial address book data whose history is
+     * bounded by {@code budget}.
+     * The initial state is recorded as the first version in the history.
+     *
+     * @param initialData the initial {@link ReadOnlyAddressBook} state to track
+     * @param budget the limits on the retained history
+     */
+    public AddressBookVersionManager(ReadOnlyAddressBook initialData, UndoHistoryBudget budget) {
+        requireNonNull(budget);
         this.versionStack = new Stack<>();
         this.versionStack.add(initialData);
         this.redoStack = new Stack<>();
+        this.versionSizes = new Stack<>();
+        this.versionSizes.add(0L);
+        this.redoSizes = new Stack<>();
+        this.restoredUndoStack = new Stack<>();
+        this.restoredRedoStack = new Stack<>();
+        this.budget = budget;
     }
 
     /**
      * Commits the specified address book state as a new version in the history.
      * <p>
      * Clears any redo history when a new commit is made, as redo states are only
-     * valid immediately after an undo.
+     * valid immediately after an undo. Evicts the oldest versions if the history then exceeds its budget.
      *
      * @param updated the new {@link ReadOnlyAddressBook} state to record
      */
     public void commit(ReadOnlyAddressBook updated) {
+        long size = SizeEstimator.estimateIncrement(versionStack.peek(), updated);
         this.versionStack.add(updated);
+        this.versionSizes.add(size);
+        this.estimatedSize += size;
         this.redoStack.clear();
+        this.redoSizes.forEach(redoSize -> estimatedSize -= redoSize);
+        this.redoSizes.clear();
+        this.restoredRedoStack.forEach(changes -> estimatedSize -= SizeEstimator.estimate(changes));
+        this.restoredRedoStack.clear();
+        evictOverBudget();
+    }
+
+    /**
+     * Drops the oldest versions until the number of undoable versions and the estimated size fit the budget.
+     * The oldest remaining version becomes the new base, whose own size is not counted as it cannot be undone.
+     */
+    private void evictOverBudget() {
+        while (!restoredUndoStack.isEmpty() && budget.isExceededBy(getUndoableCount(), estimatedSize)) {
+            estimatedSize -= SizeEstimator.estimate(restoredUndoStack.remove(0));
+        }
+        while (versionStack.size() > 1 && budget.isExceededBy(getUndoableCount(), estimatedSize)) {
+            versionStack.remove(0);
+            versionSizes.remove(0);
+            estimatedSize -= versionSizes.set(0, 0L);
+        }
     }
 
     /**
@@ -51,11 +119,12 @@ public class AddressBookVersionManager {
      * @throws NoPreviousCommitException if there is no earlier version to revert to
      */
     public ReadOnlyAddressBook undo() throws NoPreviousCommitException {
-        if (this.versionStack.size() <= 1) {
+        if (this.versionStack.size() <= 1 && !restoreOlderVersion()) {
             throw new NoPreviousCommitException();
         }
         this.redoStack.add(versionStack.peek());
         this.versionStack.pop();
+        this.redoSizes.add(versionSizes.pop());
         return versionStack.peek();
     }
 
@@ -68,14 +137,160 @@ public class AddressBookVersionManager {
      * @throws NoPreviousUndoException if there is no undone version to restore
      */
     public ReadOnlyAddressBook redo() throws NoPreviousUndoException {
-        if (this.redoStack.isEmpty()) {
+        if (this.redoStack.isEmpty() && !restoreNewerVersion()) {
             throw new NoPreviousUndoException();
         }
         ReadOnlyAddressBook targetVersion = this.redoStack.pop();
         this.versionStack.add(targetVersion);
+        this.versionSizes.add(redoSizes.pop());
         return targetVersion;
     }
 
+    /**
+     * Turns the latest restored version below the bottom of the version stack into a snapshot and puts it there.
+     *
+     * @return false if there is no restored version to undo to.
+     */
+    private boolean restoreOlderVersion() {
+        if (restoredUndoStack.isEmpty()) {
+            return false;
+        }
+        List<PersonChange> changes = restoredUndoStack.peek();
+        ReadOnlyAddressBook base = versionStack.get(0);
+        AddressBookSnapshot older;
+        try {
+            older = toSnapshot(base).withChangesReverted(changes);
+        } catch (CorruptedHistoryException e) {
+            restoredUndoStack.forEach(restored -> estimatedSize -= SizeEstimator.estimate(restored));
+            restoredUndoStack.clear();
+            return false;
+        }
+        restoredUndoStack.pop();
+        estimatedSize -= SizeEstimator.estimate(changes);
+
+        long baseSize = SizeEstimator.estimateIncrement(older, base);
+        versionStack.add(0, older);
+        versionSizes.set(0, baseSize);
+        versionSizes.add(0, 0L);
+        estimatedSize += baseSize;
+        return true;
+    }
+
+    /**
+     * Turns the next restored version to redo into a snapshot and pushes it onto the redo stack.
+     *
+     * @return false if there is no restored version to redo.
+     */
+    private boolean restoreNewerVersion() {
+        if (restoredRedoStack.isEmpty()) {
+            return false;
+        }
+        List<PersonChange> changes = restoredRedoStack.peek();
+        ReadOnlyAddressBook current = versionStack.peek();
+        AddressBookSnapshot newer;
+        try {
+            newer = toSnapshot(current).withChangesApplied(changes);
+        } catch (CorruptedHistoryException e) {
+            restoredRedoStack.forEach(restored -> estimatedSize -= SizeEstimator.estimate(restored));
+            restoredRedoStack.clear();
+            return false;
+        }
+        restoredRedoStack.pop();
+        estimatedSize -= SizeEstimator.estimate(changes);
+
+        long newerSize = SizeEstimator.estimateIncrement(current, newer);
+        redoStack.push(newer);
+        redoSizes.push(newerSize);
+        estimatedSize += newerSize;
+        return true;
+    }
+
+    private static AddressBookSnapshot toSnapshot(ReadOnlyAddressBook version) {
+        if (version instanceof AddressBookSnapshot) {
+            return (AddressBookSnapshot) version;
+        }
+        return new AddressBook(version).snapshot();
+    }
+
+    private int getUndoableCount() {
+        return versionStack.size() - 1 + restoredUndoStack.size();
+    }
+
+    /**
+     * Does nothing, as every committed version is kept as a whole snapshot.
+     */
+    @Override
+    public void recordChange(PersonChange change) {
+        // changes are captured by the snapshot taken on commit
+    }
+
+    /**
+     * Commits a snapshot of {@code current} as a new version.
+     *
+     * @see #commit(ReadOnlyAddressBook)
+     */
+    @Override
+    public void commitChanges(AddressBook current) {
+        commit(current.snapshot());
+    }
+
+    /**
+     * Resets {@code target} to the previous committed state.
+     * As versions are kept as snapshots, the returned changes are found by comparing the states before and after.
+     *
+     * @see #undo()
+     */
+    @Override
+    public List<PersonChange> undoChanges(AddressBook target) throws NoPreviousCommitException {
+        AddressBookSnapshot before = target.snapshot();
+        target.resetData(undo());
+        return before.changesTo(target.snapshot());
+    }
+
+    /**
+     * Resets {@code target} to the most recently undone state.
+     *
+     * @see #redo()
+     */
+    @Override
+    public List<PersonChange> redoChanges(AddressBook target) throws NoPreviousUndoException {
+        AddressBookSnapshot before = target.snapshot();
+        target.resetData(redo());
+        return before.changesTo(target.snapshot());
+    }
+
+    /**
+     * Keeps the restored changes apart from the committed versions, and applies them only when undone or redone
+     * past the versions of this session.
+     */
+    @Override
+    public void restore(List<List<PersonChange>> undoable, List<List<PersonChange>> redoable) {
+        restoredUndoStack.addAll(0, undoable);
+        for (List<PersonChange> changes : redoable) {
+            restoredRedoStack.add(0, changes);
+        }
+        undoable.forEach(changes -> estimatedSize += SizeEstimator.estimate(changes));
+        redoable.forEach(changes -> estimatedSize += SizeEstimator.estimate(changes));
+        evictOverBudget();
+    }
+
+    /**
+     * Returns the number of retained versions that can be undone or redone.
+     */
+    @Override
+    public int getVersionCount() {
+        return getUndoableCount() + redoStack.size() + restoredRedoStack.size();
+    }
+
+    /**
+     * Returns the estimated memory, in bytes, retained by versions that can be undone or redone.
+     * Memory shared between versions is counted once, against the version that introduced it.
+     */
+    @Override
+    public long getEstimatedSize() {
+        return estimatedSize;
+    }
+
     /**
      * Returns the stack containing all committed address book versions.
      *
@@ -0,0 +1,71 @@
+package seedu.address.model.versionmanager;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import seedu.address.model.versionmanager.exceptions.CorruptedHistoryException;
+
+/**
+ * An unmodifiable list of the {@link PersonChange}s of a version restored from a previous session, which are only
+ * loaded when the list is first read.
+ * <p>
+ * This lets a long history be restored at startup without reading back every change it holds.
+ */
+public final class DeferredChangeList extends AbstractList<PersonChange> {
+
+    private final long estimatedSize;
+    private Supplier<List<PersonChange>> loader;
+    private List<PersonChange> changes;
+
+    /**
+     * Constructs a {@code DeferredChangeList} whose changes are produced by {@code loader} on first access.
+     *
+     * @param loader produces the changes; may throw {@link CorruptedHistoryException} if they cannot be read.
+     * @param estimatedSize the estimated memory, in bytes, retained by this list before it is loaded.
+     */
+    public DeferredChangeList(Supplier<List<PersonChange>> loader, long estimatedSize) {
+        requireNonNull(loader);
+        this.loader = loader;
+        this.estimatedSize = estimatedSize;
+    }
+
+    /**
+     * Returns the estimated memory, in bytes, retained by this list before it is loaded.
+     */
+    public long getEstimatedSize() {
+        return estimatedSize;
+    }
+
+    /**
+     * Returns true if the changes have been loaded.
+     */
+    public boolean isLoaded() {
+        return changes != null;
+    }
+
+    /**
+     * Returns the changes, loading them first if needed.
+     *
+     * @throws CorruptedHistoryException if the changes cannot be read.
+     */
+    private List<PersonChange> changes() {
+        if (changes == null) {
+            changes = List.copyOf(loader.get());
+            loader = null;
+        }
+        return changes;
+    }
+
+    @Override
+    public PersonChange get(int index) {
+        return changes().get(index);
+    }
+
+    @Override
+    public int size() {
+        return changes().size();
+    }
+}
@@ -0,0 +1,634 @@
+package seedu.address.model.versionmanager;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * An immutable, indexed sequence of elements that shares structure between versions.
+ * <p>
+ * Elements are stored in the leaves of a balanced tree of nodes with up to 32 slots each, and every branch records
+ * how many elements lie under each of its children. Every update, including inserting or removing an element in the
+ * middle, copies only the nodes on the path to the affected leaf (and at most one sibling per level when nodes are
+ * split or merged) and returns a new vector, leaving the original untouched. A vector and the version derived from it
+ * therefore share all other nodes, which makes it cheap to keep many versions of a large list alive at once.
+ *
+ * @param <E> the type of elements held in this vector
+ */
+public final class PersistentVector<E> implements Iterable<E> {
+
+    private static final int MAX_WIDTH = 32;
+    // Nodes below this width are merged with or refilled from a sibling after a removal
+    private static final int MIN_WIDTH = MAX_WIDTH / 2;
+
+    private static final PersistentVector<?> EMPTY = new PersistentVector<>(0, 0, Node.leaf(new Object[0]));
+
+    private final int size;
+    // Number of branch levels above the leaves; 0 when the root is a leaf
+    private final int height;
+    private final Node root;
+
+    private PersistentVector(int size, int height, Node root) {
+        this.size = size;
+        this.height = height;
+        this.root = root;
+    }
+
+    /**
+     * Receives a range of one vector that is replaced by a range of another.
+     */
+    @FunctionalInterface
+    public interface RangeReplacement {
+        /**
+         * Accepts the range {@code [from, from + removedCount)} of one vector, which is replaced by the range
+         * {@code [otherFrom, otherFrom + addedCount)} of the other.
+         */
+        void accept(int from, int removedCount, int otherFrom, int addedCount);
+    }
+
+    /**
+     * Returns an empty vector.
+     */
+    @SuppressWarnings("unchecked")
+    public static <E> PersistentVector<E> empty() {
+        return (PersistentVector<E>) EMPTY;
+    }
+
+    /**
+     * Returns a vector holding the elements of {@code elements} in iteration order.
+     */
+    public static <E> PersistentVector<E> copyOf(Iterable<? extends E> elements) {
+        requireNonNull(elements);
+        List<Object> all = new ArrayList<>();
+        elements.forEach(all::add);
+        if (all.isEmpty()) {
+            return empty();
+        }
+
+        List<Node> level = new ArrayList<>();
+        for (int i = 0; i < all.size(); i += MAX_WIDTH) {
+            level.add(Node.leaf(all.subList(i, Math.min(i + MAX_WIDTH, all.size())).toArray()));
+        }
+        int height = 0;
+        while (level.size() > 1) {
+            List<Node> parents = new ArrayList<>();
+            for (int i = 0; i < level.size(); i += MAX_WIDTH) {
+                parents.add(Node.branch(level.subList(i, Math.min(i + MAX_WIDTH, level.size())).toArray()));
+            }
+            level = parents;
+            height++;
+        }
+        return new PersistentVector<>(all.size(), height, level.get(0));
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the element at {@code index}.
+     *
+     * @throws IndexOutOfBoundsException if {@code index} is not within {@code [0, size())}.
+     */
+    @SuppressWarnings("unchecked")
+    public E get(int index) {
+        Objects.checkIndex(index, size);
+        Node node = root;
+        while (!node.isLeaf()) {
+            int slot = node.childSlotOf(index);
+            index -= node.childStart(slot);
+            node = node.child(slot);
+        }
+        return (E) node.slots[index];
+    }
+
+    /**
+     * Returns a vector with the element at {@code index} replaced by {@code element}.
+     *
+     * @throws IndexOutOfBoundsException if {@code index} is not within {@code [0, size())}.
+     */
+    public PersistentVector<E> set(int index, E element) {
+        Objects.checkIndex(index, size);
+        return new PersistentVector<>(size, height, setInNode(root, index, element));
+    }
+
+    /**
+     * Returns a vector with {@code element} added to the end.
+     */
+    public PersistentVector<E> append(E element) {
+        return insert(size, element);
+    }
+
+    /**
+     * Returns a vector with {@code element} inserted at {@code index} and all later elements shifted up by one.
+     *
+     * @throws IndexOutOfBoundsException if {@code index} is not within {@code [0, size()]}.
+     */
+    public PersistentVector<E> insert(int index, E element) {
+        Objects.checkIndex(index, size + 1);
+        Node[] nodes = insertIntoNode(root, index, element);
+        if (nodes.length == 1) {
+            return new PersistentVector<>(size + 1, height, nodes[0]);
+        }
+        // the root was split, so grow a new root above the halves
+        return new PersistentVector<>(size + 1, height + 1, Node.branch(nodes));
+    }
+
+    /**
+     * Returns a vector with the element at {@code index} removed and all later elements shifted down by one.
+     *
+     * @throws IndexOutOfBoundsException if {@code index} is not within {@code [0, size())}.
+     */
+    public PersistentVector<E> remove(int index) {
+        Objects.checkIndex(index, size);
+        if (size == 1) {
+            return empty();
+        }
+        return withRoot(size - 1, height, removeFromNode(root, index));
+    }
+
+    /**
+     * Returns a vector holding only the first {@code count} elements of this vector.
+     *
+     * @throws IndexOutOfBoundsException if {@code count} is not within {@code [0, size()]}.
+     */
+    public PersistentVector<E> take(int count) {
+        Objects.checkIndex(count, size + 1);
+        if (count == size) {
+            return this;
+        }
+        if (count == 0) {
+            return empty();
+        }
+        return withRoot(count, height, takeFromNode(root, count));
+    }
+
+    /**
+     * Returns a vector of {@code size} elements under {@code root}, without the branches above it that have a single
+     * child.
+     */
+    private static <E> PersistentVector<E> withRoot(int size, int height, Node root) {
+        Node newRoot = root;
+        int newHeight = height;
+        while (!newRoot.isLeaf() && newRoot.slots.length == 1) {
+            newRoot = newRoot.child(0);
+            newHeight--;
+        }
+        return new PersistentVector<>(size, newHeight, newRoot);
+    }
+
+    /**
+     * Invokes {@code action} with every range of this vector that is replaced by a range of {@code other} to turn
+     * this vector into {@code other}, in ascending order. Elements outside these ranges are the same in both vectors,
+     * compared by reference.
+     * <p>
+     * Subtrees shared by the two vectors are skipped without being visited, so comparing two versions derived from
+     * one another costs time proportional to the number of elements inserted, removed or replaced between them rather
+     * than to their size, even when those changes shift the positions of all later elements.
+     */
+    public void forEachDifference(PersistentVector<E> other, RangeReplacement action) {
+        requireNonNull(other);
+        requireNonNull(action);
+        Set<Node> unshared = new HashSet<>();
+        Set<Node> otherUnshared = new HashSet<>();
+        findUnsharedNodes(this, other, unshared, otherUnshared);
+
+        List<Segment> segments = new ArrayList<>();
+        collectSegments(root, 0, unshared, segments);
+        List<Segment> otherSegments = new ArrayList<>();
+        collectSegments(other.root, 0, otherUnshared, otherSegments);
+
+        // shared subtrees appear in the same order in both vectors, and the elements between them differ
+        int i = 0;
+        int j = 0;
+        while (true) {
+            int from = i < segments.size() ? segments.get(i).start : size;
+            int otherFrom = j < otherSegments.size() ? otherSegments.get(j).start : other.size;
+            while (i < segments.size() && !segments.get(i).isShared) {
+                i++;
+            }
+            while (j < otherSegments.size() && !otherSegments.get(j).isShared) {
+                j++;
+            }
+            boolean isAligned = i < segments.size() && j < otherSegments.size()
+                    && segments.get(i).node == otherSegments.get(j).node;
+            int to = isAligned ? segments.get(i).start : size;
+            int otherTo = isAligned ? otherSegments.get(j).start : other.size;
+            reportDifference(other, from, to, otherFrom, otherTo, action);
+            if (!isAligned) {
+                return;
+            }
+            i++;
+            j++;
+        }
+    }
+
+    /**
+     * Returns the number of nodes of this vector that {@code other} does not share.
+     * Like {@link #forEachDifference(PersistentVector, RangeReplacement)}, this skips the shared subtrees.
+     */
+    public int countNodesNotSharedWith(PersistentVector<E> other) {
+        requireNonNull(other);
+        Set<Node> unshared = new HashSet<>();
+        findUnsharedNodes(this, other, unshared, new HashSet<>());
+        return unshared.size();
+    }
+
+    /**
+     * Reports the range {@code [from, to)} of this vector, replaced by {@code [otherFrom, otherTo)} of {@code other},
+     * without the elements the two ranges start or end with in common.
+     */
+    private void reportDifference(PersistentVector<E> other, int from, int to, int otherFrom, int otherTo,
+            RangeReplacement action) {
+        int start = from;
+        int otherStart = otherFrom;
+        while (start < to && otherStart < otherTo && get(start) == other.get(otherStart)) {
+            start++;
+            otherStart++;
+        }
+        int end = to;
+        int otherEnd = otherTo;
+        while (end > start && otherEnd > otherStart && get(end - 1) == other.get(otherEnd - 1)) {
+            end--;
+            otherEnd--;
+        }
+        if (start < end || otherStart < otherEnd) {
+            action.accept(start, end - start, otherStart, otherEnd - otherStart);
+        }
+    }
+
+    /**
+     * Returns a new mutable list holding the elements of this vector in order.
+     */
+    public List<E> toList() {
+        List<E> list = new ArrayList<>(size);
+        for (E element : this) {
+            list.add(element);
+        }
+        return list;
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return new Iterator<>() {
+            private int next = 0;
+            // The leaf holding the element at next, and the index of its first element
+            private Object[] leaf = new Object[0];
+            private int leafStart = 0;
+
+            @Override
+            public boolean hasNext() {
+                return next < size;
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public E next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                if (next - leafStart == leaf.length) {
+                    leaf = leafAt(next);
+                    leafStart = next;
+                }
+                return (E) leaf[next++ - leafStart];
+            }
+        };
+    }
+
+    /**
+     * Returns the slots of the leaf holding the element at {@code index}, which must start at {@code index}.
+     */
+    private Object[] leafAt(int index) {
+        Node node = root;
+        int offset = index;
+        while (!node.isLeaf()) {
+            int slot = node.childSlotOf(offset);
+            offset -= node.childStart(slot);
+            node = node.child(slot);
+        }
+        assert offset == 0;
+        return node.slots;
+    }
+
+    private static Node setInNode(Node node, int index, Object element) {
+        Object[] slots = node.slots.clone();
+        if (node.isLeaf()) {
+            slots[index] = element;
+            return Node.leaf(slots);
+        }
+        int slot = node.childSlotOf(index);
+        slots[slot] = setInNode(node.child(slot), index - node.childStart(slot), element);
+        // the number of elements under each child is unchanged
+        return new Node(slots, node.sizes);
+    }
+
+    /**
+     * Returns {@code node} with {@code element} inserted at {@code index}, or two nodes holding its slots in order if
+     * that overflows the node.
+     */
+    private static Node[] insertIntoNode(Node node, int index, Object element) {
+        if (node.isLeaf()) {
+            if (index == MAX_WIDTH) {
+                // appending to a full leaf keeps the leaf and starts a new one
+                return new Node[] {node, Node.leaf(new Object[] {element})};
+            }
+            return Node.split(insertSlots(node.slots, index, element), true);
+        }
+
+        int slot = index == node.count() ? node.slots.length - 1 : node.childSlotOf(index);
+        Node child = node.child(slot);
+        Node[] children = insertIntoNode(child, index - node.childStart(slot), element);
+        if (children.length == 1) {
+            Object[] slots = node.slots.clone();
+            slots[slot] = children[0];
+            return new Node[] {Node.branch(slots)};
+        }
+        if (children[0] == child && slot == MAX_WIDTH - 1) {
+            // appending to a full branch keeps the branch and starts a new one
+            return new Node[] {node, Node.branch(new Object[] {children[1]})};
+        }
+        Object[] slots = insertSlots(node.slots, slot + 1, children[1]);
+        slots[slot] = children[0];
+        return Node.split(slots, false);
+    }
+
+    /**
+     * Returns {@code node} with the element at {@code index} removed. The result may be narrower than
+     * {@link #MIN_WIDTH}, or empty, and is rebalanced by its parent.
+     */
+    private static Node removeFromNode(Node node, int index) {
+        if (node.isLeaf()) {
+            return Node.leaf(removeSlot(node.slots, index));
+        }
+
+        int slot = node.childSlotOf(index);
+        Node child = removeFromNode(node.child(slot), index - node.childStart(slot));
+        if (child.count() == 0) {
+            return Node.branch(removeSlot(node.slots, slot));
+        }
+        Object[] slots = node.slots.clone();
+        slots[slot] = child;
+        if (child.slots.length < MIN_WIDTH && slots.length > 1) {
+            int left = slot > 0 ? slot - 1 : slot;
+            slots = rebalance(slots, left);
+        }
+        return Node.branch(slots);
+    }
+
+    /**
+     * Returns {@code slots} with the children at {@code left} and {@code left + 1} merged into one node, or their
+     * slots shared evenly between two nodes if they do not fit in one.
+     */
+    private static Object[] rebalance(Object[] slots, int left) {
+        Node first = (Node) slots[left];
+        Node second = (Node) slots[left + 1];
+        Object[] joined = Arrays.copyOf(first.slots, first.slots.length + second.slots.length);
+        System.arraycopy(second.slots, 0, joined, first.slots.length, second.slots.length);
+
+        Node[] nodes = Node.split(joined, first.isLeaf());
+        Object[] rebalanced = nodes.length == 1 ? removeSlot(slots, left + 1) : slots.clone();
+        System.arraycopy(nodes, 0, rebalanced, left, nodes.length);
+        return rebalanced;
+    }
+
+    private static Node takeFromNode(Node node, int count) {
+        if (count == node.count()) {
+            return node;
+        }
+        if (node.isLeaf()) {
+            return Node.leaf(Arrays.copyOf(node.slots, count));
+        }
+        int slot = node.childSlotOf(count - 1);
+        Object[] slots = Arrays.copyOf(node.slots, slot + 1);
+        slots[slot] = takeFromNode(node.child(slot), count - node.childStart(slot));
+        return Node.branch(slots);
+    }
+
+    private static Object[] insertSlots(Object[] slots, int index, Object slot) {
+        Object[] inserted = new Object[slots.length + 1];
+        System.arraycopy(slots, 0, inserted, 0, index);
+        inserted[index] = slot;
+        System.arraycopy(slots, index, inserted, index + 1, slots.length - index);
+        return inserted;
+    }
+
+    private static Object[] removeSlot(Object[] slots, int index) {
+        Object[] removed = new Object[slots.length - 1];
+        System.arraycopy(slots, 0, removed, 0, index);
+        System.arraycopy(slots, index + 1, removed, index, slots.length - index - 1);
+        return removed;
+    }
+
+    /**
+     * Adds the nodes of {@code first} that {@code second} does not share to {@code firstUnshared}, and those of
+     * {@code second} that {@code first} does not share to {@code secondUnshared}.
+     * <p>
+     * A node is at the same height in every vector holding it, and a shared node lies under a shared parent or is a
+     * root, so the two trees are compared one height at a time from the top, descending only into unshared nodes.
+     */
+    private static void findUnsharedNodes(PersistentVector<?> first, PersistentVector<?> second,
+            Set<Node> firstUnshared, Set<Node> secondUnshared) {
+        List<Node> firstLevel = new ArrayList<>();
+        List<Node> secondLevel = new ArrayList<>();
+        for (int level = Math.max(first.height, second.height); level >= 0; level--) {
+            if (level == first.height) {
+                firstLevel.add(first.root);
+            }
+            if (level == second.height) {
+                secondLevel.add(second.root);
+            }
+            Set<Node> shared = new HashSet<>(firstLevel);
+            shared.retainAll(new HashSet<>(secondLevel));
+            firstLevel = getUnsharedChildren(firstLevel, shared, firstUnshared);
+            secondLevel = getUnsharedChildren(secondLevel, shared, secondUnshared);
+            if (firstLevel.isEmpty() && secondLevel.isEmpty() && level <= Math.min(first.height, second.height)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Adds the nodes of {@code level} that are not {@code shared} to {@code unshared}, and returns their children.
+     */
+    private static List<Node> getUnsharedChildren(List<Node> level, Set<Node> shared, Set<Node> unshared) {
+        List<Node> children = new ArrayList<>();
+        for (Node node : level) {
+            if (shared.contains(node)) {
+                continue;
+            }
+            unshared.add(node);
+            if (!node.isLeaf()) {
+                for (Object child : node.slots) {
+                    children.add((Node) child);
+                }
+            }
+        }
+        return children;
+    }
+
+    /**
+     * Adds the shared subtrees and unshared leaves under {@code node}, which holds the elements from {@code start},
+     * to {@code segments} in order.
+     */
+    private static void collectSegments(Node node, int start, Set<Node> unshared, List<Segment> segments) {
+        if (!unshared.contains(node) || node.isLeaf()) {
+            segments.add(new Segment(node, start, !unshared.contains(node)));
+            return;
+        }
+        for (int slot = 0; slot < node.slots.length; slot++) {
+            collectSegments(node.child(slot), start + node.childStart(slot), unshared, segments);
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof PersistentVector)) {
+            return false;
+        }
+
+        PersistentVector<?> otherVector = (PersistentVector<?>) other;
+        if (size != otherVector.size) {
+            return false;
+        }
+        if (root == otherVector.root) {
+            return true;
+        }
+        Iterator<?> otherElements = otherVector.iterator();
+        for (E element : this) {
+            if (!Objects.equals(element, otherElements.next())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int hashCode = 1;
+        for (E element : this) {
+            hashCode = 31 * hashCode + Objects.hashCode(element);
+        }
+        return hashCode;
+    }
+
+    @Override
+    public String toString() {
+        return toList().toString();
+    }
+
+    /**
+     * A node of the tree: a leaf holding elements, or a branch holding child nodes. Nodes are compared by reference.
+     */
+    private static final class Node {
+        // Elements in a leaf, or child nodes in a branch
+        private final Object[] slots;
+        // Number of elements under each child and the children before it in a branch, or null in a leaf
+        private final int[] sizes;
+
+        private Node(Object[] slots, int[] sizes) {
+            this.slots = slots;
+            this.sizes = sizes;
+        }
+
+        static Node leaf(Object[] elements) {
+            return new Node(elements, null);
+        }
+
+        static Node branch(Object[] children) {
+            int[] sizes = new int[children.length];
+            int count = 0;
+            for (int i = 0; i < children.length; i++) {
+                count += ((Node) children[i]).count();
+                sizes[i] = count;
+            }
+            return new Node(children, sizes);
+        }
+
+        /**
+         * Returns a node holding {@code slots}, or two nodes holding half of them each if they do not fit in one.
+         */
+        static Node[] split(Object[] slots, boolean isLeaf) {
+            if (slots.length <= MAX_WIDTH) {
+                return new Node[] {isLeaf ? leaf(slots) : branch(slots)};
+            }
+            int half = slots.length / 2;
+            Object[] first = Arrays.copyOfRange(slots, 0, half);
+            Object[] second = Arrays.copyOfRange(slots, half, slots.length);
+            return isLeaf
+                    ? new Node[] {leaf(first), leaf(second)}
+                    : new Node[] {branch(first), branch(second)};
+        }
+
+        boolean isLeaf() {
+            return sizes == null;
+        }
+
+        int count() {
+            if (isLeaf()) {
+                return slots.length;
+            }
+            return sizes.length == 0 ? 0 : sizes[sizes.length - 1];
+        }
+
+        Node child(int slot) {
+            return (Node) slots[slot];
+        }
+
+        /**
+         * Returns the index of the first element under the child at {@code slot}, relative to this branch.
+         */
+        int childStart(int slot) {
+            return slot == 0 ? 0 : sizes[slot - 1];
+        }
+
+        /**
+         * Returns the slot of the child holding the element at {@code index}, relative to this branch.
+         */
+        int childSlotOf(int index) {
+            int low = 0;
+            int high = sizes.length - 1;
+            while (low < high) {
+                int middle = (low + high) >>> 1;
+                if (sizes[middle] > index) {
+                    high = middle;
+                } else {
+                    low = middle + 1;
+                }
+            }
+            return low;
+        }
+    }
+
+    /**
+     * A run of consecutive elements of a vector: a subtree shared with the vector it is compared with, or a leaf that
+     * is not.
+     */
+    private static final class Segment {
+        private final Node node;
+        private final int start;
+        private final boolean isShared;
+
+        private Segment(Node node, int start, boolean isShared) {
+            this.node = node;
+            this.start = start;
+            this.isShared = isShared;
+        }
+    }
+}
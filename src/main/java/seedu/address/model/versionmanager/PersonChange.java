@@ -0,0 +1,160 @@
+package seedu.address.model.versionmanager;
+
+import java.util.Objects;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+
+/**
+ * A single reversible change to the person list of an {@link AddressBook}.
+ * <p>
+ * A change records the position it applies to, the person there before the change and the person there after it.
+ * {@code before} is absent for an addition and {@code after} is absent for a removal.
+ */
+public class PersonChange {
+
+    private final int index;
+    private final Person before;
+    private final Person after;
+    private final int hash;
+
+    private PersonChange(int index, Person before, Person after) {
+        assert index >= 0;
+        assert before != null || after != null;
+        this.index = index;
+        this.before = before;
+        this.after = after;
+        this.hash = Objects.hash(index, before, after);
+    }
+
+    /**
+     * Returns a change recording that {@code added} was inserted at {@code index}.
+     */
+    public static PersonChange ofAddition(int index, Person added) {
+        return new PersonChange(index, null, added);
+    }
+
+    /**
+     * Returns a change recording that {@code removed} was removed from {@code index}.
+     */
+    public static PersonChange ofRemoval(int index, Person removed) {
+        return new PersonChange(index, removed, null);
+    }
+
+    /**
+     * Returns a change recording that {@code before} at {@code index} was replaced by {@code after}.
+     */
+    public static PersonChange ofEdit(int index, Person before, Person after) {
+        return new PersonChange(index, before, after);
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    /**
+     * Returns the person at {@link #getIndex()} before the change, or null if the change is an addition.
+     */
+    public Person getBefore() {
+        return before;
+    }
+
+    /**
+     * Returns the person at {@link #getIndex()} after the change, or null if the change is a removal.
+     */
+    public Person getAfter() {
+        return after;
+    }
+
+    /**
+     * Returns the change that undoes this change.
+     */
+    public PersonChange inverse() {
+        return new PersonChange(index, after, before);
+    }
+
+    /**
+     * Applies this change to {@code addressBook}, which must be in the state the change was recorded from.
+     */
+    public void apply(AddressBook addressBook) {
+        if (before == null) {
+            addressBook.addPerson(index, after);
+        } else if (after == null) {
+            addressBook.removePerson(before);
+        } else {
+            addressBook.setPerson(before, after);
+        }
+    }
+
+    /**
+     * Returns {@code persons} with this change applied. {@code persons} must be in the state the change was
+     * recorded from.
+     */
+    public PersistentVector<Person> apply(PersistentVector<Person> persons) {
+        if (before == null) {
+            return persons.insert(index, after);
+        } else if (after == null) {
+            return persons.remove(index);
+        } else {
+            return persons.set(index, after);
+        }
+    }
+
+    /**
+     * Reverts this change on {@code addressBook}, which must be in the state the change produced.
+     */
+    public void revert(AddressBook addressBook) {
+        if (before == null) {
+            addressBook.removePerson(after);
+        } else if (after == null) {
+            addressBook.addPerson(index, before);
+        } else {
+            addressBook.setPerson(after, before);
+        }
+    }
+
+    /**
+     * Returns {@code persons} with this change reverted. {@code persons} must be in the state the change produced.
+     */
+    public PersistentVector<Person> revert(PersistentVector<Person> persons) {
+        if (before == null) {
+            return persons.remove(index);
+        } else if (after == null) {
+            return persons.insert(index, before);
+        } else {
+            return persons.set(index, before);
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof PersonChange)) {
+            return false;
+        }
+
+        PersonChange otherChange = (PersonChange) other;
+        return index == otherChange.index
+                && Objects.equals(before, otherChange.before)
+                && Objects.equals(after, otherChange.after);
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("index", index)
+                .add("before", before)
+                .add("after", after)
+                .toString();
+    }
+}
@@ -0,0 +1,109 @@
+package seedu.address.model.versionmanager;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+import seedu.address.model.AddressBookSnapshot;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+
+/**
+ * Produces rough estimates of the heap memory retained by undo history entries.
+ * <p>
+ * Estimates assume a 64-bit JVM with compressed references and compact strings. They deliberately count persons
+ * that may also be shared with the live address book, so they lean towards overestimating.
+ */
+final class SizeEstimator {
+
+    private static final int OBJECT_HEADER = 16;
+    private static final int REFERENCE = 4;
+    private static final int ARRAY_HEADER = 16;
+    // A full branch node: the node, its array of children and its array of element counts
+    private static final int VECTOR_NODE = OBJECT_HEADER + 2 * REFERENCE + 2 * ARRAY_HEADER + 32 * REFERENCE + 32 * 4;
+    private static final int PERSON_CHANGE = OBJECT_HEADER + 2 * REFERENCE + 4;
+
+    private SizeEstimator() {}
+
+    static long estimate(String value) {
+        // String object plus its backing byte array
+        return OBJECT_HEADER + 8 + OBJECT_HEADER + value.length();
+    }
+
+    static long estimate(Person person) {
+        if (person == null) {
+            return 0;
+        }
+        // class groups and assignments are pooled, so a person only holds arrays of references to them
+        return OBJECT_HEADER + 5 * REFERENCE
+                + 3 * OBJECT_HEADER
+                + estimate(person.getName().fullName)
+                + estimate(person.getPhone().value)
+                + estimate(person.getLevel().value)
+                + 2 * ARRAY_HEADER
+                + (long) (person.getClassGroups().size() + person.getAssignments().size()) * REFERENCE;
+    }
+
+    static long estimate(PersonChange change) {
+        return PERSON_CHANGE + estimate(change.getBefore()) + estimate(change.getAfter());
+    }
+
+    /**
+     * Estimates the memory retained by the changes of a version.
+     * Deferred lists are always estimated by their own hint so that the estimate does not change once they load.
+     */
+    static long estimate(List<PersonChange> changes) {
+        if (changes instanceof DeferredChangeList) {
+            return ((DeferredChangeList) changes).getEstimatedSize();
+        }
+        long size = OBJECT_HEADER + 8 + changes.size() * REFERENCE;
+        for (PersonChange change : changes) {
+            size += estimate(change);
+        }
+        return size;
+    }
+
+    /**
+     * Estimates the memory retained by {@code next} in addition to what it shares with {@code previous}: the vector
+     * nodes it does not share, and the persons that {@code previous} does not hold at all.
+     * Versions that are not structurally shared snapshots are estimated in full.
+     */
+    static long estimateIncrement(ReadOnlyAddressBook previous, ReadOnlyAddressBook next) {
+        if (!(previous instanceof AddressBookSnapshot) || !(next instanceof AddressBookSnapshot)) {
+            return estimateFull(next);
+        }
+
+        PersistentVector<Person> previousPersons = ((AddressBookSnapshot) previous).getPersons();
+        PersistentVector<Person> nextPersons = ((AddressBookSnapshot) next).getPersons();
+        long size = OBJECT_HEADER + REFERENCE
+                + (long) nextPersons.countNodesNotSharedWith(previousPersons) * VECTOR_NODE;
+
+        // a person that only moved to another position is still held by previous, so only its new nodes count
+        Set<Person> removed = Collections.newSetFromMap(new IdentityHashMap<>());
+        List<Person> added = new ArrayList<>();
+        previousPersons.forEachDifference(nextPersons, (from, removedCount, nextFrom, addedCount) -> {
+            for (int i = from; i < from + removedCount; i++) {
+                removed.add(previousPersons.get(i));
+            }
+            for (int i = nextFrom; i < nextFrom + addedCount; i++) {
+                added.add(nextPersons.get(i));
+            }
+        });
+        for (Person person : added) {
+            if (!removed.contains(person)) {
+                size += estimate(person);
+            }
+        }
+        return size;
+    }
+
+    private static long estimateFull(ReadOnlyAddressBook addressBook) {
+        long size = OBJECT_HEADER;
+        for (Person person : addressBook.getPersonList()) {
+            size += REFERENCE + estimate(person);
+        }
+        return size;
+    }
+}
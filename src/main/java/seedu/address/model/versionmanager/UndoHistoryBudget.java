@@ -0,0 +1,78 @@
+package seedu.address.model.versionmanager;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.Objects;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * Limits on how much undo history a {@link VersionHistory} may retain.
+ * When a commit takes the history over either limit, the oldest versions are evicted until it fits again.
+ */
+public class UndoHistoryBudget {
+
+    public static final String MESSAGE_CONSTRAINTS = "Undo history limits must be positive.";
+
+    /** A budget that never evicts any version. */
+    public static final UndoHistoryBudget UNLIMITED = new UndoHistoryBudget(Integer.MAX_VALUE, Long.MAX_VALUE);
+
+    private final int maxVersions;
+    private final long maxBytes;
+
+    /**
+     * Constructs a {@code UndoHistoryBudget}.
+     *
+     * @param maxVersions the maximum number of versions that can be undone.
+     * @param maxBytes the maximum estimated memory, in bytes, of the retained history.
+     */
+    public UndoHistoryBudget(int maxVersions, long maxBytes) {
+        checkArgument(maxVersions > 0 && maxBytes > 0, MESSAGE_CONSTRAINTS);
+        this.maxVersions = maxVersions;
+        this.maxBytes = maxBytes;
+    }
+
+    public int getMaxVersions() {
+        return maxVersions;
+    }
+
+    public long getMaxBytes() {
+        return maxBytes;
+    }
+
+    /**
+     * Returns true if a history of {@code versions} undoable versions taking {@code bytes} bytes exceeds this budget.
+     */
+    public boolean isExceededBy(int versions, long bytes) {
+        return versions > maxVersions || bytes > maxBytes;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof UndoHistoryBudget)) {
+            return false;
+        }
+
+        UndoHistoryBudget otherBudget = (UndoHistoryBudget) other;
+        return maxVersions == otherBudget.maxVersions
+                && maxBytes == otherBudget.maxBytes;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(maxVersions, maxBytes);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("maxVersions", maxVersions)
+                .add("maxBytes", maxBytes)
+                .toString();
+    }
+}
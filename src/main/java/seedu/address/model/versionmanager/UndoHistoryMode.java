@@ -0,0 +1,11 @@
+package seedu.address.model.versionmanager;
+
+/**
+ * How undo history is kept in memory.
+ */
+public enum UndoHistoryMode {
+    /** Keeps a structurally shared snapshot of the address book per version, see {@link AddressBookVersionManager}. */
+    SNAPSHOT,
+    /** Keeps only the person changes made by each version, see {@link AddressBookChangeJournal}. */
+    DELTA
+}
@@ -0,0 +1,67 @@
+package seedu.address.model.versionmanager;
+
+import java.util.List;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.versionmanager.exceptions.NoPreviousCommitException;
+import seedu.address.model.versionmanager.exceptions.NoPreviousUndoException;
+
+/**
+ * Tracks committed versions of an {@link AddressBook} to support undo and redo.
+ * <p>
+ * The model reports every change it makes to the address book through {@link #recordChange(PersonChange)}, and
+ * marks the end of each mutating command with {@link #commitChanges(AddressBook)}. Implementations may keep either
+ * whole snapshots or only the recorded changes, and evict their oldest versions to stay within an
+ * {@link UndoHistoryBudget}.
+ */
+public interface VersionHistory {
+
+    /**
+     * Records a change that has just been made to the tracked address book.
+     */
+    void recordChange(PersonChange change);
+
+    /**
+     * Commits the current state of {@code current}, including all changes recorded since the last commit,
+     * as a new version. Clears any redo history.
+     */
+    void commitChanges(AddressBook current);
+
+    /**
+     * Reverts {@code target} to the version before the latest committed one.
+     * Changes recorded since the last commit are discarded.
+     *
+     * @return the changes made to {@code target}, in the order they were made
+     * @throws NoPreviousCommitException if there is no earlier version to revert to
+     */
+    List<PersonChange> undoChanges(AddressBook target) throws NoPreviousCommitException;
+
+    /**
+     * Restores on {@code target} the version most recently reverted by {@link #undoChanges(AddressBook)}.
+     * Changes recorded since the last commit are discarded.
+     *
+     * @return the changes made to {@code target}, in the order they were made
+     * @throws NoPreviousUndoException if there is no undone version to restore
+     */
+    List<PersonChange> redoChanges(AddressBook target) throws NoPreviousUndoException;
+
+    /**
+     * Adds versions from a previous session below the versions of this session.
+     * Lists of changes that fail to load when they are needed are dropped, together with all older versions.
+     *
+     * @param undoable the changes made by each version that can be undone, oldest first; the last one produced
+     *     the state this history was created with.
+     * @param redoable the changes made by each version that can be redone, in the order they would be redone.
+     */
+    void restore(List<List<PersonChange>> undoable, List<List<PersonChange>> redoable);
+
+    /**
+     * Returns the number of retained versions that can be undone or redone.
+     */
+    int getVersionCount();
+
+    /**
+     * Returns the estimated memory, in bytes, retained by the history.
+     */
+    long getEstimatedSize();
+}
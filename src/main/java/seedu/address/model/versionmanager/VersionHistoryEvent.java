@@ -0,0 +1,106 @@
+package seedu.address.model.versionmanager;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.Objects;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * An operation on the version history of an address book, as written to and read back from the undo log.
+ * <p>
+ * Replaying the events of a session in order rebuilds its undo and redo stacks. Every event also records the state
+ * checksum of the address book after the operation, so that the events that have gone past the saved address book
+ * can be detected and discarded.
+ */
+public class VersionHistoryEvent {
+
+    /**
+     * The kinds of version history operations.
+     */
+    public enum Type {
+        COMMIT, UNDO, REDO
+    }
+
+    private final Type type;
+    private final int stateHash;
+    private final List<PersonChange> changes;
+
+    private VersionHistoryEvent(Type type, int stateHash, List<PersonChange> changes) {
+        this.type = type;
+        this.stateHash = stateHash;
+        this.changes = changes;
+    }
+
+    /**
+     * Returns an event recording that a version made up of {@code changes} was committed.
+     */
+    public static VersionHistoryEvent ofCommit(List<PersonChange> changes, int stateHash) {
+        requireNonNull(changes);
+        return new VersionHistoryEvent(Type.COMMIT, stateHash, changes);
+    }
+
+    /**
+     * Returns an event recording that the latest version was undone.
+     */
+    public static VersionHistoryEvent ofUndo(int stateHash) {
+        return new VersionHistoryEvent(Type.UNDO, stateHash, List.of());
+    }
+
+    /**
+     * Returns an event recording that the most recently undone version was redone.
+     */
+    public static VersionHistoryEvent ofRedo(int stateHash) {
+        return new VersionHistoryEvent(Type.REDO, stateHash, List.of());
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    /**
+     * Returns the hash code of the address book after this event.
+     */
+    public int getStateHash() {
+        return stateHash;
+    }
+
+    /**
+     * Returns the changes made by a committed version, or an empty list for other events.
+     */
+    public List<PersonChange> getChanges() {
+        return changes;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof VersionHistoryEvent)) {
+            return false;
+        }
+
+        VersionHistoryEvent otherEvent = (VersionHistoryEvent) other;
+        return type == otherEvent.type
+                && stateHash == otherEvent.stateHash
+                && changes.equals(otherEvent.changes);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(type, stateHash, changes);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("type", type)
+                .add("stateHash", stateHash)
+                .add("changes", changes)
+                .toString();
+    }
+}
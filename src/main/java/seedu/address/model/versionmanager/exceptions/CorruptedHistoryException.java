@@ -0,0 +1,11 @@
+package seedu.address.model.versionmanager.exceptions;
+
+/**
+ * Thrown when a version restored from a previous session cannot be read back.
+ */
+public class CorruptedHistoryException extends RuntimeException {
+
+    public CorruptedHistoryException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -2,11 +2,11 @@ package seedu.address.model.versionmanager.exceptions;
 
 /**
  * Thrown when a redo operation is attempted but no undone version exists
- * in the current session's history.
+ * in the history.
  */
 public class NoPreviousUndoException extends RuntimeException {
 
     public NoPreviousUndoException() {
-        super("No undone version available to redo in the current session");
+        super("No undone version available to redo");
     }
 }
@@ -0,0 +1,103 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * Converts address book data between the formats of different {@link AddressBookStorage}s, such as exporting a
+ * binary snapshot as json or splitting a json file into segments.
+ */
+public class AddressBookFormatConverter {
+
+    private static final Logger logger = LogsCenter.getLogger(AddressBookFormatConverter.class);
+
+    private AddressBookFormatConverter() {}
+
+    /**
+     * Reads the address book from {@code source} and saves it to {@code target}.
+     *
+     * @return false if {@code source} holds no address book, in which case {@code target} is left untouched.
+     * @throws DataLoadingException if the data in {@code source} could not be loaded.
+     * @throws IOException if the data could not be saved to {@code target}.
+     */
+    public static boolean convert(AddressBookStorage source, AddressBookStorage target)
+            throws DataLoadingException, IOException {
+        requireNonNull(source);
+        requireNonNull(target);
+        Optional<ReadOnlyAddressBook> addressBook = source.readAddressBook();
+        if (addressBook.isEmpty()) {
+            return false;
+        }
+        target.saveAddressBook(addressBook.get());
+        logger.info("Converted " + source.getAddressBookFilePath() + " to " + target.getAddressBookFilePath());
+        return true;
+    }
+
+    /**
+     * Converts the address book in {@code source} to {@code target} if {@code source} was saved more recently, so that
+     * switching between formats keeps the changes made in the other format.
+     *
+     * @return true if the address book was converted.
+     * @throws DataLoadingException if the data in {@code source} could not be loaded.
+     * @throws IOException if the data could not be saved to {@code target}.
+     */
+    public static boolean convertIfNewer(AddressBookStorage source, AddressBookStorage target)
+            throws DataLoadingException, IOException {
+        requireNonNull(source);
+        return convertIfNewer(List.of(source), target);
+    }
+
+    /**
+     * Similar to {@link #convertIfNewer(AddressBookStorage, AddressBookStorage)}, converting from whichever of
+     * {@code sources} was saved most recently.
+     */
+    public static boolean convertIfNewer(List<? extends AddressBookStorage> sources, AddressBookStorage target)
+            throws DataLoadingException, IOException {
+        requireNonNull(sources);
+        requireNonNull(target);
+        Optional<FileTime> newestTime = lastModified(target);
+        AddressBookStorage newest = null;
+        for (AddressBookStorage source : sources) {
+            Optional<FileTime> sourceTime = lastModified(source);
+            if (sourceTime.isPresent() && (newestTime.isEmpty() || sourceTime.get().compareTo(newestTime.get()) > 0)) {
+                newestTime = sourceTime;
+                newest = source;
+            }
+        }
+        return newest != null && convert(newest, target);
+    }
+
+    /**
+     * Returns when the data files of {@code storage} were last written, or {@code Optional.empty()} if there are none.
+     */
+    private static Optional<FileTime> lastModified(AddressBookStorage storage) throws IOException {
+        List<Path> files = new ArrayList<>();
+        files.add(storage.getAddressBookFilePath());
+        if (storage instanceof JsonAddressBookStorage) {
+            files.add(((JsonAddressBookStorage) storage).getJournalFilePath());
+        }
+
+        Optional<FileTime> lastModified = Optional.empty();
+        for (Path file : files) {
+            if (Files.exists(file)) {
+                FileTime time = Files.getLastModifiedTime(file);
+                if (lastModified.isEmpty() || time.compareTo(lastModified.get()) > 0) {
+                    lastModified = Optional.of(time);
+                }
+            }
+        }
+        return lastModified;
+    }
+}
@@ -0,0 +1,368 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.assignment.Assignment;
+import seedu.address.model.classgroup.ClassGroup;
+import seedu.address.model.person.Level;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+import seedu.address.model.versionmanager.PersonChange;
+
+/**
+ * A class to access AddressBook data stored as a compact binary snapshot on the hard disk.
+ * <p>
+ * The snapshot starts with a magic number and a format version, followed by a dictionary of the distinct class group
+ * and assignment names, which persons then refer to by their index in it. Each person is a record prefixed by its
+ * length, and the marked flags of a person's assignments are packed into bits. The snapshot ends with the CRC32
+ * checksum of everything before it. All counts, lengths and dictionary indices are written as variable-length
+ * integers, so the snapshot is a fraction of the size of the json file and is read without any parsing.
+ * <p>
+ * The snapshot is always rewritten whole; use {@link AddressBookFormatConverter} to export it as json.
+ */
+public class BinaryAddressBookStorage implements AddressBookStorage {
+
+    public static final String FILE_EXTENSION = ".bin";
+    public static final String MESSAGE_NOT_A_SNAPSHOT = "File is not an address book snapshot.";
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "Address book snapshot version %d is not supported.";
+    public static final String MESSAGE_CORRUPTED = "Address book snapshot is incomplete or corrupted.";
+
+    static final int MAGIC = 0x54544142; // "TTAB"
+    static final int FORMAT_VERSION = 1;
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryAddressBookStorage.class);
+
+    private static final int CHECKSUM_SIZE = Integer.BYTES;
+
+    private final Path filePath;
+
+    /**
+     * Constructs a {@code BinaryAddressBookStorage} that reads and writes the snapshot at {@code filePath}.
+     */
+    public BinaryAddressBookStorage(Path filePath) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+    }
+
+    /**
+     * Returns the path of the snapshot kept next to the json file at {@code jsonFilePath}, which has the same name
+     * with its extension replaced by {@link #FILE_EXTENSION}.
+     */
+    public static Path getSnapshotFilePath(Path jsonFilePath) {
+        String fileName = jsonFilePath.getFileName().toString();
+        int extensionStart = fileName.lastIndexOf('.');
+        String baseName = extensionStart > 0 ? fileName.substring(0, extensionStart) : fileName;
+        return jsonFilePath.resolveSibling(baseName + FILE_EXTENSION);
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+
+        try {
+            return Optional.of(decode(Files.readAllBytes(filePath)));
+        } catch (IOException ioe) {
+            logger.warning("Error reading from snapshot file " + filePath + ": " + ioe);
+            throw new DataLoadingException(ioe);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+        FileUtil.writeToFileAtomically(filePath, out -> encode(addressBook, out));
+    }
+
+    /**
+     * Rewrites the whole snapshot, which is already cheaper than journaling {@code changes}.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, List<PersonChange> changes) throws IOException {
+        requireNonNull(changes);
+        saveAddressBook(addressBook);
+    }
+
+    /**
+     * Writes the snapshot of {@code addressBook} to {@code out}, leaving {@code out} open.
+     */
+    static void encode(ReadOnlyAddressBook addressBook, OutputStream out) throws IOException {
+        List<Person> persons = addressBook.getPersonList();
+        Map<String, Integer> dictionary = new LinkedHashMap<>();
+        for (Person person : persons) {
+            for (ClassGroup classGroup : person.getClassGroups()) {
+                dictionary.putIfAbsent(classGroup.classGroupName, dictionary.size());
+            }
+            for (Assignment assignment : person.getAssignments()) {
+                dictionary.putIfAbsent(assignment.assignmentName, dictionary.size());
+                dictionary.putIfAbsent(assignment.classGroupName, dictionary.size());
+            }
+        }
+
+        CheckedOutputStream checked = new CheckedOutputStream(out, new CRC32());
+        DataOutputStream data = new DataOutputStream(checked);
+        data.writeInt(MAGIC);
+        data.writeShort(FORMAT_VERSION);
+        writeVarInt(data, dictionary.size());
+        for (String name : dictionary.keySet()) {
+            data.writeUTF(name);
+        }
+
+        writeVarInt(data, persons.size());
+        ByteArrayOutputStream recordBytes = new ByteArrayOutputStream();
+        DataOutputStream record = new DataOutputStream(recordBytes);
+        for (Person person : persons) {
+            recordBytes.reset();
+            writePerson(record, person, dictionary);
+            writeVarInt(data, recordBytes.size());
+            recordBytes.writeTo(data);
+        }
+        data.flush();
+        new DataOutputStream(out).writeInt((int) checked.getChecksum().getValue());
+    }
+
+    private static void writePerson(DataOutput out, Person person, Map<String, Integer> dictionary)
+            throws IOException {
+        out.writeUTF(person.getName().fullName);
+        out.writeUTF(person.getPhone().value);
+        out.writeUTF(person.getLevel().value);
+
+        Set<ClassGroup> classGroups = person.getClassGroups();
+        writeVarInt(out, classGroups.size());
+        for (ClassGroup classGroup : classGroups) {
+            writeVarInt(out, dictionary.get(classGroup.classGroupName));
+        }
+
+        Set<Assignment> assignments = person.getAssignments();
+        writeVarInt(out, assignments.size());
+        byte[] markedFlags = new byte[(assignments.size() + Byte.SIZE - 1) / Byte.SIZE];
+        int i = 0;
+        for (Assignment assignment : assignments) {
+            writeVarInt(out, dictionary.get(assignment.assignmentName));
+            writeVarInt(out, dictionary.get(assignment.classGroupName));
+            if (assignment.isMarked()) {
+                markedFlags[i / Byte.SIZE] |= (byte) (1 << (i % Byte.SIZE));
+            }
+            i++;
+        }
+        out.write(markedFlags);
+    }
+
+    /**
+     * Reads the snapshot in {@code bytes} into a new {@code AddressBook}.
+     *
+     * @throws IllegalValueException if {@code bytes} is not a valid snapshot or violates any data constraints.
+     */
+    static AddressBook decode(byte[] bytes) throws IllegalValueException {
+        if (bytes.length < Integer.BYTES + CHECKSUM_SIZE
+                || ByteBuffer.wrap(bytes).getInt() != MAGIC) {
+            throw new IllegalValueException(MESSAGE_NOT_A_SNAPSHOT);
+        }
+        int contentLength = bytes.length - CHECKSUM_SIZE;
+        CRC32 checksum = new CRC32();
+        checksum.update(bytes, 0, contentLength);
+        if ((int) checksum.getValue() != ByteBuffer.wrap(bytes, contentLength, CHECKSUM_SIZE).getInt()) {
+            throw new IllegalValueException(MESSAGE_CORRUPTED);
+        }
+
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes, 0, contentLength));
+        try {
+            in.readInt();
+            int version = in.readUnsignedShort();
+            if (version != FORMAT_VERSION) {
+                throw new IllegalValueException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+            }
+            String[] dictionary = new String[readCount(in)];
+            for (int i = 0; i < dictionary.length; i++) {
+                dictionary[i] = in.readUTF();
+            }
+
+            PersonReader reader = new PersonReader(dictionary);
+            int personCount = readCount(in);
+            List<Person> persons = new ArrayList<>(personCount);
+            for (int i = 0; i < personCount; i++) {
+                int recordLength = readCount(in);
+                int recordEnd = in.available() - recordLength;
+                persons.add(reader.read(in));
+                if (in.available() != recordEnd) {
+                    throw new IllegalValueException(MESSAGE_CORRUPTED);
+                }
+            }
+            if (in.available() != 0) {
+                throw new IllegalValueException(MESSAGE_CORRUPTED);
+            }
+
+            AddressBook addressBook = new AddressBook();
+            addressBook.setPersons(persons);
+            return addressBook;
+        } catch (IOException | IndexOutOfBoundsException e) {
+            throw new IllegalValueException(MESSAGE_CORRUPTED, e);
+        } catch (IllegalArgumentException e) {
+            // a value that the model rejects
+            throw new IllegalValueException(e.getMessage(), e);
+        } catch (DuplicatePersonException e) {
+            throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON);
+        }
+    }
+
+    /**
+     * Reads person records, sharing one {@code ClassGroup} or {@code Assignment} among all persons that have it.
+     */
+    private static final class PersonReader {
+        private final String[] dictionary;
+        private final ClassGroup[] classGroups;
+        private final Map<Long, Assignment> assignments = new HashMap<>();
+
+        PersonReader(String[] dictionary) {
+            this.dictionary = dictionary;
+            this.classGroups = new ClassGroup[dictionary.length];
+        }
+
+        Person read(DataInputStream in) throws IOException {
+            Name name = new Name(in.readUTF());
+            Phone phone = new Phone(in.readUTF());
+            Level level = new Level(in.readUTF());
+
+            int classGroupCount = readCount(in);
+            Set<ClassGroup> personClassGroups = new HashSet<>();
+            for (int i = 0; i < classGroupCount; i++) {
+                personClassGroups.add(classGroup(readIndex(in)));
+            }
+
+            int assignmentCount = readCount(in);
+            long[] keys = new long[assignmentCount];
+            for (int i = 0; i < assignmentCount; i++) {
+                keys[i] = (long) readIndex(in) * dictionary.length + readIndex(in);
+            }
+            byte[] markedFlags = new byte[(assignmentCount + Byte.SIZE - 1) / Byte.SIZE];
+            in.readFully(markedFlags);
+            Set<Assignment> personAssignments = new HashSet<>();
+            for (int i = 0; i < assignmentCount; i++) {
+                boolean isMarked = (markedFlags[i / Byte.SIZE] & (1 << (i % Byte.SIZE))) != 0;
+                personAssignments.add(assignment(keys[i], isMarked));
+            }
+            return new Person(name, phone, level, personClassGroups, personAssignments);
+        }
+
+        private int readIndex(DataInputStream in) throws IOException {
+            int index = readVarInt(in);
+            if (index >= dictionary.length) {
+                throw new IOException(MESSAGE_CORRUPTED);
+            }
+            return index;
+        }
+
+        private ClassGroup classGroup(int index) {
+            if (classGroups[index] == null) {
+                classGroups[index] = ClassGroup.of(dictionary[index]);
+            }
+            return classGroups[index];
+        }
+
+        private Assignment assignment(long key, boolean isMarked) {
+            return assignments.computeIfAbsent(key * 2 + (isMarked ? 1 : 0), unused -> Assignment.of(
+                    dictionary[(int) (key / dictionary.length)], dictionary[(int) (key % dictionary.length)],
+                    isMarked));
+        }
+    }
+
+    /**
+     * Writes {@code value}, which must not be negative, in 7-bit groups from the lowest, using the high bit of each
+     * byte to mark that more groups follow.
+     */
+    private static void writeVarInt(DataOutput out, int value) throws IOException {
+        assert value >= 0;
+        int remaining = value;
+        while ((remaining & ~0x7f) != 0) {
+            out.writeByte((remaining & 0x7f) | 0x80);
+            remaining >>>= 7;
+        }
+        out.writeByte(remaining);
+    }
+
+    private static int readVarInt(DataInput in) throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < Integer.SIZE; shift += 7) {
+            int group = in.readUnsignedByte();
+            value |= (group & 0x7f) << shift;
+            if ((group & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException(MESSAGE_CORRUPTED);
+    }
+
+    /**
+     * Reads a count, rejecting one that cannot be right so that corrupted data never causes a huge allocation.
+     */
+    private static int readCount(DataInputStream in) throws IOException {
+        int count = readVarInt(in);
+        if (count < 0 || count > in.available()) {
+            throw new IOException(MESSAGE_CORRUPTED);
+        }
+        return count;
+    }
+}
@@ -0,0 +1,112 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.OpenOption;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.zip.CRC32;
+
+import seedu.address.commons.util.FileUtil;
+
+/**
+ * Reads and writes append-only text logs whose lines each start with a CRC-32 checksum of the rest of the line.
+ * <p>
+ * Whole logs are replaced atomically, so a crash can at worst leave a torn last line, which then fails its checksum.
+ * Like other file writes, appends and replacements wait for the data to reach the disk only if
+ * {@link FileUtil#isSyncOnWrite()}.
+ */
+final class ChecksummedLog {
+
+    private ChecksummedLog() {}
+
+    /**
+     * Returns {@code payload} prefixed with its checksum. {@code payload} must not contain line breaks.
+     */
+    static String frame(String payload) {
+        assert payload.indexOf('\n') < 0 && payload.indexOf('\r') < 0;
+        return String.format("%08x %s", checksum(payload), payload);
+    }
+
+    /**
+     * Returns the payload of {@code line}, or {@code Optional.empty()} if the line fails its checksum.
+     */
+    static Optional<String> unframe(String line) {
+        int separator = line.indexOf(' ');
+        if (separator < 0) {
+            return Optional.empty();
+        }
+        String payload = line.substring(separator + 1);
+        try {
+            return Long.parseLong(line.substring(0, separator), 16) == checksum(payload)
+                    ? Optional.of(payload)
+                    : Optional.empty();
+        } catch (NumberFormatException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Returns the lines of {@code file}, still framed.
+     * Malformed characters are replaced rather than rejected, as a torn last line may end in the middle of one.
+     */
+    static List<String> readLines(Path file) throws IOException {
+        return new String(Files.readAllBytes(file), StandardCharsets.UTF_8)
+                .lines()
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Appends {@code payloads} to {@code file} as framed lines, creating the file if it is missing.
+     */
+    static void append(Path file, List<String> payloads) throws IOException {
+        FileUtil.createParentDirsOfFile(file);
+        write(file, join(payloads), StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+    }
+
+    /**
+     * Atomically replaces the contents of {@code file} with {@code payloads} as framed lines.
+     */
+    static void replace(Path file, List<String> payloads) throws IOException {
+        FileUtil.writeToFileAtomically(file, join(payloads));
+    }
+
+    private static String join(List<String> payloads) {
+        StringBuilder lines = new StringBuilder();
+        for (String payload : payloads) {
+            lines.append(frame(payload)).append('\n');
+        }
+        return lines.toString();
+    }
+
+    private static void write(Path file, String content, OpenOption... options) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, options)) {
+            ByteBuffer buffer = ByteBuffer.wrap(content.getBytes(StandardCharsets.UTF_8));
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            if (FileUtil.isSyncOnWrite()) {
+                channel.force(false);
+            }
+        }
+    }
+
+    /**
+     * Returns the CRC-32 checksum of {@code bytes}.
+     */
+    static long checksum(byte[] bytes) {
+        CRC32 crc = new CRC32();
+        crc.update(bytes);
+        return crc.getValue();
+    }
+
+    private static long checksum(String payload) {
+        return checksum(payload.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -2,6 +2,7 @@ package seedu.address.storage;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
 
 import seedu.address.model.CommandHistory;
@@ -34,10 +35,20 @@ public interface CommandHistoryStorage {
 
     /**
      * Saves the provided {@link CommandHistory} to storage.
+     * Implementations may write only the commands added since {@code history} was last saved to them.
      *
      * @param history the command history to save; must not be null.
      * @throws IOException if there is an error writing to the storage.
      */
     void saveCommandHistory(CommandHistory history) throws IOException;
+
+    /**
+     * Appends {@code commands} to the stored history, oldest first, dropping the oldest stored commands if there are
+     * more than the storage keeps.
+     *
+     * @param commands the commands to append; must not be null.
+     * @throws IOException if there is an error writing to the storage.
+     */
+    void appendCommandHistory(List<String> commands) throws IOException;
 }
 
@@ -0,0 +1,61 @@
+package seedu.address.storage;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.person.Person;
+import seedu.address.model.versionmanager.PersonChange;
+
+/**
+ * Jackson-friendly version of {@link PersonChange}.
+ */
+class JsonAdaptedPersonChange {
+
+    public static final String MESSAGE_INVALID_CHANGE = "Person change must have a valid index and a person.";
+
+    private final int index;
+    private final JsonAdaptedPerson before;
+    private final JsonAdaptedPerson after;
+
+    /**
+     * Constructs a {@code JsonAdaptedPersonChange} with the given change details.
+     */
+    @JsonCreator
+    public JsonAdaptedPersonChange(@JsonProperty("index") int index, @JsonProperty("before") JsonAdaptedPerson before,
+            @JsonProperty("after") JsonAdaptedPerson after) {
+        this.index = index;
+        this.before = before;
+        this.after = after;
+    }
+
+    /**
+     * Converts a given {@code PersonChange} into this class for Jackson use.
+     */
+    public JsonAdaptedPersonChange(PersonChange source) {
+        index = source.getIndex();
+        before = source.getBefore() == null ? null : new JsonAdaptedPerson(source.getBefore());
+        after = source.getAfter() == null ? null : new JsonAdaptedPerson(source.getAfter());
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted change object into the model's {@code PersonChange} object.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted change.
+     */
+    public PersonChange toModelType() throws IllegalValueException {
+        if (index < 0 || (before == null && after == null)) {
+            throw new IllegalValueException(MESSAGE_INVALID_CHANGE);
+        }
+        Person modelBefore = before == null ? null : before.toModelType();
+        Person modelAfter = after == null ? null : after.toModelType();
+
+        if (modelBefore == null) {
+            return PersonChange.ofAddition(index, modelAfter);
+        } else if (modelAfter == null) {
+            return PersonChange.ofRemoval(index, modelBefore);
+        } else {
+            return PersonChange.ofEdit(index, modelBefore, modelAfter);
+        }
+    }
+}
@@ -2,35 +2,104 @@ package seedu.address.storage;
 
 import static java.util.Objects.requireNonNull;
 
+import java.io.BufferedInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import java.util.logging.Logger;
+import java.util.stream.Collectors;
 
+import seedu.address.commons.core.AddressBookSaveMode;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.FileUtil;
 import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+import seedu.address.model.versionmanager.PersistentVector;
+import seedu.address.model.versionmanager.PersonChange;
 
 /**
  * A class to access AddressBook data stored as a json file on the hard disk.
+ * <p>
+ * In {@link AddressBookSaveMode#WRITE_AHEAD_LOG} mode, the json file is only a checkpoint: each save appends just
+ * the changed persons to a journal next to it, and the checkpoint is rewritten every {@code checkpointInterval}
+ * saves. The journal starts with the checksum of the checkpoint it applies to, followed by one line of changes per
+ * save, all framed by {@link ChecksummedLog}. Reading loads the checkpoint and replays the journal on top of it,
+ * whatever the current mode, so that switching modes never loses saved changes. Any other mode rewrites the whole
+ * json file on every save.
+ * <p>
+ * The json file is streamed to and from the disk one person at a time, and is only indented if
+ * {@code isPrettyPrinted}, which makes it both smaller and faster to write.
  */
 public class JsonAddressBookStorage implements AddressBookStorage {
 
+    public static final String MESSAGE_JOURNAL_MISMATCH = "Journal does not apply to the saved address book.";
+
     private static final Logger logger = LogsCenter.getLogger(JsonAddressBookStorage.class);
 
+    private static final String JOURNAL_EXTENSION = ".wal";
+    private static final String CHECKPOINT_TAG = "G";
+    private static final String CHANGES_TAG = "C";
+    private static final int READ_BUFFER_SIZE = 64 * 1024;
+
     private Path filePath;
+    private final Path journalFilePath;
+    private final AddressBookSaveMode saveMode;
+    private final int checkpointInterval;
+    private final boolean isPrettyPrinted;
+    private final boolean isParallelLoading;
+
+    // Whether the checkpoint and journal on disk hold the data that the next changes will be applied to
+    private boolean isJournalInSync = false;
+    private int recordsSinceCheckpoint = 0;
 
     public JsonAddressBookStorage(Path filePath) {
+        this(filePath, AddressBookSaveMode.FULL, Integer.MAX_VALUE, true);
+    }
+
+    /**
+     * Constructs a {@code JsonAddressBookStorage} that saves in {@code saveMode}, rewriting the json file after
+     * every {@code checkpointInterval} journaled saves, and indents the json file if {@code isPrettyPrinted}.
+     * Persons are converted in parallel when loading.
+     */
+    public JsonAddressBookStorage(Path filePath, AddressBookSaveMode saveMode, int checkpointInterval,
+            boolean isPrettyPrinted) {
+        this(filePath, saveMode, checkpointInterval, isPrettyPrinted, true);
+    }
+
+    /**
+     * Similar to {@link #JsonAddressBookStorage(Path, AddressBookSaveMode, int, boolean)}, converting persons in
+     * parallel when loading only if {@code isParallelLoading}.
+     */
+    public JsonAddressBookStorage(Path filePath, AddressBookSaveMode saveMode, int checkpointInterval,
+            boolean isPrettyPrinted, boolean isParallelLoading) {
+        requireNonNull(filePath);
+        requireNonNull(saveMode);
+        assert checkpointInterval > 0;
         this.filePath = filePath;
+        this.journalFilePath = filePath.resolveSibling(filePath.getFileName() + JOURNAL_EXTENSION);
+        this.saveMode = saveMode;
+        this.checkpointInterval = checkpointInterval;
+        this.isPrettyPrinted = isPrettyPrinted;
+        this.isParallelLoading = isParallelLoading;
     }
 
     public Path getAddressBookFilePath() {
         return filePath;
     }
 
+    public Path getJournalFilePath() {
+        return journalFilePath;
+    }
+
     @Override
     public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
         return readAddressBook(filePath);
@@ -45,23 +114,127 @@ public class JsonAddressBookStorage implements AddressBookStorage {
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableAddressBook> jsonAddressBook = JsonUtil.readJsonFile(
-                filePath, JsonSerializableAddressBook.class);
-        if (!jsonAddressBook.isPresent()) {
+        if (!Files.exists(filePath)) {
             return Optional.empty();
         }
 
-        try {
-            return Optional.of(jsonAddressBook.get().toModelType());
+        AddressBook checkpoint;
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(filePath), READ_BUFFER_SIZE)) {
+            checkpoint = JsonSerializableAddressBook.read(in, isParallelLoading);
+        } catch (IOException ioe) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + ioe);
+            throw new DataLoadingException(ioe);
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataLoadingException(ive);
         }
+
+        if (!filePath.equals(this.filePath) || !Files.exists(journalFilePath)) {
+            return Optional.of(checkpoint);
+        }
+        try {
+            return Optional.of(replayJournal(checkpoint));
+        } catch (IOException ioe) {
+            logger.warning("Could not read the journal " + journalFilePath + ", ignoring it: " + ioe.getMessage());
+            return Optional.of(checkpoint);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + journalFilePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    /**
+     * Returns {@code checkpoint} with the changes in the journal applied, if the journal starts from it.
+     * Replaying stops at the first line that is incomplete, corrupted or does not apply to the persons replayed so far.
+     *
+     * @throws IllegalValueException if the replayed persons hold duplicates.
+     */
+    private AddressBook replayJournal(AddressBook checkpoint) throws IOException, IllegalValueException {
+        List<String> lines = ChecksummedLog.readLines(journalFilePath);
+        String expectedHeader = CHECKPOINT_TAG + " " + String.format("%08x", checksumOfCheckpoint());
+        if (lines.isEmpty() || !ChecksummedLog.unframe(lines.get(0)).equals(Optional.of(expectedHeader))) {
+            logger.info("Ignoring the journal " + journalFilePath + ", as it was written for an older checkpoint");
+            return checkpoint;
+        }
+
+        PersistentVector<Person> persons = checkpoint.snapshot().getPersons();
+        int replayed = 0;
+        for (String line : lines.subList(1, lines.size())) {
+            Optional<List<PersonChange>> changes = parseRecord(line);
+            if (changes.isEmpty()) {
+                logger.warning("Ignoring the journal from line " + (replayed + 2) + " of " + journalFilePath
+                        + " onwards, as it is incomplete or corrupted");
+                break;
+            }
+            try {
+                persons = replay(persons, changes.get());
+            } catch (IllegalValueException e) {
+                // keep what was replayed so far rather than lose the checkpoint too
+                logger.warning("Ignoring the journal from line " + (replayed + 2) + " of " + journalFilePath
+                        + " onwards, as it does not apply to the address book");
+                break;
+            }
+            replayed++;
+        }
+
+        AddressBook addressBook = new AddressBook();
+        try {
+            addressBook.setPersons(persons.toList());
+        } catch (DuplicatePersonException e) {
+            throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON);
+        }
+        logger.fine("Replayed " + replayed + " journaled saves from " + journalFilePath);
+
+        // a line that was not replayed cannot be appended after, so the next save starts a new checkpoint instead
+        isJournalInSync = replayed == lines.size() - 1;
+        recordsSinceCheckpoint = replayed;
+        return addressBook;
+    }
+
+    private static Optional<List<PersonChange>> parseRecord(String line) {
+        Optional<String> payload = ChecksummedLog.unframe(line);
+        if (payload.isEmpty() || !payload.get().startsWith(CHANGES_TAG + " ")) {
+            return Optional.empty();
+        }
+        try {
+            List<PersonChange> changes = new ArrayList<>();
+            String json = payload.get().substring(CHANGES_TAG.length() + 1);
+            for (JsonAdaptedPersonChange change : JsonUtil.fromJsonString(json, JsonAdaptedPersonChange[].class)) {
+                changes.add(change.toModelType());
+            }
+            return Optional.of(changes);
+        } catch (IOException | IllegalValueException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Returns {@code persons} with {@code changes} applied in order.
+     * Applies them to a vector rather than an address book, as a single save may swap persons between positions.
+     *
+     * @throws IllegalValueException if a change does not find the person it expects at its position.
+     */
+    private static PersistentVector<Person> replay(PersistentVector<Person> persons, List<PersonChange> changes)
+            throws IllegalValueException {
+        PersistentVector<Person> result = persons;
+        for (PersonChange change : changes) {
+            Person expected = change.getBefore();
+            int lastIndex = expected == null ? result.size() : result.size() - 1;
+            if (change.getIndex() > lastIndex || expected != null && !expected.equals(result.get(change.getIndex()))) {
+                throw new IllegalValueException(MESSAGE_JOURNAL_MISMATCH);
+            }
+            result = change.apply(result);
+        }
+        return result;
     }
 
     @Override
     public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
-        saveAddressBook(addressBook, filePath);
+        if (saveMode == AddressBookSaveMode.WRITE_AHEAD_LOG) {
+            saveCheckpoint(addressBook);
+        } else {
+            saveAddressBook(addressBook, filePath);
+        }
     }
 
     /**
@@ -73,8 +246,62 @@ public class JsonAddressBookStorage implements AddressBookStorage {
         requireNonNull(addressBook);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), filePath);
+        boolean isCheckpoint = filePath.equals(this.filePath);
+        if (isCheckpoint) {
+            // the journal no longer starts from the data file until a new one is started
+            isJournalInSync = false;
+        }
+        FileUtil.writeToFileAtomically(filePath,
+                out -> JsonSerializableAddressBook.write(addressBook, out, isPrettyPrinted));
+        if (isCheckpoint && saveMode != AddressBookSaveMode.WRITE_AHEAD_LOG) {
+            Files.deleteIfExists(journalFilePath);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, List<PersonChange> changes) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(changes);
+
+        if (saveMode != AddressBookSaveMode.WRITE_AHEAD_LOG) {
+            saveAddressBook(addressBook);
+            return;
+        }
+        if (isJournalInSync && changes.isEmpty()) {
+            return;
+        }
+        // a journal line larger than the whole address book is not worth replaying
+        if (!isJournalInSync || recordsSinceCheckpoint >= checkpointInterval
+                || changes.size() > addressBook.size()) {
+            saveCheckpoint(addressBook);
+            return;
+        }
+
+        List<JsonAdaptedPersonChange> adaptedChanges = changes.stream()
+                .map(JsonAdaptedPersonChange::new)
+                .collect(Collectors.toList());
+        isJournalInSync = false;
+        ChecksummedLog.append(journalFilePath,
+                List.of(CHANGES_TAG + " " + JsonUtil.toCompactJsonString(adaptedChanges)));
+        isJournalInSync = true;
+        recordsSinceCheckpoint++;
+    }
+
+    /**
+     * Rewrites the json file with {@code addressBook} and starts an empty journal from it.
+     * A crash in between leaves the old journal, which no longer matches the json file and is then ignored.
+     */
+    private void saveCheckpoint(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+        ChecksummedLog.replace(journalFilePath,
+                List.of(CHECKPOINT_TAG + " " + String.format("%08x", checksumOfCheckpoint())));
+        isJournalInSync = true;
+        recordsSinceCheckpoint = 0;
+        logger.fine("Saved a checkpoint of the address book to " + filePath);
+    }
+
+    private long checksumOfCheckpoint() throws IOException {
+        return ChecksummedLog.checksum(Files.readAllBytes(filePath));
     }
 
 }
@@ -1,26 +1,52 @@
 package seedu.address.storage;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonRootName;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 
 import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
 
 /**
  * An Immutable AddressBook that is serializable to JSON format.
+ * <p>
+ * Large address books can also be written and read with {@link #write} and {@link #read}, which stream the persons
+ * one at a time instead of holding all of them as {@code JsonAdaptedPerson}s and JSON text at once.
  */
 @JsonRootName(value = "addressbook")
 class JsonSerializableAddressBook {
 
     public static final String MESSAGE_DUPLICATE_PERSON = "Persons list contains duplicate person(s).";
 
+    public static final String MESSAGE_PERSON_ERROR_FORMAT = "persons[%d]: %s";
+    public static final String MESSAGE_DUPLICATE_OF_FORMAT = "Same name and phone as persons[%d].";
+
+    private static final String PERSONS_FIELD = "persons";
+    // Number of persons converted together, large enough to outweigh the cost of handing a chunk to another thread
+    private static final int CHUNK_SIZE = 1024;
+
     private final List<JsonAdaptedPerson> persons = new ArrayList<>();
 
     /**
@@ -46,15 +72,187 @@ class JsonSerializableAddressBook {
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public AddressBook toModelType() throws IllegalValueException {
-        AddressBook addressBook = new AddressBook();
+        List<Person> modelPersons = new ArrayList<>(persons.size());
         for (JsonAdaptedPerson jsonAdaptedPerson : persons) {
-            Person person = jsonAdaptedPerson.toModelType();
-            if (addressBook.hasPerson(person)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
+            modelPersons.add(jsonAdaptedPerson.toModelType());
+        }
+
+        return toAddressBook(modelPersons);
+    }
+
+    /**
+     * Writes {@code source} to {@code out} in the same format as this class, one person at a time.
+     * Leaves {@code out} open.
+     *
+     * @param isPrettyPrinted whether to indent the JSON as {@link JsonUtil#toJsonString(Object)} does.
+     */
+    public static void write(ReadOnlyAddressBook source, OutputStream out, boolean isPrettyPrinted)
+            throws IOException {
+        try (JsonGenerator generator = JsonUtil.createGenerator(out, isPrettyPrinted)) {
+            generator.writeStartObject();
+            generator.writeFieldName(PERSONS_FIELD);
+            generator.writeStartArray();
+            for (Person person : source.getPersonList()) {
+                JsonUtil.writeValue(generator, new JsonAdaptedPerson(person));
             }
-            addressBook.addPerson(person);
+            generator.writeEndArray();
+            generator.writeEndObject();
+        }
+    }
+
+    /**
+     * Reads an address book written in the format of this class from {@code in}, converting persons into the model's
+     * {@code Person} in chunks as they are parsed. Unknown fields are ignored.
+     * Unlike {@link #toModelType()}, every person is checked before failing, so that all the problems in the file can
+     * be reported together.
+     *
+     * @param isParallel whether to convert chunks on the common fork-join pool while later persons are parsed.
+     * @throws IOException if {@code in} could not be read or does not hold an address book in JSON format.
+     * @throws IllegalValueException if there were any data constraints violated, with one line per invalid or
+     *     duplicate person giving its index in the persons array.
+     */
+    public static AddressBook read(InputStream in, boolean isParallel) throws IOException, IllegalValueException {
+        PersonConverter converter = new PersonConverter(isParallel);
+        try (JsonParser parser = JsonUtil.createParser(in)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new JsonParseException(parser, "Expected an address book object");
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.getCurrentName();
+                JsonToken value = parser.nextToken();
+                if (!field.equals(PERSONS_FIELD) || value == JsonToken.VALUE_NULL) {
+                    parser.skipChildren();
+                    continue;
+                }
+                if (value != JsonToken.START_ARRAY) {
+                    throw new JsonParseException(parser, "Expected an array of persons");
+                }
+                JsonToken token;
+                while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+                    if (token == null) {
+                        throw new JsonParseException(parser, "Unexpected end of the persons array");
+                    }
+                    converter.add(JsonUtil.readValue(parser, JsonAdaptedPerson.class));
+                }
+            }
+            if (parser.getCurrentToken() != JsonToken.END_OBJECT) {
+                throw new JsonParseException(parser, "Unexpected end of the address book object");
+            }
+        }
+        return converter.finish();
+    }
+
+    private static AddressBook toAddressBook(List<Person> persons) throws IllegalValueException {
+        AddressBook addressBook = new AddressBook();
+        try {
+            addressBook.setPersons(persons);
+        } catch (DuplicatePersonException dpe) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
         }
         return addressBook;
     }
 
+    /**
+     * Converts persons handed to it in order, a chunk at a time, and merges the chunks once all are converted.
+     * Illegal values and duplicates are collected by the index of the person in the persons array.
+     */
+    private static final class PersonConverter {
+        private final boolean isParallel;
+        private final List<ChunkConversion> chunks = new ArrayList<>();
+        private List<JsonAdaptedPerson> pending = new ArrayList<>(CHUNK_SIZE);
+        private int count = 0;
+
+        PersonConverter(boolean isParallel) {
+            this.isParallel = isParallel;
+        }
+
+        void add(JsonAdaptedPerson person) {
+            pending.add(person);
+            count++;
+            if (pending.size() == CHUNK_SIZE) {
+                convertPending();
+            }
+        }
+
+        private void convertPending() {
+            if (pending.isEmpty()) {
+                return;
+            }
+            ChunkConversion chunk = new ChunkConversion(count - pending.size(), pending);
+            chunks.add(chunk);
+            pending = new ArrayList<>(CHUNK_SIZE);
+            if (isParallel) {
+                ForkJoinPool.commonPool().execute(chunk);
+            } else {
+                chunk.invoke();
+            }
+        }
+
+        /**
+         * Waits for all chunks to be converted and returns the address book holding them.
+         *
+         * @throws IllegalValueException if any person is invalid or a duplicate of an earlier one.
+         */
+        AddressBook finish() throws IllegalValueException {
+            convertPending();
+            List<Person> persons = new ArrayList<>(count);
+            Map<Integer, String> errors = new TreeMap<>();
+            // a hash of identities rather than the address book's own check, to tell which persons are duplicates
+            Map<Map.Entry<Name, Phone>, Integer> firstIndices = new HashMap<>();
+            for (ChunkConversion chunk : chunks) {
+                chunk.join();
+                errors.putAll(chunk.errors);
+                for (int i = 0; i < chunk.persons.length; i++) {
+                    Person person = chunk.persons[i];
+                    if (person == null) {
+                        continue;
+                    }
+                    int index = chunk.firstIndex + i;
+                    Integer firstIndex = firstIndices.putIfAbsent(
+                            Map.entry(person.getName(), person.getPhone()), index);
+                    if (firstIndex != null) {
+                        errors.put(index, String.format(MESSAGE_DUPLICATE_OF_FORMAT, firstIndex));
+                    }
+                    persons.add(person);
+                }
+            }
+
+            if (!errors.isEmpty()) {
+                throw new IllegalValueException(errors.entrySet().stream()
+                        .map(error -> String.format(MESSAGE_PERSON_ERROR_FORMAT, error.getKey(), error.getValue()))
+                        .collect(Collectors.joining("\n")));
+            }
+            return toAddressBook(persons);
+        }
+    }
+
+    /**
+     * Converts a chunk of consecutive persons, recording the message of each person that fails to convert.
+     */
+    private static final class ChunkConversion extends RecursiveAction {
+        private final int firstIndex;
+        private final Person[] persons;
+        private final Map<Integer, String> errors = new HashMap<>();
+        private List<JsonAdaptedPerson> adaptedPersons;
+
+        ChunkConversion(int firstIndex, List<JsonAdaptedPerson> adaptedPersons) {
+            this.firstIndex = firstIndex;
+            this.persons = new Person[adaptedPersons.size()];
+            this.adaptedPersons = adaptedPersons;
+        }
+
+        @Override
+        protected void compute() {
+            for (int i = 0; i < persons.length; i++) {
+                try {
+                    persons[i] = adaptedPersons.get(i).toModelType();
+                } catch (IllegalValueException ive) {
+                    errors.put(firstIndex + i, ive.getMessage());
+                }
+            }
+            // only the converted persons are needed from now on
+            adaptedPersons = null;
+        }
+    }
+
 }
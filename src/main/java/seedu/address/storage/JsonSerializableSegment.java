@@ -0,0 +1,49 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.model.person.Person;
+
+/**
+ * A segment of an address book saved by {@link SegmentedAddressBookStorage}, which is serializable to JSON format.
+ * Each person is saved with its rank, which orders the persons of all segments.
+ */
+class JsonSerializableSegment {
+
+    private final List<Long> ranks = new ArrayList<>();
+    private final List<JsonAdaptedPerson> persons = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonSerializableSegment} with the given ranks and persons.
+     */
+    @JsonCreator
+    public JsonSerializableSegment(@JsonProperty("ranks") List<Long> ranks,
+            @JsonProperty("persons") List<JsonAdaptedPerson> persons) {
+        if (ranks != null) {
+            this.ranks.addAll(ranks);
+        }
+        if (persons != null) {
+            this.persons.addAll(persons);
+        }
+    }
+
+    /**
+     * Converts the given persons and their ranks into this class for Jackson use.
+     */
+    public JsonSerializableSegment(List<Long> ranks, Iterable<Person> persons) {
+        this.ranks.addAll(ranks);
+        persons.forEach(person -> this.persons.add(new JsonAdaptedPerson(person)));
+    }
+
+    public List<Long> getRanks() {
+        return ranks;
+    }
+
+    public List<JsonAdaptedPerson> getPersons() {
+        return persons;
+    }
+}
@@ -0,0 +1,51 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * The manifest of an address book saved by {@link SegmentedAddressBookStorage}, which is serializable to JSON format.
+ * It names the file currently holding each segment, or null for an empty segment.
+ */
+class JsonSerializableSegmentManifest {
+
+    private final long generation;
+    private final int segmentBits;
+    private final List<String> segments = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonSerializableSegmentManifest} with the given details.
+     */
+    @JsonCreator
+    public JsonSerializableSegmentManifest(@JsonProperty("generation") long generation,
+            @JsonProperty("segmentBits") int segmentBits, @JsonProperty("segments") List<String> segments) {
+        this.generation = generation;
+        this.segmentBits = segmentBits;
+        if (segments != null) {
+            this.segments.addAll(segments);
+        }
+    }
+
+    /**
+     * Constructs a {@code JsonSerializableSegmentManifest} naming the file of each segment in {@code segmentFiles}.
+     */
+    public JsonSerializableSegmentManifest(long generation, int segmentBits, String[] segmentFiles) {
+        this(generation, segmentBits, Arrays.asList(segmentFiles));
+    }
+
+    public long getGeneration() {
+        return generation;
+    }
+
+    public int getSegmentBits() {
+        return segmentBits;
+    }
+
+    public List<String> getSegments() {
+        return segments;
+    }
+}
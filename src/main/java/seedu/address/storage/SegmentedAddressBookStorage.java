@@ -0,0 +1,397 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+import seedu.address.model.versionmanager.PersonChange;
+
+/**
+ * A class to access AddressBook data stored as json segment files on the hard disk, so that a save only rewrites the
+ * segments holding the persons that changed.
+ * <p>
+ * Each person is given a rank, which orders the persons and never changes while the person stays in the address
+ * book, and is kept in the segment picked by the hash of its rank. Editing, adding or deleting a person therefore
+ * rewrites a single segment of a few hundred persons however large the address book is. Persons added between
+ * others take a rank between theirs, and the ranks are renumbered by rewriting every segment when there is no room.
+ * <p>
+ * Segments are never overwritten. Changed segments are written to new files, and a small manifest naming the current
+ * file of every segment is then replaced atomically, so a crash leaves either the old or the new address book.
+ * The number of segments is chosen when every segment is rewritten, to keep about {@link #PERSONS_PER_SEGMENT}
+ * persons in each.
+ */
+public class SegmentedAddressBookStorage implements AddressBookStorage {
+
+    public static final String DIRECTORY_EXTENSION = ".segments";
+    public static final String MANIFEST_FILE_NAME = "manifest.json";
+    public static final String MESSAGE_CORRUPTED = "Segmented address book is incomplete or corrupted.";
+
+    /** Number of persons that each segment holds on average when every segment is rewritten. */
+    public static final int PERSONS_PER_SEGMENT = 256;
+
+    private static final Logger logger = LogsCenter.getLogger(SegmentedAddressBookStorage.class);
+
+    private static final String SEGMENT_FILE_FORMAT = "segment-%d-%d.json";
+    private static final String SEGMENT_FILE_PATTERN = "segment-[0-9]*-[0-9]*.json";
+    private static final int MAX_SEGMENT_BITS = 16;
+    private static final long RANK_GAP = 1L << 20;
+    // Spreads ranks, which are multiples of RANK_GAP when renumbered, evenly over the segments
+    private static final long RANK_MIXER = 0x9E3779B97F4A7C15L;
+
+    private final Path filePath;
+
+    // Whether the fields below describe the files on disk, so that changes can be saved on top of them
+    private boolean isInSync = false;
+    private long generation;
+    private int segmentBits;
+    private String[] segmentFiles;
+    private List<Long> ranks;
+
+    /**
+     * Constructs a {@code SegmentedAddressBookStorage} whose manifest is at {@code filePath}, with its segments next
+     * to it.
+     */
+    public SegmentedAddressBookStorage(Path filePath) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+    }
+
+    /**
+     * Returns the path of the manifest kept for the json file at {@code jsonFilePath}, in a directory with the same
+     * name as the json file, with its extension replaced by {@link #DIRECTORY_EXTENSION}.
+     */
+    public static Path getManifestFilePath(Path jsonFilePath) {
+        String fileName = jsonFilePath.getFileName().toString();
+        int extensionStart = fileName.lastIndexOf('.');
+        String baseName = extensionStart > 0 ? fileName.substring(0, extensionStart) : fileName;
+        return jsonFilePath.resolveSibling(baseName + DIRECTORY_EXTENSION).resolve(MANIFEST_FILE_NAME);
+    }
+
+    /**
+     * Returns the path of the manifest.
+     */
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the manifest. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        Optional<JsonSerializableSegmentManifest> manifest =
+                JsonUtil.readJsonFile(filePath, JsonSerializableSegmentManifest.class);
+        if (manifest.isEmpty()) {
+            return Optional.empty();
+        }
+
+        int bits = manifest.get().getSegmentBits();
+        String[] files = manifest.get().getSegments().toArray(new String[0]);
+        TreeMap<Long, JsonAdaptedPerson> personsByRank = new TreeMap<>();
+        AddressBook addressBook = new AddressBook();
+        try {
+            if (bits < 0 || bits > MAX_SEGMENT_BITS || files.length != 1 << bits) {
+                throw new IllegalValueException(MESSAGE_CORRUPTED);
+            }
+            for (int segment = 0; segment < files.length; segment++) {
+                if (files[segment] != null) {
+                    readSegment(filePath.resolveSibling(files[segment]), segment, bits, personsByRank);
+                }
+            }
+
+            List<Person> persons = new ArrayList<>(personsByRank.size());
+            for (JsonAdaptedPerson person : personsByRank.values()) {
+                persons.add(person.toModelType());
+            }
+            addressBook.setPersons(persons);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        } catch (DuplicatePersonException dpe) {
+            logger.info("Illegal values found in " + filePath + ": " + dpe.getMessage());
+            throw new DataLoadingException(new IllegalValueException(
+                    JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON));
+        }
+
+        if (filePath.equals(this.filePath)) {
+            generation = manifest.get().getGeneration();
+            segmentBits = bits;
+            segmentFiles = files;
+            ranks = new ArrayList<>(personsByRank.keySet());
+            isInSync = true;
+        }
+        return Optional.of(addressBook);
+    }
+
+    /**
+     * Adds the persons in the file of {@code segment} to {@code personsByRank}.
+     *
+     * @throws IllegalValueException if the file is missing, or holds persons that belong to another segment or share
+     *     a rank with another person.
+     */
+    private static void readSegment(Path file, int segment, int bits, TreeMap<Long, JsonAdaptedPerson> personsByRank)
+            throws DataLoadingException, IllegalValueException {
+        JsonSerializableSegment contents = JsonUtil.readJsonFile(file, JsonSerializableSegment.class)
+                .orElseThrow(() -> new IllegalValueException(MESSAGE_CORRUPTED));
+        List<Long> segmentRanks = contents.getRanks();
+        List<JsonAdaptedPerson> segmentPersons = contents.getPersons();
+        if (segmentRanks.size() != segmentPersons.size()) {
+            throw new IllegalValueException(MESSAGE_CORRUPTED);
+        }
+        for (int i = 0; i < segmentRanks.size(); i++) {
+            Long rank = segmentRanks.get(i);
+            if (rank == null || segmentOf(rank, bits) != segment
+                    || personsByRank.put(rank, segmentPersons.get(i)) != null) {
+                throw new IllegalValueException(MESSAGE_CORRUPTED);
+            }
+        }
+    }
+
+    /**
+     * Rewrites every segment, renumbering the ranks.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     *
+     * @param filePath location of the manifest. Cannot be null.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        boolean isOwnFile = filePath.equals(this.filePath);
+        if (isOwnFile) {
+            isInSync = false;
+        }
+        List<Person> persons = addressBook.getPersonList();
+        List<Long> newRanks = new ArrayList<>(persons.size());
+        for (int i = 0; i < persons.size(); i++) {
+            newRanks.add(i * RANK_GAP);
+        }
+        int bits = segmentBitsFor(persons.size());
+        String[] files = new String[1 << bits];
+        BitSet allSegments = new BitSet();
+        allSegments.set(0, files.length);
+
+        long newGeneration = readGeneration(filePath) + 1;
+        writeSegments(filePath, newGeneration, bits, allSegments, persons, newRanks, files);
+        writeManifest(filePath, newGeneration, bits, files);
+        deleteUnusedSegments(filePath, files);
+
+        if (isOwnFile) {
+            generation = newGeneration;
+            segmentBits = bits;
+            segmentFiles = files;
+            ranks = newRanks;
+            isInSync = true;
+        }
+    }
+
+    /**
+     * Rewrites only the segments of the persons in {@code changes}, or every segment if the files on disk are not
+     * known to hold the address book that {@code changes} were made to.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, List<PersonChange> changes) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(changes);
+
+        if (!isInSync) {
+            saveAddressBook(addressBook);
+            return;
+        }
+        if (changes.isEmpty()) {
+            return;
+        }
+
+        List<Person> persons = addressBook.getPersonList();
+        List<Long> newRanks = new ArrayList<>(ranks);
+        BitSet dirtySegments = new BitSet();
+        for (PersonChange change : changes) {
+            OptionalLong rank = applyChange(newRanks, change);
+            if (rank.isEmpty()) {
+                saveAddressBook(addressBook);
+                return;
+            }
+            dirtySegments.set(segmentOf(rank.getAsLong(), segmentBits));
+        }
+        // segments that have grown far beyond their intended size are split by rewriting all of them
+        boolean isOvergrown = segmentBits < MAX_SEGMENT_BITS
+                && persons.size() > 2 * ((long) PERSONS_PER_SEGMENT << segmentBits);
+        if (newRanks.size() != persons.size() || isOvergrown) {
+            saveAddressBook(addressBook);
+            return;
+        }
+
+        isInSync = false;
+        long newGeneration = generation + 1;
+        String[] files = segmentFiles.clone();
+        writeSegments(filePath, newGeneration, segmentBits, dirtySegments, persons, newRanks, files);
+        writeManifest(filePath, newGeneration, segmentBits, files);
+        for (int segment = dirtySegments.nextSetBit(0); segment >= 0; segment = dirtySegments.nextSetBit(segment + 1)) {
+            if (segmentFiles[segment] != null) {
+                Files.deleteIfExists(filePath.resolveSibling(segmentFiles[segment]));
+            }
+        }
+
+        generation = newGeneration;
+        segmentFiles = files;
+        ranks = newRanks;
+        isInSync = true;
+        logger.fine("Saved " + dirtySegments.cardinality() + " changed segments of the address book to " + filePath);
+    }
+
+    /**
+     * Applies {@code change} to {@code ranks}, giving an added person a rank between those of its neighbours.
+     * Returns the rank of the changed person, or {@code OptionalLong.empty()} if the change does not fit
+     * {@code ranks} or there is no room for a new rank.
+     */
+    private static OptionalLong applyChange(List<Long> ranks, PersonChange change) {
+        int index = change.getIndex();
+        if (change.getBefore() == null) {
+            if (index > ranks.size()) {
+                return OptionalLong.empty();
+            }
+            OptionalLong rank = rankBetween(ranks, index);
+            rank.ifPresent(newRank -> ranks.add(index, newRank));
+            return rank;
+        }
+        if (index >= ranks.size()) {
+            return OptionalLong.empty();
+        }
+        return OptionalLong.of(change.getAfter() == null ? ranks.remove(index) : ranks.get(index));
+    }
+
+    private static OptionalLong rankBetween(List<Long> ranks, int index) {
+        if (ranks.isEmpty()) {
+            return OptionalLong.of(0);
+        }
+        long lower = index > 0 ? ranks.get(index - 1) : ranks.get(0) - 2 * RANK_GAP;
+        long upper = index < ranks.size() ? ranks.get(index) : lower + 2 * RANK_GAP;
+        if (upper - lower < 2) {
+            return OptionalLong.empty();
+        }
+        return OptionalLong.of(lower + (upper - lower) / 2);
+    }
+
+    private static int segmentOf(long rank, int bits) {
+        return bits == 0 ? 0 : (int) ((rank * RANK_MIXER) >>> (Long.SIZE - bits));
+    }
+
+    private static int segmentBitsFor(int personCount) {
+        int bits = 0;
+        while (bits < MAX_SEGMENT_BITS && ((long) PERSONS_PER_SEGMENT << bits) < personCount) {
+            bits++;
+        }
+        return bits;
+    }
+
+    /**
+     * Writes the persons of each segment in {@code segments} to a new file of {@code generation}, and records the
+     * names of the files in {@code files}. Segments left empty have no file.
+     */
+    private static void writeSegments(Path manifestFile, long generation, int bits, BitSet segments,
+            List<Person> persons, List<Long> ranks, String[] files) throws IOException {
+        List<List<Integer>> indicesBySegment = new ArrayList<>(files.length);
+        for (int segment = 0; segment < files.length; segment++) {
+            indicesBySegment.add(segments.get(segment) ? new ArrayList<>() : null);
+        }
+        for (int i = 0; i < persons.size(); i++) {
+            List<Integer> indices = indicesBySegment.get(segmentOf(ranks.get(i), bits));
+            if (indices != null) {
+                indices.add(i);
+            }
+        }
+
+        for (int segment = segments.nextSetBit(0); segment >= 0; segment = segments.nextSetBit(segment + 1)) {
+            List<Integer> indices = indicesBySegment.get(segment);
+            if (indices.isEmpty()) {
+                files[segment] = null;
+                continue;
+            }
+            List<Long> segmentRanks = new ArrayList<>(indices.size());
+            List<Person> segmentPersons = new ArrayList<>(indices.size());
+            for (int i : indices) {
+                segmentRanks.add(ranks.get(i));
+                segmentPersons.add(persons.get(i));
+            }
+            files[segment] = String.format(SEGMENT_FILE_FORMAT, segment, generation);
+            FileUtil.writeToFileAtomically(manifestFile.resolveSibling(files[segment]),
+                    JsonUtil.toCompactJsonString(new JsonSerializableSegment(segmentRanks, segmentPersons)));
+        }
+    }
+
+    private static void writeManifest(Path manifestFile, long generation, int bits, String[] files)
+            throws IOException {
+        FileUtil.writeToFileAtomically(manifestFile,
+                JsonUtil.toJsonString(new JsonSerializableSegmentManifest(generation, bits, files)));
+    }
+
+    /**
+     * Returns the generation of the manifest at {@code manifestFile}, or 0 if there is no readable manifest.
+     */
+    private static long readGeneration(Path manifestFile) {
+        try {
+            return JsonUtil.readJsonFile(manifestFile, JsonSerializableSegmentManifest.class)
+                    .map(JsonSerializableSegmentManifest::getGeneration)
+                    .orElse(0L);
+        } catch (DataLoadingException e) {
+            return 0;
+        }
+    }
+
+    /**
+     * Deletes the segment files next to {@code manifestFile} that are not in {@code files}, such as those replaced by
+     * the latest save or left behind by a crash.
+     */
+    private static void deleteUnusedSegments(Path manifestFile, String[] files) throws IOException {
+        Set<String> usedFiles = new HashSet<>(Arrays.asList(files));
+        try (DirectoryStream<Path> segmentFiles = Files.newDirectoryStream(manifestFile.toAbsolutePath().getParent(),
+                SEGMENT_FILE_PATTERN)) {
+            for (Path segmentFile : segmentFiles) {
+                if (!usedFiles.contains(segmentFile.getFileName().toString())) {
+                    Files.deleteIfExists(segmentFile);
+                }
+            }
+        }
+    }
+}
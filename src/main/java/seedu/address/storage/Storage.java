@@ -2,18 +2,22 @@ package seedu.address.storage;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.model.CommandHistory;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.versionmanager.PersonChange;
+import seedu.address.model.versionmanager.VersionHistoryEvent;
 
 /**
  * API of the Storage component
  */
-public interface Storage extends AddressBookStorage, UserPrefsStorage, CommandHistoryStorage {
+public interface Storage extends AddressBookStorage, UserPrefsStorage, CommandHistoryStorage, UndoHistoryStorage {
 
     @Override
     Optional<UserPrefs> readUserPrefs() throws DataLoadingException;
@@ -30,6 +34,21 @@ public interface Storage extends AddressBookStorage, UserPrefsStorage, CommandHi
     @Override
     void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException;
 
+    @Override
+    void saveAddressBook(ReadOnlyAddressBook addressBook, List<PersonChange> changes) throws IOException;
+
+    /**
+     * Returns true if {@code addressBook} is not the address book last saved by this storage, or has been modified
+     * since it was saved.
+     */
+    boolean hasUnsavedChanges(ReadOnlyAddressBook addressBook);
+
+    /**
+     * Records that {@code addressBook}, as it is now, is already saved, such as when it was just read, so that it
+     * has no unsaved changes until it is modified.
+     */
+    void markSaved(ReadOnlyAddressBook addressBook);
+
     @Override
     Path getCommandHistoryFilePath();
 
@@ -39,5 +58,32 @@ public interface Storage extends AddressBookStorage, UserPrefsStorage, CommandHi
     @Override
     void saveCommandHistory(CommandHistory history) throws IOException;
 
+    @Override
+    void appendCommandHistory(List<String> commands) throws IOException;
+
+    @Override
+    Path getUndoHistoryFilePath();
+
+    @Override
+    Optional<List<VersionHistoryEvent>> readUndoHistory() throws IOException;
+
+    @Override
+    void appendUndoHistory(List<VersionHistoryEvent> events) throws IOException;
+
+    @Override
+    void clearUndoHistory() throws IOException;
+
+    /**
+     * Blocks until all saves requested so far are written to disk.
+     *
+     * @throws IOException if a save that was written after returning from its call failed.
+     */
+    void flush() throws IOException;
+
+    /**
+     * Sets the handler to be called with the failures of saves that are written after returning from their call.
+     * Saves that fail before returning throw their failure instead.
+     */
+    void setSaveFailureHandler(Consumer<IOException> saveFailureHandler);
 
 }
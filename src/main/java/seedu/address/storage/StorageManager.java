@@ -2,7 +2,9 @@ package seedu.address.storage;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
@@ -11,6 +13,8 @@ import seedu.address.model.CommandHistory;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.versionmanager.PersonChange;
+import seedu.address.model.versionmanager.VersionHistoryEvent;
 
 /**
  * Manages storage of AddressBook data in local storage.
@@ -21,17 +25,24 @@ public class StorageManager implements Storage {
     private AddressBookStorage addressBookStorage;
     private UserPrefsStorage userPrefsStorage;
     private CommandHistoryStorage commandHistoryStorage;
+    private UndoHistoryStorage undoHistoryStorage;
+
+    // The address book last saved to the data file, and its modification count at the time
+    private ReadOnlyAddressBook savedAddressBook;
+    private long savedModificationCount;
 
     /**
      * Creates a {@code StorageManager} with the given {@code AddressBookStorage},
-     * {@code UserPrefStorage} and {@code CommandHistoryStorage}
+     * {@code UserPrefStorage}, {@code CommandHistoryStorage} and {@code UndoHistoryStorage}
      */
     public StorageManager(AddressBookStorage addressBookStorage,
                           UserPrefsStorage userPrefsStorage,
-                          CommandHistoryStorage commandHistoryStorage) {
+                          CommandHistoryStorage commandHistoryStorage,
+                          UndoHistoryStorage undoHistoryStorage) {
         this.addressBookStorage = addressBookStorage;
         this.userPrefsStorage = userPrefsStorage;
         this.commandHistoryStorage = commandHistoryStorage;
+        this.undoHistoryStorage = undoHistoryStorage;
     }
 
     // ================ UserPrefs methods ==============================
@@ -72,7 +83,9 @@ public class StorageManager implements Storage {
 
     @Override
     public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
-        saveAddressBook(addressBook, addressBookStorage.getAddressBookFilePath());
+        logger.fine("Attempting to write to data file: " + addressBookStorage.getAddressBookFilePath());
+        addressBookStorage.saveAddressBook(addressBook);
+        markSaved(addressBook);
     }
 
     @Override
@@ -81,6 +94,25 @@ public class StorageManager implements Storage {
         addressBookStorage.saveAddressBook(addressBook, filePath);
     }
 
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, List<PersonChange> changes) throws IOException {
+        logger.fine("Attempting to save " + changes.size() + " changes to data file: "
+                + addressBookStorage.getAddressBookFilePath());
+        addressBookStorage.saveAddressBook(addressBook, changes);
+        markSaved(addressBook);
+    }
+
+    @Override
+    public boolean hasUnsavedChanges(ReadOnlyAddressBook addressBook) {
+        return addressBook != savedAddressBook || addressBook.getModificationCount() != savedModificationCount;
+    }
+
+    @Override
+    public void markSaved(ReadOnlyAddressBook addressBook) {
+        savedAddressBook = addressBook;
+        savedModificationCount = addressBook.getModificationCount();
+    }
+
     // ================ CommandHistory methods ==============================
     @Override
     public Path getCommandHistoryFilePath() {
@@ -99,4 +131,46 @@ public class StorageManager implements Storage {
         commandHistoryStorage.saveCommandHistory(history);
     }
 
+    @Override
+    public void appendCommandHistory(List<String> commands) throws IOException {
+        logger.fine("Attempting to append command history to: " + getCommandHistoryFilePath());
+        commandHistoryStorage.appendCommandHistory(commands);
+    }
+
+    // ================ UndoHistory methods ==============================
+    @Override
+    public Path getUndoHistoryFilePath() {
+        return undoHistoryStorage.getUndoHistoryFilePath();
+    }
+
+    @Override
+    public Optional<List<VersionHistoryEvent>> readUndoHistory() throws IOException {
+        logger.fine("Attempting to read undo history from: " + getUndoHistoryFilePath());
+        return undoHistoryStorage.readUndoHistory();
+    }
+
+    @Override
+    public void appendUndoHistory(List<VersionHistoryEvent> events) throws IOException {
+        logger.fine("Attempting to append undo history to: " + getUndoHistoryFilePath());
+        undoHistoryStorage.appendUndoHistory(events);
+    }
+
+    @Override
+    public void clearUndoHistory() throws IOException {
+        logger.fine("Attempting to clear undo history at: " + getUndoHistoryFilePath());
+        undoHistoryStorage.clearUndoHistory();
+    }
+
+    /**
+     * Does nothing, as every save is written before it returns.
+     */
+    @Override
+    public void flush() {}
+
+    /**
+     * Does nothing, as every save that fails throws its failure before it returns.
+     */
+    @Override
+    public void setSaveFailureHandler(Consumer<IOException> saveFailureHandler) {}
+
 }
@@ -1,22 +1,49 @@
 package seedu.address.storage;
 
+import static java.util.Objects.requireNonNull;
+
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
+import seedu.address.commons.util.FileUtil;
 import seedu.address.model.CommandHistory;
 
 /**
  * Stores command history in a text file, one command per line.
+ * <p>
+ * Commands are appended to the file, so saving after a command costs the same however many commands are kept.
+ * Once the file holds twice the maximum number of commands, it is compacted by rewriting only the latest ones,
+ * which spreads the cost of rewriting over as many saves as there are commands in the rewritten file.
  */
 public class TxtCommandHistoryStorage implements CommandHistoryStorage {
 
     private final Path filePath;
+    private final int maxSize;
+
+    // The history last saved to the file, whose later commands can be appended to it
+    private CommandHistory savedHistory;
+    private long savedModificationCount;
+    // Number of lines in the file, or -1 if it is not known
+    private int lineCount = -1;
 
     public TxtCommandHistoryStorage(Path filePath) {
+        this(filePath, CommandHistory.DEFAULT_MAX_SIZE);
+    }
+
+    /**
+     * Constructs a {@code TxtCommandHistoryStorage} that keeps at most {@code maxSize} commands when reading or
+     * compacting the file.
+     */
+    public TxtCommandHistoryStorage(Path filePath, int maxSize) {
+        requireNonNull(filePath);
+        assert maxSize > 0;
         this.filePath = filePath;
+        this.maxSize = maxSize;
     }
 
     @Override
@@ -32,19 +59,81 @@ public class TxtCommandHistoryStorage implements CommandHistoryStorage {
 
         // Read all lines from the file
         List<String> lines = Files.readAllLines(filePath);
-        CommandHistory commandHistory = new CommandHistory(lines);
+        lineCount = lines.size();
+        CommandHistory commandHistory = new CommandHistory(lines, maxSize);
 
         return Optional.of(commandHistory);
     }
 
-
+    /**
+     * Appends the commands added to {@code history} since it was last saved, or rewrites the file if it was not the
+     * history last saved or some of those commands are no longer kept.
+     */
     @Override
     public void saveCommandHistory(CommandHistory history) throws IOException {
-        // Ensure the parent directory exists
-        Files.createDirectories(filePath.getParent());
+        requireNonNull(history);
+        Optional<List<String>> addedCommands = history == savedHistory
+                ? history.getCommandsAddedSince(savedModificationCount)
+                : Optional.empty();
+        savedHistory = null;
+        if (addedCommands.isPresent()) {
+            append(addedCommands.get());
+        } else {
+            rewrite(history.getHistory());
+        }
+        savedHistory = history;
+        savedModificationCount = history.getModificationCount();
+    }
 
+    @Override
+    public void appendCommandHistory(List<String> commands) throws IOException {
+        requireNonNull(commands);
+        if (commands.isEmpty()) {
+            return;
+        }
+        // the next save of the history last saved cannot tell which of its commands are in the file
+        savedHistory = null;
+        append(commands);
+    }
+
+    private void append(List<String> commands) throws IOException {
+        if (commands.isEmpty()) {
+            return;
+        }
+        if (lineCount < 0 || lineCount + commands.size() > 2 * (long) maxSize) {
+            compact(commands);
+            return;
+        }
+        int newLineCount = lineCount + commands.size();
+        // a failed append may leave part of the commands in the file
+        lineCount = -1;
+        FileUtil.createParentDirsOfFile(filePath);
+        Files.write(filePath, commands, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        lineCount = newLineCount;
+    }
+
+    /**
+     * Rewrites the file with the latest commands in it followed by {@code commands}, keeping at most the maximum
+     * number of commands.
+     */
+    private void compact(List<String> commands) throws IOException {
+        List<String> lines = new ArrayList<>();
+        if (Files.exists(filePath)) {
+            lines.addAll(Files.readAllLines(filePath));
+        }
+        lines.addAll(commands);
+        rewrite(lines.subList(Math.max(0, lines.size() - maxSize), lines.size()));
+    }
+
+    private void rewrite(List<String> commands) throws IOException {
         // Write the commands to the file, one per line
-        Files.write(filePath, history.getHistory());
+        StringBuilder lines = new StringBuilder();
+        for (String command : commands) {
+            lines.append(command).append(System.lineSeparator());
+        }
+        lineCount = -1;
+        FileUtil.writeToFileAtomically(filePath, lines.toString());
+        lineCount = commands.size();
     }
 
 }
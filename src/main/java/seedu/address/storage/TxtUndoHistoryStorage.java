@@ -0,0 +1,303 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.versionmanager.DeferredChangeList;
+import seedu.address.model.versionmanager.PersonChange;
+import seedu.address.model.versionmanager.VersionHistoryEvent;
+import seedu.address.model.versionmanager.exceptions.CorruptedHistoryException;
+
+/**
+ * Stores the undo history in an append-only text file, one {@link VersionHistoryEvent} per line.
+ * <p>
+ * Each line is framed by {@link ChecksummedLog} and holds the event type ({@code C}ommit, {@code U}ndo or
+ * {@code R}edo), the state checksum of the address book after the event and, for commits, the changes as compact
+ * JSON.
+ * A line that fails its checksum, such as one torn by a crash mid-append, ends the log.
+ * <p>
+ * Reading the log only checks and replays the lines; the changes of each version are parsed when that version is
+ * first undone or redone. The log is also compacted on reading: undone versions that can no longer be redone and
+ * versions beyond the maximum are dropped, and the file is rewritten if that shortened it.
+ * <p>
+ * Appending compacts the log as well once it holds twice the maximum number of versions, or twice as many lines as
+ * it was last compacted to if that is more, so that the log stays bounded during a long session and the cost of
+ * rewriting it is spread over the appends since the last compaction.
+ */
+public class TxtUndoHistoryStorage implements UndoHistoryStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(TxtUndoHistoryStorage.class);
+
+    private final Path filePath;
+    private final int maxVersions;
+
+    // Number of lines in the file, or -1 if it is not known
+    private int lineCount = -1;
+    // Number of lines the file held after it was last compacted
+    private int compactedLineCount = 0;
+
+    public TxtUndoHistoryStorage(Path filePath) {
+        this(filePath, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Constructs a {@code TxtUndoHistoryStorage} that keeps at most {@code maxVersions} undoable versions when
+     * compacting the log.
+     */
+    public TxtUndoHistoryStorage(Path filePath, int maxVersions) {
+        requireNonNull(filePath);
+        assert maxVersions > 0;
+        this.filePath = filePath;
+        this.maxVersions = maxVersions;
+    }
+
+    @Override
+    public Path getUndoHistoryFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<List<VersionHistoryEvent>> readUndoHistory() throws IOException {
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+
+        List<String> lines = ChecksummedLog.readLines(filePath);
+        List<LogRecord> records = parseRecords(lines);
+
+        List<LogRecord> compacted = compact(records);
+        if (compacted.size() < lines.size()) {
+            logger.fine("Compacting undo history from " + lines.size() + " to " + compacted.size() + " entries");
+            rewrite(compacted);
+        } else {
+            lineCount = lines.size();
+            compactedLineCount = lineCount;
+        }
+        return Optional.of(compacted.stream().map(LogRecord::toEvent).collect(Collectors.toList()));
+    }
+
+    /**
+     * Appends {@code events} to the log, compacting it instead if it has grown beyond its bound.
+     */
+    @Override
+    public void appendUndoHistory(List<VersionHistoryEvent> events) throws IOException {
+        requireNonNull(events);
+        if (events.isEmpty()) {
+            return;
+        }
+
+        List<LogRecord> records = new ArrayList<>();
+        for (VersionHistoryEvent event : events) {
+            records.add(LogRecord.of(event));
+        }
+        if (lineCount < 0 || lineCount + records.size() > 2 * (long) Math.max(maxVersions, compactedLineCount)) {
+            compactWith(records);
+            return;
+        }
+        int newLineCount = lineCount + records.size();
+        // a failed append may leave part of the events in the file
+        lineCount = -1;
+        ChecksummedLog.append(filePath, toPayloads(records));
+        lineCount = newLineCount;
+    }
+
+    @Override
+    public void clearUndoHistory() throws IOException {
+        Files.deleteIfExists(filePath);
+        lineCount = 0;
+        compactedLineCount = 0;
+    }
+
+    /**
+     * Rewrites the log as the compacted records in it followed by {@code records}.
+     */
+    private void compactWith(List<LogRecord> records) throws IOException {
+        List<LogRecord> allRecords = new ArrayList<>();
+        if (Files.exists(filePath)) {
+            allRecords.addAll(parseRecords(ChecksummedLog.readLines(filePath)));
+        }
+        allRecords.addAll(records);
+        rewrite(compact(allRecords));
+    }
+
+    private void rewrite(List<LogRecord> records) throws IOException {
+        lineCount = -1;
+        ChecksummedLog.replace(filePath, toPayloads(records));
+        lineCount = records.size();
+        compactedLineCount = lineCount;
+    }
+
+    /**
+     * Parses the lines of the log up to the first one that is incomplete or corrupted.
+     */
+    private List<LogRecord> parseRecords(List<String> lines) {
+        List<LogRecord> records = new ArrayList<>();
+        for (String line : lines) {
+            Optional<LogRecord> record = LogRecord.parse(line);
+            if (record.isEmpty()) {
+                logger.warning("Ignoring the undo history from line " + (records.size() + 1) + " of " + filePath
+                        + " onwards, as it is incomplete or corrupted");
+                break;
+            }
+            records.add(record.get());
+        }
+        return records;
+    }
+
+    private static List<String> toPayloads(List<LogRecord> records) {
+        return records.stream().map(LogRecord::toPayload).collect(Collectors.toList());
+    }
+
+    /**
+     * Returns the shortest log that leads to the same undo and redo stacks as {@code records}: the undoable
+     * versions as commits, followed by the redoable versions as commits and an undo for each of them.
+     * Returns an empty log if {@code records} undoes or redoes a version that does not exist.
+     */
+    private List<LogRecord> compact(List<LogRecord> records) {
+        List<LogRecord> undoable = new ArrayList<>();
+        List<LogRecord> redoable = new ArrayList<>();
+        for (LogRecord record : records) {
+            switch (record.type) {
+            case COMMIT:
+                undoable.add(record);
+                redoable.clear();
+                break;
+            case UNDO:
+                if (undoable.isEmpty()) {
+                    return List.of();
+                }
+                redoable.add(0, undoable.remove(undoable.size() - 1));
+                break;
+            case REDO:
+                if (redoable.isEmpty()) {
+                    return List.of();
+                }
+                undoable.add(redoable.remove(0));
+                break;
+            default:
+                throw new AssertionError(record.type);
+            }
+        }
+
+        List<LogRecord> compacted = new ArrayList<>(
+                undoable.subList(Math.max(0, undoable.size() - maxVersions), undoable.size()));
+        compacted.addAll(redoable);
+        int commits = compacted.size();
+        int finalHash = records.isEmpty() ? 0 : records.get(records.size() - 1).stateHash;
+        for (int i = 1; i <= redoable.size(); i++) {
+            // after this undo, the state is the one left by the commit below the undone ones
+            int remaining = commits - i;
+            int stateHash = remaining > 0 ? compacted.get(remaining - 1).stateHash : finalHash;
+            compacted.add(new LogRecord(VersionHistoryEvent.Type.UNDO, stateHash, null));
+        }
+        return compacted;
+    }
+
+    private static List<PersonChange> parseChanges(String json) {
+        try {
+            List<PersonChange> changes = new ArrayList<>();
+            for (JsonAdaptedPersonChange change : JsonUtil.fromJsonString(json, JsonAdaptedPersonChange[].class)) {
+                changes.add(change.toModelType());
+            }
+            return changes;
+        } catch (IOException | IllegalValueException e) {
+            throw new CorruptedHistoryException("Could not read a version from the undo history", e);
+        }
+    }
+
+    /**
+     * A single line of the log, whose changes are kept as unparsed JSON.
+     */
+    private static final class LogRecord {
+
+        // Rough memory retained by an unparsed version, besides its JSON text
+        private static final int DEFERRED_OVERHEAD = 96;
+
+        private final VersionHistoryEvent.Type type;
+        private final int stateHash;
+        private final String changesJson;
+
+        private LogRecord(VersionHistoryEvent.Type type, int stateHash, String changesJson) {
+            this.type = type;
+            this.stateHash = stateHash;
+            this.changesJson = changesJson;
+        }
+
+        static LogRecord of(VersionHistoryEvent event) throws JsonProcessingException {
+            if (event.getType() != VersionHistoryEvent.Type.COMMIT) {
+                return new LogRecord(event.getType(), event.getStateHash(), null);
+            }
+            List<JsonAdaptedPersonChange> changes = event.getChanges().stream()
+                    .map(JsonAdaptedPersonChange::new)
+                    .collect(Collectors.toList());
+            return new LogRecord(event.getType(), event.getStateHash(), JsonUtil.toCompactJsonString(changes));
+        }
+
+        /**
+         * Parses a line of the log, or returns {@code Optional.empty()} if the line is incomplete or corrupted.
+         */
+        static Optional<LogRecord> parse(String line) {
+            Optional<String> payload = ChecksummedLog.unframe(line);
+            if (payload.isEmpty()) {
+                return Optional.empty();
+            }
+            String[] parts = payload.get().split(" ", 3);
+            if (parts.length < 2) {
+                return Optional.empty();
+            }
+            try {
+                VersionHistoryEvent.Type type = typeOf(parts[0]);
+                int stateHash = Integer.parseInt(parts[1]);
+                boolean isCommit = type == VersionHistoryEvent.Type.COMMIT;
+                if (type == null || isCommit != (parts.length == 3)) {
+                    return Optional.empty();
+                }
+                return Optional.of(new LogRecord(type, stateHash, isCommit ? parts[2] : null));
+            } catch (NumberFormatException e) {
+                return Optional.empty();
+            }
+        }
+
+        String toPayload() {
+            return type.name().substring(0, 1) + " " + stateHash + (changesJson == null ? "" : " " + changesJson);
+        }
+
+        VersionHistoryEvent toEvent() {
+            switch (type) {
+            case COMMIT:
+                String json = changesJson;
+                return VersionHistoryEvent.ofCommit(
+                        new DeferredChangeList(() -> parseChanges(json), DEFERRED_OVERHEAD + json.length()),
+                        stateHash);
+            case UNDO:
+                return VersionHistoryEvent.ofUndo(stateHash);
+            case REDO:
+                return VersionHistoryEvent.ofRedo(stateHash);
+            default:
+                throw new AssertionError(type);
+            }
+        }
+
+        private static VersionHistoryEvent.Type typeOf(String code) {
+            for (VersionHistoryEvent.Type type : VersionHistoryEvent.Type.values()) {
+                if (type.name().substring(0, 1).equals(code)) {
+                    return type;
+                }
+            }
+            return null;
+        }
+    }
+}
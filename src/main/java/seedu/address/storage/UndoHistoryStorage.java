@@ -0,0 +1,47 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+
+import seedu.address.model.versionmanager.VersionHistoryEvent;
+
+/**
+ * Represents a storage interface for persisting the undo history of the address book as a log of
+ * {@link VersionHistoryEvent}s.
+ * <p>
+ * Events are only ever appended, so that saving the history after a command costs time proportional to what the
+ * command changed rather than to the length of the history.
+ */
+public interface UndoHistoryStorage {
+
+    /**
+     * Returns the file path of the undo history storage.
+     */
+    Path getUndoHistoryFilePath();
+
+    /**
+     * Reads the logged events from storage, in the order they were appended.
+     * Implementations may drop events that no longer affect the history, such as undone versions that can no longer
+     * be redone.
+     *
+     * @return an {@link Optional} containing the events, or {@code Optional.empty()} if no log exists.
+     * @throws IOException if there is an error reading the storage.
+     */
+    Optional<List<VersionHistoryEvent>> readUndoHistory() throws IOException;
+
+    /**
+     * Appends {@code events} to the log.
+     *
+     * @throws IOException if there is an error writing to the storage.
+     */
+    void appendUndoHistory(List<VersionHistoryEvent> events) throws IOException;
+
+    /**
+     * Deletes the log, for example when it no longer matches the saved address book.
+     *
+     * @throws IOException if there is an error writing to the storage.
+     */
+    void clearUndoHistory() throws IOException;
+}
@@ -0,0 +1,406 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookSnapshot;
+import seedu.address.model.CommandHistory;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.ReadOnlyUserPrefs;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.versionmanager.PersonChange;
+import seedu.address.model.versionmanager.VersionHistoryEvent;
+
+/**
+ * A {@code Storage} that returns from saves immediately and writes them to the wrapped {@code Storage} on a single
+ * background thread.
+ * <p>
+ * Saves requested while the writer is busy are coalesced into one batch: only the latest address book is kept, while
+ * person changes, undo history events and the commands added to the command history are accumulated in order.
+ * The writer writes a batch in the same order as a synchronous caller would, so the undo log is still written before
+ * the data file. If a batch grows beyond {@link #MAX_PENDING_ITEMS} changes, events and commands because the disk
+ * cannot keep up, callers wait for the writer before adding to it. Write failures are passed to the handler set by
+ * {@link #setSaveFailureHandler(Consumer)}, and the next save after a failure rewrites the whole address book, as the
+ * person changes of the failed batch may not have been written.
+ * <p>
+ * Reads and other operations that are not coalesced first wait for all pending saves to be written.
+ */
+public class WriteBehindStorage implements Storage {
+
+    /** Number of pending changes, events and commands above which callers wait for the writer. */
+    public static final int MAX_PENDING_ITEMS = 10_000;
+
+    private static final Logger logger = LogsCenter.getLogger(WriteBehindStorage.class);
+
+    private final Storage storage;
+    private final ThreadPoolExecutor writer;
+
+    private final Object lock = new Object();
+    // The fields below are guarded by lock
+    private Batch pending;
+    private boolean isWriting = false;
+    private IOException unflushedFailure;
+    // Whether a failed batch may have lost person changes, so that the next save must rewrite the whole address book
+    private boolean isFullSaveNeeded = false;
+    private Consumer<IOException> saveFailureHandler = failure -> {};
+    private ReadOnlyAddressBook submittedAddressBook;
+    private long submittedModificationCount;
+    private CommandHistory submittedHistory;
+    private long submittedHistoryModificationCount;
+
+    /**
+     * Constructs a {@code WriteBehindStorage} that writes to {@code storage}.
+     */
+    public WriteBehindStorage(Storage storage) {
+        requireNonNull(storage);
+        this.storage = storage;
+        writer = new ThreadPoolExecutor(1, 1, 10, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), runnable -> {
+            Thread thread = new Thread(runnable, "storage-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        // the writer thread exits while there is nothing to write
+        writer.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * Blocks until all saves requested so far are written.
+     *
+     * @throws IOException if any write since the last flush failed.
+     */
+    @Override
+    public void flush() throws IOException {
+        awaitPendingSaves();
+        synchronized (lock) {
+            if (pending != null || isWriting) {
+                throw new InterruptedIOException("Interrupted while waiting for pending saves");
+            }
+            IOException failure = unflushedFailure;
+            unflushedFailure = null;
+            if (failure != null) {
+                throw failure;
+            }
+        }
+        storage.flush();
+    }
+
+    @Override
+    public void setSaveFailureHandler(Consumer<IOException> saveFailureHandler) {
+        requireNonNull(saveFailureHandler);
+        synchronized (lock) {
+            this.saveFailureHandler = saveFailureHandler;
+        }
+    }
+
+    /**
+     * Adds a save to the pending batch, waiting first if the batch is already too large.
+     */
+    private void submit(Consumer<Batch> save) {
+        synchronized (lock) {
+            try {
+                while (pending != null && pending.size() >= MAX_PENDING_ITEMS) {
+                    lock.wait();
+                }
+            } catch (InterruptedException e) {
+                // grow the batch rather than lose the save
+                Thread.currentThread().interrupt();
+            }
+
+            if (pending == null) {
+                pending = new Batch();
+                if (!isWriting) {
+                    writer.execute(this::writePending);
+                }
+            }
+            save.accept(pending);
+        }
+    }
+
+    /**
+     * Writes pending batches until there are none left.
+     */
+    private void writePending() {
+        while (true) {
+            Batch batch;
+            synchronized (lock) {
+                batch = pending;
+                pending = null;
+                isWriting = batch != null;
+                lock.notifyAll();
+            }
+            if (batch == null) {
+                return;
+            }
+
+            try {
+                batch.writeTo(storage);
+            } catch (IOException | RuntimeException e) {
+                IOException failure = e instanceof IOException ? (IOException) e : new IOException(e.getMessage(), e);
+                logger.warning("Could not save data in the background: " + failure.getMessage());
+                Consumer<IOException> handler;
+                synchronized (lock) {
+                    unflushedFailure = failure;
+                    // save the address book again with the next command, even if that command changes nothing
+                    submittedAddressBook = null;
+                    // the changes of the failed batch are lost, so the changes saved after them no longer apply
+                    if (pending != null && pending.addressBook != null) {
+                        pending.makeFullSave();
+                    } else {
+                        isFullSaveNeeded = true;
+                    }
+                    // commands appended by the failed batch may be missing, so the whole history is saved next
+                    submittedHistory = null;
+                    handler = saveFailureHandler;
+                }
+                handler.accept(failure);
+            }
+        }
+    }
+
+    // ================ UserPrefs methods ==============================
+
+    @Override
+    public Path getUserPrefsFilePath() {
+        return storage.getUserPrefsFilePath();
+    }
+
+    @Override
+    public Optional<UserPrefs> readUserPrefs() throws DataLoadingException {
+        awaitPendingSaves();
+        return storage.readUserPrefs();
+    }
+
+    @Override
+    public void saveUserPrefs(ReadOnlyUserPrefs userPrefs) throws IOException {
+        awaitPendingSaves();
+        storage.saveUserPrefs(userPrefs);
+    }
+
+    // ================ AddressBook methods ==============================
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return storage.getAddressBookFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        awaitPendingSaves();
+        return storage.readAddressBook();
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        awaitPendingSaves();
+        return storage.readAddressBook(filePath);
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+        ReadOnlyAddressBook frozen = freeze(addressBook);
+        submit(batch -> {
+            batch.addressBook = frozen;
+            batch.makeFullSave();
+            isFullSaveNeeded = false;
+            markSubmitted(addressBook);
+        });
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        awaitPendingSaves();
+        storage.saveAddressBook(addressBook, filePath);
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, List<PersonChange> changes) {
+        requireNonNull(addressBook);
+        requireNonNull(changes);
+        ReadOnlyAddressBook frozen = freeze(addressBook);
+        submit(batch -> {
+            batch.addressBook = frozen;
+            if (isFullSaveNeeded) {
+                batch.makeFullSave();
+                isFullSaveNeeded = false;
+            }
+            if (!batch.isFullSave) {
+                batch.changes.addAll(changes);
+            }
+            markSubmitted(addressBook);
+        });
+    }
+
+    @Override
+    public boolean hasUnsavedChanges(ReadOnlyAddressBook addressBook) {
+        synchronized (lock) {
+            return addressBook != submittedAddressBook
+                    || addressBook.getModificationCount() != submittedModificationCount;
+        }
+    }
+
+    @Override
+    public void markSaved(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+        synchronized (lock) {
+            markSubmitted(addressBook);
+        }
+    }
+
+    private void markSubmitted(ReadOnlyAddressBook addressBook) {
+        assert Thread.holdsLock(lock);
+        submittedAddressBook = addressBook;
+        submittedModificationCount = addressBook.getModificationCount();
+    }
+
+    /**
+     * Returns an immutable copy of {@code addressBook} that the writer can read while the original changes.
+     */
+    private static ReadOnlyAddressBook freeze(ReadOnlyAddressBook addressBook) {
+        if (addressBook instanceof AddressBookSnapshot) {
+            return addressBook;
+        }
+        AddressBook mutable = addressBook instanceof AddressBook
+                ? (AddressBook) addressBook
+                : new AddressBook(addressBook);
+        return mutable.snapshot();
+    }
+
+    // ================ CommandHistory methods ==============================
+
+    @Override
+    public Path getCommandHistoryFilePath() {
+        return storage.getCommandHistoryFilePath();
+    }
+
+    @Override
+    public Optional<CommandHistory> readCommandHistory() throws IOException {
+        awaitPendingSaves();
+        return storage.readCommandHistory();
+    }
+
+    /**
+     * Queues the commands added to {@code history} since it was last saved to be appended, or a copy of the whole
+     * history if it was not the history last saved.
+     */
+    @Override
+    public void saveCommandHistory(CommandHistory history) {
+        requireNonNull(history);
+        submit(batch -> {
+            Optional<List<String>> addedCommands = history == submittedHistory
+                    ? history.getCommandsAddedSince(submittedHistoryModificationCount)
+                    : Optional.empty();
+            if (addedCommands.isPresent()) {
+                batch.addedCommands.addAll(addedCommands.get());
+            } else {
+                batch.history = new CommandHistory(history.getHistory(), history.getMaxSize());
+                batch.addedCommands.clear();
+            }
+            submittedHistory = history;
+            submittedHistoryModificationCount = history.getModificationCount();
+        });
+    }
+
+    @Override
+    public void appendCommandHistory(List<String> commands) {
+        requireNonNull(commands);
+        List<String> copy = new ArrayList<>(commands);
+        submit(batch -> batch.addedCommands.addAll(copy));
+    }
+
+    // ================ UndoHistory methods ==============================
+
+    @Override
+    public Path getUndoHistoryFilePath() {
+        return storage.getUndoHistoryFilePath();
+    }
+
+    @Override
+    public Optional<List<VersionHistoryEvent>> readUndoHistory() throws IOException {
+        awaitPendingSaves();
+        return storage.readUndoHistory();
+    }
+
+    @Override
+    public void appendUndoHistory(List<VersionHistoryEvent> events) {
+        requireNonNull(events);
+        if (events.isEmpty()) {
+            return;
+        }
+        submit(batch -> batch.events.addAll(events));
+    }
+
+    @Override
+    public void clearUndoHistory() throws IOException {
+        awaitPendingSaves();
+        storage.clearUndoHistory();
+    }
+
+    /**
+     * Blocks until all saves requested so far are written, or the current thread is interrupted.
+     * Leaves any failure to be reported by {@link #flush()}.
+     */
+    private void awaitPendingSaves() {
+        synchronized (lock) {
+            try {
+                while (pending != null || isWriting) {
+                    lock.wait();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * Saves that were requested while the writer was busy, to be written together.
+     */
+    private static final class Batch {
+        private final List<VersionHistoryEvent> events = new ArrayList<>();
+        private final List<PersonChange> changes = new ArrayList<>();
+        private ReadOnlyAddressBook addressBook;
+        private boolean isFullSave = false;
+        private CommandHistory history;
+        // Commands to append after the history, if any, is saved
+        private final List<String> addedCommands = new ArrayList<>();
+
+        int size() {
+            return events.size() + changes.size() + addedCommands.size();
+        }
+
+        /**
+         * Makes this batch rewrite the whole address book instead of saving its changes.
+         */
+        void makeFullSave() {
+            isFullSave = true;
+            changes.clear();
+        }
+
+        void writeTo(Storage storage) throws IOException {
+            storage.appendUndoHistory(events);
+            if (isFullSave) {
+                storage.saveAddressBook(addressBook);
+            } else if (addressBook != null) {
+                storage.saveAddressBook(addressBook, changes);
+            }
+            if (history != null) {
+                storage.saveCommandHistory(history);
+            }
+            storage.appendCommandHistory(addedCommands);
+        }
+    }
+}
@@ -1,8 +1,16 @@
 package seedu.address.ui;
 
+import java.util.Optional;
+import java.util.function.Function;
+
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
+import javafx.scene.control.Label;
 import javafx.scene.control.TextField;
+import javafx.scene.input.KeyCode;
+import javafx.scene.input.KeyCodeCombination;
+import javafx.scene.input.KeyCombination;
+import javafx.scene.input.KeyEvent;
 import javafx.scene.layout.Region;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
@@ -15,12 +23,23 @@ public class CommandBox extends UiPart<Region> {
 
     public static final String ERROR_STYLE_CLASS = "error";
     private static final String FXML = "CommandBox.fxml";
+    private static final KeyCombination SEARCH_KEY = new KeyCodeCombination(KeyCode.R, KeyCombination.CONTROL_DOWN);
+    private static final String SEARCH_STATUS_FORMAT = "(reverse-i-search)`%s'";
+    private static final String SEARCH_FAILED_STATUS_FORMAT = "(failed reverse-i-search)`%s'";
 
     private final CommandExecutor commandExecutor;
 
+    // State of the search started by Ctrl-R, if any
+    private boolean isSearching = false;
+    private String searchQuery = "";
+    private String textBeforeSearch = "";
+
     @FXML
     private TextField commandTextField;
 
+    @FXML
+    private Label searchStatus;
+
     /**
      * Creates a {@code CommandBox} with the given {@code CommandExecutor}.
      */
@@ -108,6 +127,91 @@ public class CommandBox extends UiPart<Region> {
         });
     }
 
+    /**
+     * Sets handlers for searching command history like Ctrl-R on a command line.
+     * After Ctrl-R is pressed, typed characters form a query instead of editing the command, and {@code onSearch} is
+     * invoked with the query to find the latest matching command from the one shown. Pressing Ctrl-R again invokes
+     * {@code onSearchOlder} to find an older one. Enter executes the command found, Escape restores the command before
+     * the search, and the arrow keys end the search to edit or navigate from the command found.
+     */
+    public void setCommandHistorySearch(Function<String, Optional<String>> onSearch,
+            Function<String, Optional<String>> onSearchOlder) {
+        commandTextField.addEventFilter(KeyEvent.KEY_PRESSED, event -> {
+            if (SEARCH_KEY.match(event)) {
+                if (!isSearching) {
+                    startSearch();
+                } else if (!searchQuery.isEmpty()) {
+                    showSearchResult(onSearchOlder.apply(searchQuery));
+                }
+                event.consume();
+                return;
+            }
+            if (!isSearching) {
+                return;
+            }
+            switch (event.getCode()) {
+            case BACK_SPACE -> {
+                if (!searchQuery.isEmpty()) {
+                    searchQuery = searchQuery.substring(0, searchQuery.length() - 1);
+                    showSearchResult(onSearch.apply(searchQuery));
+                }
+                event.consume();
+            }
+            case ESCAPE -> {
+                endSearch();
+                commandTextField.setText(textBeforeSearch);
+                commandTextField.positionCaret(commandTextField.getLength());
+                event.consume();
+            }
+            case ENTER -> endSearch(); // not consumed, so the command found is executed
+            default -> {
+                if (event.getCode().isArrowKey() || event.getCode().isNavigationKey()) {
+                    endSearch(); // not consumed, so the key moves from the command found
+                }
+            }
+            }
+        });
+        commandTextField.addEventFilter(KeyEvent.KEY_TYPED, event -> {
+            if (!isSearching) {
+                return;
+            }
+            String character = event.getCharacter();
+            if (!character.isEmpty() && !Character.isISOControl(character.charAt(0))
+                    && !event.isControlDown() && !event.isMetaDown()) {
+                searchQuery += character;
+                showSearchResult(onSearch.apply(searchQuery));
+            }
+            event.consume();
+        });
+    }
+
+    private void startSearch() {
+        isSearching = true;
+        searchQuery = "";
+        textBeforeSearch = commandTextField.getText();
+        searchStatus.setText(String.format(SEARCH_STATUS_FORMAT, searchQuery));
+        searchStatus.setManaged(true);
+        searchStatus.setVisible(true);
+    }
+
+    /**
+     * Shows the command found by a search, or keeps the command shown and indicates that the search failed.
+     */
+    private void showSearchResult(Optional<String> command) {
+        if (command.isPresent() || searchQuery.isEmpty()) {
+            searchStatus.setText(String.format(SEARCH_STATUS_FORMAT, searchQuery));
+        } else {
+            searchStatus.setText(String.format(SEARCH_FAILED_STATUS_FORMAT, searchQuery));
+        }
+        command.ifPresent(commandTextField::setText);
+        commandTextField.positionCaret(commandTextField.getLength());
+    }
+
+    private void endSearch() {
+        isSearching = false;
+        searchStatus.setManaged(false);
+        searchStatus.setVisible(false);
+    }
 
     /**
      * Represents a function that can execute commands.
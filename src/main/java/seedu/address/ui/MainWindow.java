@@ -2,6 +2,7 @@ package seedu.address.ui;
 
 import java.util.logging.Logger;
 
+import javafx.application.Platform;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
 import javafx.scene.control.MenuItem;
@@ -117,6 +118,7 @@ public class MainWindow extends UiPart<Stage> {
 
         resultDisplay = new ResultDisplay();
         resultDisplayPlaceholder.getChildren().add(resultDisplay.getRoot());
+        logic.setSaveFailureHandler(message -> Platform.runLater(() -> resultDisplay.setFeedbackToUser(message)));
 
         StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getAddressBookFilePath());
         statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
@@ -128,6 +130,7 @@ public class MainWindow extends UiPart<Stage> {
         commandBox.setCommandHistoryNavigation(() -> commandBox.setCommandTextField(logic.getPreviousCommand()), () ->
                 commandBox.setCommandTextField(logic.getNextCommand())
         );
+        commandBox.setCommandHistorySearch(logic::searchCommand, logic::searchOlderCommand);
 
 
     }
@@ -22,6 +22,8 @@ import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.Storage;
 import seedu.address.storage.StorageManager;
 import seedu.address.storage.TxtCommandHistoryStorage;
+import seedu.address.storage.TxtUndoHistoryStorage;
+import seedu.address.storage.UndoHistoryStorage;
 
 /**
  * Unit tests for {@link MainApp}.
@@ -53,9 +55,11 @@ public class MainAppTest {
         AddressBookStorage addressBookStorage = new JsonAddressBookStorage(addressBookFile);
         JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(userPrefsFile);
         CommandHistoryStorage commandHistoryStorage = new TxtCommandHistoryStorage(historyFile);
+        UndoHistoryStorage undoHistoryStorage = new TxtUndoHistoryStorage(tempDir.resolve("undo.log"));
 
         // Combine into a StorageManager
-        Storage storage = new StorageManager(addressBookStorage, userPrefsStorage, commandHistoryStorage);
+        Storage storage = new StorageManager(addressBookStorage, userPrefsStorage, commandHistoryStorage,
+                undoHistoryStorage);
 
         // Create UserPrefs for initialization
         ReadOnlyUserPrefs userPrefs = new UserPrefs();
@@ -80,7 +84,8 @@ public class MainAppTest {
         Storage storage = new StorageManager(
                 new JsonAddressBookStorage(tempDir.resolve("ab.json")),
                 new JsonUserPrefsStorage(tempDir.resolve("prefs.json")),
-                commandHistoryStorage
+                commandHistoryStorage,
+                new TxtUndoHistoryStorage(tempDir.resolve("undo.log"))
         );
 
         CommandHistory result = invokeLoadCommandHistory(mainApp, storage);
@@ -100,7 +105,8 @@ public class MainAppTest {
         Storage storage = new StorageManager(
                 new JsonAddressBookStorage(tempDir.resolve("ab.json")),
                 new JsonUserPrefsStorage(tempDir.resolve("prefs.json")),
-                commandHistoryStorage
+                commandHistoryStorage,
+                new TxtUndoHistoryStorage(tempDir.resolve("undo.log"))
         );
 
         CommandHistory result = invokeLoadCommandHistory(mainApp, storage);
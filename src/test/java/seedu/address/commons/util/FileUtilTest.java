@@ -1,13 +1,21 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.nio.file.Files;
+import java.nio.file.Path;
+
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 public class FileUtilTest {
 
+    @TempDir
+    public Path testFolder;
+
     @Test
     public void isValidPath() {
         // valid path
@@ -20,4 +28,21 @@ public class FileUtilTest {
         assertThrows(NullPointerException.class, () -> FileUtil.isValidPath(null));
     }
 
+    @Test
+    public void writeToFileAtomically_newAndExistingFile_replacesContents() throws Exception {
+        Path file = testFolder.resolve("sub").resolve("data.json");
+
+        // missing parent directories are created
+        FileUtil.writeToFileAtomically(file, "first", true);
+        assertEquals("first", FileUtil.readFromFile(file));
+
+        FileUtil.writeToFileAtomically(file, "second", false);
+        assertEquals("second", FileUtil.readFromFile(file));
+
+        // no temporary file is left behind
+        try (var files = Files.list(file.getParent())) {
+            assertEquals(1, files.count());
+        }
+    }
+
 }
@@ -0,0 +1,93 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.assignment.Assignment;
+import seedu.address.model.classgroup.ClassGroup;
+import seedu.address.model.person.Level;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Phone;
+import seedu.address.model.tag.Tag;
+
+public class ValidationUtilTest {
+
+    // Characters on both sides of each class boundary, including non-ASCII letters and digits, which \p{Alnum} rejects
+    private static final String ALPHABET = "aAzZ01569 -.'/_\t\né٣１@`[{:";
+
+    @Test
+    public void isAlphanumeric() {
+        assertTrue(ValidationUtil.isAlphanumeric('a'));
+        assertTrue(ValidationUtil.isAlphanumeric('Z'));
+        assertTrue(ValidationUtil.isAlphanumeric('7'));
+        assertFalse(ValidationUtil.isAlphanumeric('-'));
+        assertFalse(ValidationUtil.isAlphanumeric('é')); // non-ASCII letter
+        assertFalse(ValidationUtil.isAlphanumeric('٣')); // non-ASCII digit
+    }
+
+    @Test
+    public void isAlphanumericWord() {
+        assertTrue(ValidationUtil.isAlphanumericWord("CS2103T-T1", " -"));
+        assertFalse(ValidationUtil.isAlphanumericWord("", " -"));
+        assertFalse(ValidationUtil.isAlphanumericWord("-T1", " -"));
+        assertFalse(ValidationUtil.isAlphanumericWord("T1.", " -"));
+        assertThrows(NullPointerException.class, () -> ValidationUtil.isAlphanumericWord(null, ""));
+    }
+
+    @Test
+    public void isDigits() {
+        assertTrue(ValidationUtil.isDigits("911", 3));
+        assertFalse(ValidationUtil.isDigits("91", 3));
+        assertFalse(ValidationUtil.isDigits("9a11", 3));
+        assertThrows(NullPointerException.class, () -> ValidationUtil.isDigits(null, 3));
+    }
+
+    @Test
+    public void isCharInRange() {
+        assertTrue(ValidationUtil.isCharInRange("1", '1', '5'));
+        assertTrue(ValidationUtil.isCharInRange("5", '1', '5'));
+        assertFalse(ValidationUtil.isCharInRange("6", '1', '5'));
+        assertFalse(ValidationUtil.isCharInRange("11", '1', '5'));
+        assertFalse(ValidationUtil.isCharInRange("", '1', '5'));
+    }
+
+    @Test
+    public void validators_randomStrings_matchValidationRegexes() {
+        List<String> samples = getSampleStrings();
+        assertMatchesRegex(Name::isValidName, Name.VALIDATION_REGEX, samples);
+        assertMatchesRegex(Phone::isValidPhone, Phone.VALIDATION_REGEX, samples);
+        assertMatchesRegex(Level::isValidLevel, Level.VALIDATION_REGEX, samples);
+        assertMatchesRegex(Tag::isValidTagName, Tag.VALIDATION_REGEX, samples);
+        assertMatchesRegex(ClassGroup::isValidClassGroupName, ClassGroup.VALIDATION_REGEX, samples);
+        assertMatchesRegex(Assignment::isValidAssignmentName, Assignment.VALIDATION_REGEX, samples);
+    }
+
+    private static List<String> getSampleStrings() {
+        Random random = new Random(2103);
+        List<String> samples = new ArrayList<>();
+        for (int i = 0; i < 20_000; i++) {
+            StringBuilder sample = new StringBuilder();
+            int length = random.nextInt(6);
+            for (int j = 0; j < length; j++) {
+                sample.append(ALPHABET.charAt(random.nextInt(ALPHABET.length())));
+            }
+            samples.add(sample.toString());
+        }
+        return samples;
+    }
+
+    private static void assertMatchesRegex(Predicate<String> validator, String regex, List<String> samples) {
+        for (String sample : samples) {
+            assertEquals(sample.matches(regex), validator.test(sample), sample + " against " + regex);
+        }
+    }
+}
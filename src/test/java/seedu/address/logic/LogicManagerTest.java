@@ -1,6 +1,8 @@
 package seedu.address.logic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX;
 import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.logic.commands.CommandTestUtil.LEVEL_DESC_AMY;
@@ -11,6 +13,7 @@ import static seedu.address.testutil.TypicalPersons.AMY;
 
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -31,6 +34,8 @@ import seedu.address.storage.JsonAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.StorageManager;
 import seedu.address.storage.TxtCommandHistoryStorage;
+import seedu.address.storage.TxtUndoHistoryStorage;
+import seedu.address.storage.WriteBehindStorage;
 import seedu.address.testutil.PersonBuilder;
 
 public class LogicManagerTest {
@@ -41,6 +46,7 @@ public class LogicManagerTest {
     public Path temporaryFolder;
 
     private Model model = new ModelManager();
+    private StorageManager storage;
     private Logic logic;
 
     @BeforeEach
@@ -51,7 +57,10 @@ public class LogicManagerTest {
                 new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
         TxtCommandHistoryStorage commandHistoryStorage =
                 new TxtCommandHistoryStorage(temporaryFolder.resolve("history.txt"));
-        StorageManager storage = new StorageManager(addressBookStorage, userPrefsStorage, commandHistoryStorage);
+        TxtUndoHistoryStorage undoHistoryStorage =
+                new TxtUndoHistoryStorage(temporaryFolder.resolve("undo.log"));
+        storage = new StorageManager(addressBookStorage, userPrefsStorage, commandHistoryStorage,
+                undoHistoryStorage);
         logic = new LogicManager(model, storage);
     }
 
@@ -73,6 +82,40 @@ public class LogicManagerTest {
         assertCommandSuccess(listCommand, ListCommand.MESSAGE_SUCCESS, model);
     }
 
+    @Test
+    public void execute_commandsAfterSave_writeOnlyWhenAddressBookChanges() throws Exception {
+        Path addressBookFile = temporaryFolder.resolve("tutortrack.json");
+        Path historyFile = temporaryFolder.resolve("history.txt");
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertTrue(Files.exists(addressBookFile));
+        Files.delete(addressBookFile);
+        Files.delete(historyFile);
+
+        // non-mutating and failed commands
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertThrows(CommandException.class, () -> logic.execute("delete 9"));
+        assertFalse(Files.exists(addressBookFile));
+        assertFalse(Files.exists(historyFile));
+
+        logic.execute(AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + LEVEL_DESC_AMY);
+        assertTrue(Files.exists(addressBookFile));
+        assertTrue(Files.exists(historyFile));
+    }
+
+    @Test
+    public void execute_firstCommandAfterLoading_writesNothing() throws Exception {
+        WriteBehindStorage writeBehindStorage = new WriteBehindStorage(storage);
+        logic = new LogicManager(model, writeBehindStorage);
+        // as MainApp does with the address book it loaded
+        writeBehindStorage.markSaved(model.getAddressBook());
+
+        logic.execute(ListCommand.COMMAND_WORD);
+        writeBehindStorage.flush();
+        assertFalse(Files.exists(temporaryFolder.resolve("tutortrack.json")));
+        assertFalse(Files.exists(temporaryFolder.resolve("history.txt")));
+        assertFalse(Files.exists(temporaryFolder.resolve("undo.log")));
+    }
+
     @Test
     public void execute_storageThrowsIoException_throwsCommandException() {
         assertCommandFailureForExceptionFromStorage(DUMMY_IO_EXCEPTION, String.format(
@@ -167,7 +210,11 @@ public class LogicManagerTest {
         TxtCommandHistoryStorage commandHistoryStorage =
                 new TxtCommandHistoryStorage(temporaryFolder.resolve("ExeceptionHistory.json"));
 
-        StorageManager storage = new StorageManager(addressBookStorage, userPrefsStorage, commandHistoryStorage);
+        TxtUndoHistoryStorage undoHistoryStorage =
+                new TxtUndoHistoryStorage(temporaryFolder.resolve("ExceptionUndo.log"));
+
+        StorageManager storage = new StorageManager(addressBookStorage, userPrefsStorage, commandHistoryStorage,
+                undoHistoryStorage);
 
         logic = new LogicManager(model, storage);
 
@@ -14,6 +14,8 @@ import static seedu.address.testutil.TypicalPersons.ALICE;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
@@ -27,9 +29,12 @@ import seedu.address.model.CommandHistory;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
+import seedu.address.model.assignment.Assignment;
 import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.Phone;
+import seedu.address.model.versionmanager.PersonChange;
+import seedu.address.model.versionmanager.VersionHistoryEvent;
 import seedu.address.testutil.PersonBuilder;
 
 /**
@@ -184,6 +189,21 @@ public class AddCommandTest {
             return false;
         }
 
+        @Override
+        public List<Person> getPersonsInClassGroup(String classGroupName) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Person> getPersonsWithAssignment(Assignment assignment) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Person> getPersonsWithAssignment(Assignment assignment, boolean isMarked) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void deletePerson(Person target) {
             throw new AssertionError("This method should not be called.");
@@ -224,6 +244,16 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public List<PersonChange> takeUnsavedChanges() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<VersionHistoryEvent> takeUnsavedHistoryEvents() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void setCommandHistory(CommandHistory commandHistory) {
             throw new AssertionError("This method should not be called.");
@@ -244,6 +274,16 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public Optional<String> searchCommand(String query) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Optional<String> searchOlderCommand(String query) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public CommandHistory getHistory() {
             throw new AssertionError("This method should not be called.");
@@ -0,0 +1,100 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_PERSONS_LISTED_OVERVIEW;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_CLASSGROUP_MATH;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_CLASSGROUP_PHYSICS;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Level;
+import seedu.address.model.query.AndQuery;
+import seedu.address.model.query.ClassGroupQuery;
+import seedu.address.model.query.LevelQuery;
+import seedu.address.model.query.NameQuery;
+import seedu.address.model.query.NotQuery;
+import seedu.address.model.query.OrQuery;
+import seedu.address.model.query.PersonQuery;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code QueryCommand}.
+ */
+public class QueryCommandTest {
+    private Model model;
+    private Model expectedModel;
+
+    /**
+     * Sets up both models with typical address book data and AMY and BOB, who have class groups.
+     */
+    @BeforeEach
+    public void setUp() {
+        model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        model.addPerson(AMY);
+        model.addPerson(BOB);
+        expectedModel.addPerson(AMY);
+        expectedModel.addPerson(BOB);
+    }
+
+    @Test
+    public void equals() {
+        PersonQuery math = new ClassGroupQuery(VALID_CLASSGROUP_MATH);
+        PersonQuery physics = new ClassGroupQuery(VALID_CLASSGROUP_PHYSICS);
+        QueryCommand mathCommand = new QueryCommand(math);
+
+        // same object -> returns true
+        assertTrue(mathCommand.equals(mathCommand));
+
+        // same values -> returns true
+        assertTrue(mathCommand.equals(new QueryCommand(new ClassGroupQuery(VALID_CLASSGROUP_MATH))));
+
+        // different types -> returns false
+        assertFalse(mathCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(mathCommand.equals(null));
+
+        // different query -> returns false
+        assertFalse(mathCommand.equals(new QueryCommand(physics)));
+    }
+
+    @Test
+    public void execute_classGroupAndNotClassGroup_personsFound() {
+        PersonQuery query = new AndQuery(List.of(new ClassGroupQuery(VALID_CLASSGROUP_MATH),
+                new NotQuery(new ClassGroupQuery(VALID_CLASSGROUP_PHYSICS))));
+        expectedModel.updateFilteredPersonList(query);
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 1);
+        assertCommandSuccess(new QueryCommand(query), model, expectedMessage, expectedModel);
+        assertEquals(List.of(AMY), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_unindexedCondition_personsFound() {
+        PersonQuery query = new OrQuery(List.of(new NameQuery(List.of("kurz")), new LevelQuery(new Level("4"))));
+        expectedModel.updateFilteredPersonList(query);
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW,
+                expectedModel.getFilteredPersonList().size());
+        assertCommandSuccess(new QueryCommand(query), model, expectedMessage, expectedModel);
+        assertEquals(expectedModel.getFilteredPersonList(), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void toStringMethod() {
+        PersonQuery query = new ClassGroupQuery(VALID_CLASSGROUP_MATH);
+        QueryCommand command = new QueryCommand(query);
+        String expected = QueryCommand.class.getCanonicalName() + "{query=" + query + "}";
+        assertEquals(expected, command.toString());
+    }
+}
@@ -0,0 +1,99 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.QueryCommand;
+import seedu.address.model.assignment.Assignment;
+import seedu.address.model.classgroup.ClassGroup;
+import seedu.address.model.person.Level;
+import seedu.address.model.person.Phone;
+import seedu.address.model.query.AndQuery;
+import seedu.address.model.query.AssignmentQuery;
+import seedu.address.model.query.ClassGroupQuery;
+import seedu.address.model.query.LevelQuery;
+import seedu.address.model.query.NameQuery;
+import seedu.address.model.query.NotQuery;
+import seedu.address.model.query.OrQuery;
+import seedu.address.model.query.PersonQuery;
+import seedu.address.model.query.PhoneQuery;
+
+/**
+ * Unit tests for {@link QueryCommandParser}.
+ */
+public class QueryCommandParserTest {
+
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, QueryCommand.MESSAGE_USAGE);
+
+    private final QueryCommandParser parser = new QueryCommandParser();
+
+    private final PersonQuery math = new ClassGroupQuery("math 3pm");
+    private final PersonQuery alice = new NameQuery(List.of("alice", "bob"));
+    private final PersonQuery level = new LevelQuery(new Level("3"));
+    private final PersonQuery phone = new PhoneQuery(new Phone("91234567"));
+    private final Assignment homework = Assignment.of("homework 1", "math 3pm", false);
+
+    @Test
+    public void parse_singleConditions_success() {
+        assertParseSuccess(parser, " c/math 3pm ", new QueryCommand(math));
+        assertParseSuccess(parser, " n/alice bob", new QueryCommand(alice));
+        assertParseSuccess(parser, " l/3", new QueryCommand(level));
+        assertParseSuccess(parser, " p/91234567", new QueryCommand(phone));
+        assertParseSuccess(parser, " a/math 3pm/homework 1", new QueryCommand(new AssignmentQuery(homework)));
+        assertParseSuccess(parser, " a/math 3pm/homework 1/marked",
+                new QueryCommand(new AssignmentQuery(homework, true)));
+        assertParseSuccess(parser, " a/math 3pm/homework 1/unmarked",
+                new QueryCommand(new AssignmentQuery(homework, false)));
+    }
+
+    @Test
+    public void parse_operators_notBindsTighterThanAndThanOr() {
+        assertParseSuccess(parser, " c/math 3pm or l/3 and not p/91234567",
+                new QueryCommand(new OrQuery(List.of(math, new AndQuery(List.of(level, new NotQuery(phone)))))));
+        assertParseSuccess(parser, " not not l/3", new QueryCommand(new NotQuery(new NotQuery(level))));
+    }
+
+    @Test
+    public void parse_adjacentConditions_combinedWithAnd() {
+        assertParseSuccess(parser, " c/math 3pm n/alice bob l/3",
+                new QueryCommand(new AndQuery(List.of(math, alice, level))));
+    }
+
+    @Test
+    public void parse_parentheses_grouped() {
+        assertParseSuccess(parser, " c/math 3pm and not (n/alice bob or l/3)",
+                new QueryCommand(new AndQuery(List.of(math, new NotQuery(new OrQuery(List.of(alice, level)))))));
+        assertParseSuccess(parser, " ((l/3))", new QueryCommand(level));
+        assertParseSuccess(parser, "(l/3)or(p/91234567)", new QueryCommand(new OrQuery(List.of(level, phone))));
+    }
+
+    @Test
+    public void parse_invalidStructure_failure() {
+        assertParseFailure(parser, "   ", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " math", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " l/3 and", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " or l/3", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " not", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " (l/3", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " l/3)", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " ()", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " n/ and l/3", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " a/math 3pm", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " a/math 3pm/homework 1/done", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " a/math 3pm/homework 1/marked/again", MESSAGE_INVALID_FORMAT);
+    }
+
+    @Test
+    public void parse_invalidValue_failure() {
+        assertParseFailure(parser, " l/6", Level.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, " p/12", Phone.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, " c/math! or l/3", ClassGroup.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, " a/math 3pm/homework!", Assignment.MESSAGE_CONSTRAINTS);
+    }
+}
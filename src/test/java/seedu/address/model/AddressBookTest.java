@@ -7,6 +7,8 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_CLASSGROUP_PHYS
 import static seedu.address.logic.commands.CommandTestUtil.VALID_LEVEL_BOB;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalPersons.CARL;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.util.Arrays;
@@ -56,6 +58,49 @@ public class AddressBookTest {
         assertThrows(DuplicatePersonException.class, () -> addressBook.resetData(newData));
     }
 
+    @Test
+    public void resetData_withSnapshot_restoresSnapshotData() {
+        addressBook.resetData(getTypicalAddressBook());
+        AddressBook expected = new AddressBook(addressBook);
+        AddressBookSnapshot snapshot = addressBook.snapshot();
+
+        addressBook.removePerson(ALICE);
+        addressBook.setPerson(CARL, BOB);
+        addressBook.addPerson(ALICE);
+        addressBook.resetData(snapshot);
+
+        assertEquals(expected, addressBook);
+        assertTrue(addressBook.hasPerson(CARL));
+        assertFalse(addressBook.hasPerson(BOB));
+    }
+
+    @Test
+    public void snapshot_laterChanges_doNotAffectSnapshot() {
+        addressBook.addPerson(ALICE);
+        AddressBookSnapshot snapshot = addressBook.snapshot();
+        addressBook.addPerson(BOB);
+        assertEquals(Collections.singletonList(ALICE), snapshot.getPersonList());
+    }
+
+    @Test
+    public void getModificationCount_changesOnlyOnMutation() {
+        long initialCount = addressBook.getModificationCount();
+        addressBook.hasPerson(ALICE);
+        addressBook.snapshot();
+        assertEquals(initialCount, addressBook.getModificationCount());
+
+        addressBook.addPerson(ALICE);
+        long afterAdd = addressBook.getModificationCount();
+        assertTrue(afterAdd != initialCount);
+
+        addressBook.setPerson(ALICE, CARL);
+        long afterEdit = addressBook.getModificationCount();
+        assertTrue(afterEdit != afterAdd);
+
+        addressBook.removePerson(CARL);
+        assertTrue(addressBook.getModificationCount() != afterEdit);
+    }
+
     @Test
     public void hasPerson_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> addressBook.hasPerson(null));
@@ -107,6 +152,11 @@ public class AddressBookTest {
         public ObservableList<Person> getPersonList() {
             return persons;
         }
+
+        @Override
+        public long getModificationCount() {
+            return 0;
+        }
     }
 
 }
@@ -3,9 +3,9 @@ package seedu.address.model;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
-import java.lang.reflect.Field;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -19,11 +19,9 @@ public class CommandHistoryTest {
     private int maxSize;
 
     @BeforeEach
-    public void setUp() throws Exception {
+    public void setUp() {
         commandHistory = new CommandHistory();
-        Field field = CommandHistory.class.getDeclaredField("MAX_SIZE");
-        field.setAccessible(true);
-        maxSize = field.getInt(null);
+        maxSize = CommandHistory.DEFAULT_MAX_SIZE;
     }
 
     @Test
@@ -66,6 +64,41 @@ public class CommandHistoryTest {
         assertEquals("cmd" + (maxSize + 5 - maxSize + 1), commandHistory.getHistory().get(0));
     }
 
+    @Test
+    public void add_beyondCustomMaxSize_keepsLatestInOrder() {
+        CommandHistory history = new CommandHistory(1000);
+        for (int i = 1; i <= 2500; i++) {
+            history.add("cmd" + i);
+        }
+        List<String> commands = history.getHistory();
+        assertEquals(1000, commands.size());
+        assertEquals("cmd1501", commands.get(0));
+        assertEquals("cmd2500", commands.get(999));
+        assertEquals("cmd2500", history.previous());
+        assertEquals("cmd2499", history.previous());
+    }
+
+    @Test
+    public void getCommandsAddedSince_returnsOnlyLaterCommands() {
+        CommandHistory history = new CommandHistory(3);
+        history.add("a");
+        long mark = history.getModificationCount();
+        history.add("b");
+        history.add("c");
+        assertEquals(Optional.of(List.of("b", "c")), history.getCommandsAddedSince(mark));
+        assertEquals(Optional.of(List.of()), history.getCommandsAddedSince(history.getModificationCount()));
+
+        // more commands were added than are kept
+        history.add("d");
+        history.add("e");
+        assertEquals(Optional.empty(), history.getCommandsAddedSince(mark));
+
+        // the commands were replaced
+        mark = history.getModificationCount();
+        history.resetHistory(new CommandHistory(List.of("x")));
+        assertEquals(Optional.empty(), history.getCommandsAddedSince(mark));
+    }
+
     @Test
     public void previous_emptyHistory_returnsEmptyString() {
         assertEquals("", commandHistory.previous());
@@ -102,6 +135,81 @@ public class CommandHistoryTest {
         assertEquals("", commandHistory.next());
     }
 
+    @Test
+    public void search_emptyHistory_returnsEmpty() {
+        assertEquals(Optional.empty(), commandHistory.search("mark"));
+        assertEquals(Optional.empty(), commandHistory.searchOlder("mark"));
+    }
+
+    @Test
+    public void search_findsLatestMatchIgnoringCase() {
+        commandHistory.add("mark 1 c/CS2103 a/Lab1");
+        commandHistory.add("delete 2");
+        commandHistory.add("mark 3 c/cs2103 a/Lab2");
+        commandHistory.add("list");
+
+        assertEquals(Optional.of("mark 3 c/cs2103 a/Lab2"), commandHistory.search("CS2103"));
+        // a longer query keeps the command found while it still matches
+        assertEquals(Optional.of("mark 3 c/cs2103 a/Lab2"), commandHistory.search("CS2103 a/lab"));
+        assertEquals(Optional.of("mark 1 c/CS2103 a/Lab1"), commandHistory.search("CS2103 a/lab1"));
+        assertEquals(Optional.empty(), commandHistory.search("unmark"));
+
+        // short queries are found too
+        commandHistory.add("delete 9");
+        assertEquals(Optional.of("delete 9"), commandHistory.search("9"));
+    }
+
+    @Test
+    public void searchOlder_findsOlderMatchesThenMovesFromThem() {
+        commandHistory.add("mark 1");
+        commandHistory.add("list");
+        commandHistory.add("mark 2");
+        commandHistory.add("mark 3");
+
+        assertEquals(Optional.of("mark 3"), commandHistory.search("mark"));
+        assertEquals(Optional.of("mark 2"), commandHistory.searchOlder("mark"));
+        assertEquals(Optional.of("mark 1"), commandHistory.searchOlder("mark"));
+        assertEquals(Optional.empty(), commandHistory.searchOlder("mark"));
+
+        // navigation continues from the command found
+        assertEquals("list", commandHistory.next());
+        commandHistory.add("mark 4");
+        assertEquals(Optional.of("mark 4"), commandHistory.search("mark"));
+    }
+
+    @Test
+    public void search_commandsNoLongerKept_notFound() {
+        CommandHistory history = new CommandHistory(3);
+        history.add("assign 1 c/Math a/Quiz");
+        history.add("list");
+        assertEquals(Optional.of("assign 1 c/Math a/Quiz"), history.search("quiz"));
+
+        history.add("delete 1");
+        history.add("delete 2");
+        assertEquals(Optional.empty(), history.search("quiz"));
+        history.add("assign 2 c/Math a/Quiz");
+        history.add("list");
+        assertEquals(Optional.of("assign 2 c/Math a/Quiz"), history.search("quiz"));
+        assertEquals(Optional.empty(), history.searchOlder("quiz"));
+
+        history.resetHistory(new CommandHistory(List.of("assign 3 c/Math a/Quiz")));
+        assertEquals(Optional.of("assign 3 c/Math a/Quiz"), history.search("quiz"));
+    }
+
+    @Test
+    public void search_largeHistory_findsSameAsScanning() {
+        int size = 100_000;
+        CommandHistory history = new CommandHistory(size);
+        for (int i = 0; i < 2 * size; i++) {
+            history.add("mark " + i + " c/CS" + (i % 97) + " a/Lab" + (i % 13));
+        }
+
+        assertEquals(Optional.of("mark 199204 c/CS63 a/Lab5"), history.search("c/cs63 a/lab5"));
+        assertEquals(Optional.of("mark 197943 c/CS63 a/Lab5"), history.searchOlder("c/cs63 a/lab5"));
+        assertEquals(Optional.of("mark 100000 c/CS90 a/Lab4"), history.search("mark 100000 "));
+        assertEquals(Optional.empty(), history.search("mark 99999 "));
+    }
+
     @Test
     public void resetHistory_replacesExistingHistoryAndResetsIndex() {
         CommandHistory oldHistory = new CommandHistory(List.of("one", "two", "three"));
@@ -6,17 +6,33 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.AMY;
 import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.StudentInClassGroupPredicate;
+import seedu.address.model.person.exceptions.PersonNotFoundException;
+import seedu.address.model.versionmanager.PersonChange;
+import seedu.address.model.versionmanager.UndoHistoryBudget;
+import seedu.address.model.versionmanager.UndoHistoryMode;
+import seedu.address.model.versionmanager.VersionHistoryEvent;
+import seedu.address.model.versionmanager.exceptions.NoPreviousCommitException;
 import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.PersonBuilder;
 
 public class ModelManagerTest {
 
@@ -88,11 +104,238 @@ public class ModelManagerTest {
         assertTrue(modelManager.hasPerson(ALICE));
     }
 
+    @Test
+    public void setPerson_personNotInAddressBook_throwsPersonNotFoundException() {
+        modelManager.addPerson(BENSON);
+        assertThrows(PersonNotFoundException.class, () -> modelManager.setPerson(ALICE, ALICE));
+    }
+
+    @Test
+    public void getUndoHistoryBudget_invalidLimits_returnsDefaults() {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setUndoHistoryMaxVersions(0);
+        assertEquals(new UndoHistoryBudget(UserPrefs.DEFAULT_UNDO_HISTORY_MAX_VERSIONS,
+                UserPrefs.DEFAULT_UNDO_HISTORY_MAX_BYTES), ModelManager.getUndoHistoryBudget(userPrefs));
+
+        userPrefs.setUndoHistoryMaxVersions(3);
+        userPrefs.setUndoHistoryMaxBytes(4096);
+        assertEquals(new UndoHistoryBudget(3, 4096), ModelManager.getUndoHistoryBudget(userPrefs));
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredPersonList().remove(0));
     }
 
+    @Test
+    public void undoRedo_deltaMode_restoresAddressBook() {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setUndoHistoryMode(UndoHistoryMode.DELTA);
+        modelManager = new ModelManager(getTypicalAddressBook(), userPrefs);
+
+        modelManager.deletePerson(BENSON);
+        modelManager.setPerson(CARL, BOB);
+        modelManager.commit();
+        AddressBook changed = new AddressBook(modelManager.getAddressBook());
+
+        modelManager.undo();
+        assertEquals(getTypicalAddressBook(), modelManager.getAddressBook());
+        assertEquals(getTypicalAddressBook().getPersonList(), modelManager.getFilteredPersonList());
+
+        modelManager.redo();
+        assertEquals(changed, modelManager.getAddressBook());
+    }
+
+    @Test
+    public void undo_deltaModeAfterSetAddressBook_restoresAddressBook() {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setUndoHistoryMode(UndoHistoryMode.DELTA);
+        modelManager = new ModelManager(getTypicalAddressBook(), userPrefs);
+
+        modelManager.setAddressBook(new AddressBookBuilder().withPerson(ALICE).build());
+        modelManager.commit();
+        modelManager.undo();
+
+        assertEquals(getTypicalAddressBook(), modelManager.getAddressBook());
+    }
+
+    @Test
+    public void restoreVersionHistory_eventsOfPreviousSession_undoesAndRedoesAcrossSessions() {
+        for (UndoHistoryMode mode : UndoHistoryMode.values()) {
+            UserPrefs userPrefs = new UserPrefs();
+            userPrefs.setUndoHistoryMode(mode);
+            ModelManager previousSession = new ModelManager(getTypicalAddressBook(), userPrefs);
+            previousSession.deletePerson(BENSON);
+            previousSession.commit();
+            previousSession.setPerson(CARL, BOB);
+            previousSession.commit();
+            AddressBook latest = new AddressBook(previousSession.getAddressBook());
+            previousSession.undo();
+            AddressBook savedAddressBook = new AddressBook(previousSession.getAddressBook());
+
+            modelManager = new ModelManager(savedAddressBook, userPrefs);
+            List<VersionHistoryEvent> events = previousSession.takeUnsavedHistoryEvents();
+            assertEquals(events.size(), modelManager.restoreVersionHistory(events));
+
+            modelManager.redo();
+            assertEquals(latest, modelManager.getAddressBook());
+            modelManager.undo();
+            modelManager.undo();
+            assertEquals(getTypicalAddressBook(), modelManager.getAddressBook());
+            assertThrows(NoPreviousCommitException.class, modelManager::undo);
+        }
+    }
+
+    @Test
+    public void restoreVersionHistory_mismatchedAddressBook_returnsZero() {
+        modelManager = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        modelManager.deletePerson(ALICE);
+        modelManager.commit();
+        List<VersionHistoryEvent> events = modelManager.takeUnsavedHistoryEvents();
+
+        ModelManager nextSession = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+        assertEquals(0, nextSession.restoreVersionHistory(events));
+        assertThrows(NoPreviousCommitException.class, nextSession::undo);
+    }
+
+    @Test
+    public void restoreVersionHistory_eventsPastAddressBook_restoresMatchingEvents() {
+        modelManager = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        modelManager.deletePerson(ALICE);
+        modelManager.commit();
+        AddressBook savedAddressBook = new AddressBook(modelManager.getAddressBook());
+        // the address book was not saved after this commit
+        modelManager.deletePerson(BENSON);
+        modelManager.commit();
+        List<VersionHistoryEvent> events = modelManager.takeUnsavedHistoryEvents();
+
+        ModelManager nextSession = new ModelManager(savedAddressBook, new UserPrefs());
+        assertEquals(1, nextSession.restoreVersionHistory(events));
+        nextSession.undo();
+        assertEquals(getTypicalAddressBook(), nextSession.getAddressBook());
+        assertThrows(NoPreviousCommitException.class, nextSession::undo);
+    }
+
+    @Test
+    public void takeUnsavedHistoryEvents_returnsEventsOnce() {
+        modelManager = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        modelManager.deletePerson(ALICE);
+        modelManager.commit();
+        modelManager.undo();
+
+        AddressBook withoutAlice = getTypicalAddressBook();
+        withoutAlice.removePerson(ALICE);
+
+        assertEquals(List.of(
+                VersionHistoryEvent.ofCommit(List.of(PersonChange.ofRemoval(0, ALICE)),
+                        withoutAlice.getStateChecksum()),
+                VersionHistoryEvent.ofUndo(getTypicalAddressBook().getStateChecksum())),
+                modelManager.takeUnsavedHistoryEvents());
+        assertTrue(modelManager.takeUnsavedHistoryEvents().isEmpty());
+    }
+
+    @Test
+    public void takeUnsavedChanges_afterUndoAndRedo_replayToCurrentAddressBook() {
+        for (UndoHistoryMode mode : UndoHistoryMode.values()) {
+            UserPrefs userPrefs = new UserPrefs();
+            userPrefs.setUndoHistoryMode(mode);
+            modelManager = new ModelManager(getTypicalAddressBook(), userPrefs);
+            AddressBookSnapshot saved = getTypicalAddressBook().snapshot();
+
+            modelManager.deletePerson(BENSON);
+            modelManager.commit();
+            modelManager.setPerson(CARL, BOB);
+            modelManager.commit();
+            modelManager.undo();
+            modelManager.undo();
+            modelManager.redo();
+
+            AddressBookSnapshot replayed = saved.withChangesApplied(modelManager.takeUnsavedChanges());
+            assertEquals(modelManager.getAddressBook(), new AddressBook(replayed));
+            assertTrue(modelManager.takeUnsavedChanges().isEmpty());
+        }
+    }
+
+    @Test
+    public void updateFilteredPersonList_classGroup_showsMembersInOrder() {
+        modelManager = new ModelManager(new AddressBookBuilder().withPerson(BOB).withPerson(ALICE).withPerson(AMY)
+                .build(), new UserPrefs());
+        modelManager.updateFilteredPersonList(new StudentInClassGroupPredicate("Math 3PM"));
+        assertEquals(List.of(BOB, AMY), modelManager.getFilteredPersonList());
+
+        // a filter on a filtered list narrows it further
+        modelManager.updateFilteredPersonList(new NameContainsKeywordsPredicate(List.of("Amy")));
+        modelManager.updateFilteredPersonList(new StudentInClassGroupPredicate("math 3pm"));
+        assertEquals(List.of(AMY), modelManager.getFilteredPersonList());
+
+        // undoing only tests the persons it changes, so the narrowed list stays narrowed
+        modelManager.deletePerson(AMY);
+        modelManager.commit();
+        modelManager.undo();
+        assertEquals(List.of(AMY), modelManager.getFilteredPersonList());
+
+        modelManager.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        modelManager.updateFilteredPersonList(new StudentInClassGroupPredicate("math 3pm"));
+        assertEquals(List.of(BOB, AMY), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void getFilteredPersonList_changesUnderFilter_updatesChangedPersonsOnly() {
+        for (UndoHistoryMode mode : UndoHistoryMode.values()) {
+            UserPrefs userPrefs = new UserPrefs();
+            userPrefs.setUndoHistoryMode(mode);
+            modelManager = new ModelManager(getTypicalAddressBook(), userPrefs);
+            modelManager.updateFilteredPersonList(new NameContainsKeywordsPredicate(List.of("Benson", "Carl")));
+            assertEquals(List.of(BENSON, CARL), modelManager.getFilteredPersonList());
+
+            // an edited person stays where it is shown, even if it no longer matches
+            Person editedBenson = new PersonBuilder(BENSON).withName("Bernard Meier").build();
+            modelManager.setPerson(BENSON, editedBenson);
+            assertEquals(List.of(editedBenson, CARL), modelManager.getFilteredPersonList());
+
+            // an edited hidden person stays hidden, even if it now matches
+            Person editedAlice = new PersonBuilder(ALICE).withName("Alice Carl").build();
+            modelManager.setPerson(ALICE, editedAlice);
+            assertEquals(List.of(editedBenson, CARL), modelManager.getFilteredPersonList());
+
+            // an added person is shown
+            modelManager.addPerson(AMY);
+            assertEquals(List.of(editedBenson, CARL, AMY), modelManager.getFilteredPersonList());
+            modelManager.commit();
+
+            // undo and redo test the persons they change against the filter
+            modelManager.undo();
+            assertEquals(List.of(BENSON, CARL), modelManager.getFilteredPersonList());
+            modelManager.redo();
+            assertEquals(List.of(editedAlice, CARL), modelManager.getFilteredPersonList());
+
+            modelManager.deletePerson(CARL);
+            assertEquals(List.of(editedAlice), modelManager.getFilteredPersonList());
+            modelManager.setAddressBook(getTypicalAddressBook());
+            assertEquals(List.of(BENSON, CARL), modelManager.getFilteredPersonList());
+        }
+    }
+
+    @Test
+    public void setPerson_shownPersonNoLongerMatches_replacedInPlace() {
+        modelManager = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        modelManager.updateFilteredPersonList(new NameContainsKeywordsPredicate(List.of("Benson", "Carl")));
+        List<String> changes = new ArrayList<>();
+        modelManager.getFilteredPersonList().addListener((ListChangeListener<Person>) change -> {
+            while (change.next()) {
+                changes.add(change.wasReplaced() ? "replaced " + change.getFrom()
+                        : change.wasAdded() ? "added " + change.getFrom() : "removed " + change.getFrom());
+            }
+        });
+
+        // the edited person is replaced where it is shown, rather than hidden and shown again
+        Person editedBenson = new PersonBuilder(BENSON).withName("Bernard Meier").build();
+        modelManager.setPerson(BENSON, editedBenson);
+        assertEquals(List.of("replaced 0"), changes);
+        assertEquals(List.of(editedBenson, CARL), modelManager.getFilteredPersonList());
+    }
+
     @Test
     public void equals() {
         AddressBook addressBook = new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build();
@@ -29,12 +29,39 @@ public class UserPrefsTest {
         assertThrows(NullPointerException.class, () -> userPrefs.setAddressBookFilePath(null));
     }
 
+    @Test
+    public void setAddressBookFileFormat_null_throwsNullPointerException() {
+        UserPrefs userPrefs = new UserPrefs();
+        assertThrows(NullPointerException.class, () -> userPrefs.setAddressBookFileFormat(null));
+    }
+
     @Test
     public void setCommandHistoryFilePath_nullPath_throwsNullPointerException() {
         UserPrefs userPrefs = new UserPrefs();
         assertThrows(NullPointerException.class, () -> userPrefs.setCommandHistoryFilePath(null));
     }
 
+    @Test
+    public void setUndoHistoryLimits_nonPositive_keptForModelToReplace() {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setUndoHistoryMaxVersions(0);
+        userPrefs.setUndoHistoryMaxBytes(-1);
+        assertEquals(0, userPrefs.getUndoHistoryMaxVersions());
+        assertEquals(-1, userPrefs.getUndoHistoryMaxBytes());
+    }
+
+    @Test
+    public void setAddressBookCheckpointInterval_nonPositive_throwsIllegalArgumentException() {
+        UserPrefs userPrefs = new UserPrefs();
+        assertThrows(IllegalArgumentException.class, () -> userPrefs.setAddressBookCheckpointInterval(0));
+    }
+
+    @Test
+    public void setCommandHistoryMaxSize_nonPositive_throwsIllegalArgumentException() {
+        UserPrefs userPrefs = new UserPrefs();
+        assertThrows(IllegalArgumentException.class, () -> userPrefs.setCommandHistoryMaxSize(0));
+    }
+
     @Test
     public void getAndSetGuiSettings_success() {
         UserPrefs userPrefs = new UserPrefs();
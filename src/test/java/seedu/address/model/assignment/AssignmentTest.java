@@ -2,6 +2,8 @@ package seedu.address.model.assignment;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
@@ -84,6 +86,26 @@ public class AssignmentTest {
         assertFalse(assignment.equals(null));
     }
 
+    @Test
+    public void of_sameDetails_returnsPooledInstance() {
+        Assignment assignment = Assignment.of("Homework1", DEFAULT_CLASS_GROUP, false);
+        assertSame(assignment, Assignment.of(new String("Homework1"), DEFAULT_CLASS_GROUP, false));
+        assertSame(assignment.mark(), Assignment.of("Homework1", DEFAULT_CLASS_GROUP, true));
+        assertSame(assignment, assignment.mark().unmark());
+
+        // names differing in case are kept as typed but still equal
+        Assignment otherCase = Assignment.of("HOMEWORK1", DEFAULT_CLASS_GROUP, false);
+        assertNotSame(assignment, otherCase);
+        assertEquals(assignment, otherCase);
+        assertEquals(assignment.hashCode(), otherCase.hashCode());
+    }
+
+    @Test
+    public void of_invalidAssignmentName_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> Assignment.of("", DEFAULT_CLASS_GROUP, false));
+        assertThrows(NullPointerException.class, () -> Assignment.of(null, DEFAULT_CLASS_GROUP, false));
+    }
+
     @Test
     public void toString_validAssignment_returnsCorrectString() {
         Assignment assignment = new Assignment("Physics", DEFAULT_CLASS_GROUP);
@@ -0,0 +1,31 @@
+package seedu.address.model.classgroup;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class ClassGroupTest {
+
+    @Test
+    public void of_sameName_returnsPooledInstance() {
+        ClassGroup classGroup = ClassGroup.of("Math-2000");
+        assertSame(classGroup, ClassGroup.of(new String("Math-2000")));
+        assertEquals(new ClassGroup("Math-2000"), classGroup);
+        assertFalse(classGroup.equals(ClassGroup.of("math-2000")));
+    }
+
+    @Test
+    public void of_invalidName_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> ClassGroup.of(" Math"));
+        assertThrows(NullPointerException.class, () -> ClassGroup.of(null));
+    }
+
+    @Test
+    public void getLookupKey_ignoresCase() {
+        assertEquals("math-2000", ClassGroup.of("MATH-2000").getLookupKey());
+        assertEquals(ClassGroup.getLookupKey("Math-2000"), ClassGroup.of("math-2000").getLookupKey());
+    }
+}
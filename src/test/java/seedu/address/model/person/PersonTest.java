@@ -3,6 +3,7 @@ package seedu.address.model.person;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_CLASSGROUP_PHYSICS;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_LEVEL_BOB;
@@ -12,8 +13,14 @@ import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BOB;
 
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
 import org.junit.jupiter.api.Test;
 
+import seedu.address.model.assignment.Assignment;
+import seedu.address.model.classgroup.ClassGroup;
 import seedu.address.testutil.PersonBuilder;
 
 public class PersonTest {
@@ -24,6 +31,41 @@ public class PersonTest {
         assertThrows(UnsupportedOperationException.class, () -> person.getClassGroups().remove(0));
     }
 
+    @Test
+    public void getAssignments_viewOfSortedPooledValues() {
+        Assignment lab = new Assignment("Lab1", "Physics", true);
+        Assignment homework = new Assignment("Homework1", "Math");
+        Person person = new Person(ALICE.getName(), ALICE.getPhone(), ALICE.getLevel(),
+                new LinkedHashSet<>(List.of(new ClassGroup("Physics"), new ClassGroup("Math"))),
+                new LinkedHashSet<>(List.of(lab, homework)));
+
+        assertEquals(List.of(ClassGroup.of("Math"), ClassGroup.of("Physics")), List.copyOf(person.getClassGroups()));
+        assertEquals(List.of(homework, lab), List.copyOf(person.getAssignments()));
+        assertSame(Assignment.of("Homework1", "Math", false), person.getAssignments().iterator().next());
+        assertTrue(person.getAssignments().contains(new Assignment("LAB1", "physics")));
+        assertFalse(person.getClassGroups().contains(new ClassGroup("physics")));
+        assertEquals(Set.of(lab, homework), person.getAssignments());
+        assertThrows(UnsupportedOperationException.class, () -> person.getAssignments().add(lab));
+        assertThrows(UnsupportedOperationException.class, () -> person.getAssignments().clear());
+
+        // the order in which values are given does not matter
+        Person samePerson = new Person(ALICE.getName(), ALICE.getPhone(), ALICE.getLevel(),
+                Set.of(new ClassGroup("Math"), new ClassGroup("Physics")), Set.of(homework, lab));
+        assertEquals(person, samePerson);
+        assertEquals(person.hashCode(), samePerson.hashCode());
+        assertEquals(List.of(lab), person.getAssignments().stream().filter(Assignment::isMarked).toList());
+    }
+
+    @Test
+    public void withAssignments_replacesAssignmentsOnly() {
+        Person person = new PersonBuilder(BOB).build();
+        Assignment homework = new Assignment("Homework1", VALID_CLASSGROUP_PHYSICS, true);
+        Person updated = person.withAssignments(Set.of(homework));
+        assertEquals(person.getClassGroups(), updated.getClassGroups());
+        assertEquals(Set.of(homework), updated.getAssignments());
+        assertTrue(updated.getAssignments().iterator().next().isMarked());
+    }
+
     @Test
     public void isSamePerson() {
         // same object -> returns true
@@ -98,6 +140,20 @@ public class PersonTest {
         assertNotEquals(person1.hashCode(), person2.hashCode());
     }
 
+    @Test
+    public void hashCode_derivedPerson_sameHashAsBuiltPerson() {
+        Person renamed = ALICE.withName(new Name(VALID_NAME_BOB)).withPhone(new Phone(VALID_PHONE_BOB));
+        Person built = new PersonBuilder(ALICE).withName(VALID_NAME_BOB).withPhone(VALID_PHONE_BOB).build();
+        assertEquals(built, renamed);
+        assertEquals(built.hashCode(), renamed.hashCode());
+
+        // marking an assignment leaves the person equal, so it must leave the hash unchanged
+        Person person = new PersonBuilder(BOB).withAssignments(VALID_CLASSGROUP_PHYSICS, "Lab1", "Lab2").build();
+        Set<Assignment> marked = new LinkedHashSet<>();
+        person.getAssignments().forEach(assignment -> marked.add(assignment.mark()));
+        assertEquals(person.hashCode(), person.withAssignments(marked).hashCode());
+    }
+
 
     @Test
     public void toStringMethod() {
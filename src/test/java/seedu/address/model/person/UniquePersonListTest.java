@@ -3,18 +3,25 @@ package seedu.address.model.person;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_CLASSGROUP_MATH;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_CLASSGROUP_PHYSICS;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_LEVEL_BOB;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.BENSON;
 import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
 
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.model.assignment.Assignment;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
 import seedu.address.testutil.PersonBuilder;
@@ -49,6 +56,30 @@ public class UniquePersonListTest {
         assertTrue(uniquePersonList.contains(editedAlice));
     }
 
+    @Test
+    public void containsName_afterRemoval_tracksRemainingPersons() {
+        Person aliceWithOtherPhone = new PersonBuilder(ALICE).withPhone("11111111").build();
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(aliceWithOtherPhone);
+
+        uniquePersonList.remove(ALICE);
+        assertTrue(uniquePersonList.containsName(ALICE.getName()));
+        assertFalse(uniquePersonList.containsPhone(ALICE.getPhone()));
+
+        uniquePersonList.remove(aliceWithOtherPhone);
+        assertFalse(uniquePersonList.containsName(ALICE.getName()));
+    }
+
+    @Test
+    public void containsPhone_afterSetPerson_reflectsEditedPerson() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.setPerson(ALICE, BOB);
+        assertFalse(uniquePersonList.containsPhone(ALICE.getPhone()));
+        assertTrue(uniquePersonList.containsPhone(BOB.getPhone()));
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertTrue(uniquePersonList.contains(BOB));
+    }
+
     @Test
     public void add_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.add(null));
@@ -60,6 +91,19 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.add(ALICE));
     }
 
+    @Test
+    public void add_atIndex_insertsAndKeepsPositions() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(CARL);
+        uniquePersonList.add(1, BENSON);
+
+        UniquePersonList expectedUniquePersonList = new UniquePersonList();
+        expectedUniquePersonList.setPersons(Arrays.asList(ALICE, BENSON, CARL));
+        assertEquals(expectedUniquePersonList, uniquePersonList);
+        assertEquals(2, uniquePersonList.indexOf(CARL));
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.add(0, BENSON));
+    }
+
     @Test
     public void setPerson_nullTargetPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.setPerson(null, ALICE));
@@ -113,6 +157,27 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPerson(ALICE, BOB));
     }
 
+    @Test
+    public void setPerson_targetWithSameIdentityButDifferentFields_throwsPersonNotFoundException() {
+        uniquePersonList.add(ALICE);
+        Person editedAlice = new PersonBuilder(ALICE).withLevel(VALID_LEVEL_BOB).build();
+        assertThrows(PersonNotFoundException.class, () -> uniquePersonList.setPerson(editedAlice, BOB));
+    }
+
+    @Test
+    public void setPerson_afterEarlierPersonRemoved_replacesCorrectPerson() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BENSON);
+        uniquePersonList.add(CARL);
+        uniquePersonList.remove(ALICE);
+        uniquePersonList.setPerson(CARL, BOB);
+
+        UniquePersonList expectedUniquePersonList = new UniquePersonList();
+        expectedUniquePersonList.add(BENSON);
+        expectedUniquePersonList.add(BOB);
+        assertEquals(expectedUniquePersonList, uniquePersonList);
+    }
+
     @Test
     public void remove_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.remove(null));
@@ -143,6 +208,8 @@ public class UniquePersonListTest {
         expectedUniquePersonList.add(BOB);
         uniquePersonList.setPersons(expectedUniquePersonList);
         assertEquals(expectedUniquePersonList, uniquePersonList);
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertTrue(uniquePersonList.contains(BOB));
     }
 
     @Test
@@ -166,6 +233,125 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithDuplicatePersons));
     }
 
+    @Test
+    public void getPersonsInClassGroup_followsMutations() {
+        uniquePersonList.add(BOB);
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(0, AMY);
+        assertEquals(List.of(AMY, BOB), uniquePersonList.getPersonsInClassGroup("MATH 3PM"));
+        assertEquals(List.of(BOB), uniquePersonList.getPersonsInClassGroup(VALID_CLASSGROUP_PHYSICS));
+        assertEquals(List.of(), uniquePersonList.getPersonsInClassGroup("math"));
+
+        Person editedAlice = new PersonBuilder(ALICE).withClassGroups(VALID_CLASSGROUP_MATH).build();
+        uniquePersonList.setPerson(ALICE, editedAlice);
+        uniquePersonList.remove(AMY);
+        assertEquals(List.of(BOB, editedAlice), uniquePersonList.getPersonsInClassGroup(VALID_CLASSGROUP_MATH));
+
+        Person editedBob = new PersonBuilder(BOB).withClassGroups(VALID_CLASSGROUP_PHYSICS).build();
+        uniquePersonList.setPerson(BOB, editedBob);
+        assertEquals(List.of(editedAlice), uniquePersonList.getPersonsInClassGroup(VALID_CLASSGROUP_MATH));
+
+        uniquePersonList.setPersons(List.of(CARL));
+        assertEquals(List.of(), uniquePersonList.getPersonsInClassGroup(VALID_CLASSGROUP_PHYSICS));
+    }
+
+    @Test
+    public void getPersonsInClassGroup_afterRestore_matchesRestoredPersons() {
+        uniquePersonList.add(AMY);
+        uniquePersonList.add(ALICE);
+        var snapshot = uniquePersonList.snapshot();
+        uniquePersonList.remove(AMY);
+        uniquePersonList.add(BOB);
+        uniquePersonList.restore(snapshot);
+        assertEquals(List.of(AMY), uniquePersonList.getPersonsInClassGroup(VALID_CLASSGROUP_MATH));
+        assertEquals(List.of(), uniquePersonList.getPersonsInClassGroup(VALID_CLASSGROUP_PHYSICS));
+    }
+
+    @Test
+    public void getPersonsWithNameWord_followsMutations() {
+        uniquePersonList.add(BENSON);
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(DANIEL);
+        assertEquals(List.of(BENSON, DANIEL), uniquePersonList.getPersonsWithNameWord("MEIER"));
+        assertEquals(2, uniquePersonList.countPersonsWithNameWord("meier"));
+        assertEquals(List.of(), uniquePersonList.getPersonsWithNameWord("Mei"));
+
+        Person editedAlice = new PersonBuilder(ALICE).withName("Alice Meier").build();
+        uniquePersonList.setPerson(ALICE, editedAlice);
+        uniquePersonList.remove(BENSON);
+        assertEquals(List.of(editedAlice, DANIEL), uniquePersonList.getPersonsWithNameWord("meier"));
+        assertEquals(0, uniquePersonList.countPersonsWithNameWord("pauline"));
+
+        uniquePersonList.setPersons(List.of(CARL));
+        assertEquals(List.of(CARL), uniquePersonList.getPersonsWithNameWord("kurz"));
+        assertEquals(0, uniquePersonList.countPersonsWithNameWord("meier"));
+    }
+
+    @Test
+    public void getPersonsWithAssignment_followsMarkingAndMutations() {
+        Assignment homework = new Assignment("Homework1", "Math-2000");
+        Person alice = withAssignments(ALICE, homework);
+        Person benson = withAssignments(BENSON, homework.mark());
+        uniquePersonList.add(alice);
+        uniquePersonList.add(CARL);
+        uniquePersonList.add(benson);
+
+        Assignment query = new Assignment("HOMEWORK1", "math-2000");
+        assertEquals(List.of(alice, benson), uniquePersonList.getPersonsWithAssignment(query));
+        assertEquals(List.of(benson), uniquePersonList.getPersonsWithAssignment(query, true));
+        assertEquals(List.of(alice), uniquePersonList.getPersonsWithAssignment(query, false));
+        assertEquals(List.of(), uniquePersonList.getPersonsWithAssignment(new Assignment("Homework2", "Math-2000")));
+
+        var snapshot = uniquePersonList.snapshot();
+        Person markedAlice = withAssignments(ALICE, homework.mark());
+        uniquePersonList.setPerson(alice, markedAlice);
+        assertEquals(List.of(markedAlice, benson), uniquePersonList.getPersonsWithAssignment(query, true));
+        assertEquals(List.of(), uniquePersonList.getPersonsWithAssignment(query, false));
+
+        uniquePersonList.remove(benson);
+        uniquePersonList.add(0, withAssignments(BOB, homework));
+        assertEquals(List.of(markedAlice), uniquePersonList.getPersonsWithAssignment(query, true));
+        assertEquals(List.of(withAssignments(BOB, homework)), uniquePersonList.getPersonsWithAssignment(query, false));
+
+        uniquePersonList.restore(snapshot);
+        assertEquals(List.of(benson), uniquePersonList.getPersonsWithAssignment(query, true));
+        assertEquals(List.of(alice), uniquePersonList.getPersonsWithAssignment(query, false));
+
+        uniquePersonList.setPersons(List.of(CARL));
+        assertEquals(List.of(), uniquePersonList.getPersonsWithAssignment(query));
+    }
+
+    @Test
+    public void getStateChecksum_followsMarkingAndMutations() {
+        Assignment homework = new Assignment("Homework1", "Math-2000");
+        Person alice = withAssignments(ALICE, homework);
+        Person benson = withAssignments(BENSON, homework.mark());
+        uniquePersonList.add(alice);
+        uniquePersonList.add(benson);
+        int checksum = uniquePersonList.getStateChecksum();
+        var snapshot = uniquePersonList.snapshot();
+
+        // moving the mark to another person changes the checksum, although the persons are equal
+        uniquePersonList.setPerson(alice, withAssignments(ALICE, homework.mark()));
+        uniquePersonList.setPerson(benson, withAssignments(BENSON, homework));
+        assertFalse(checksum == uniquePersonList.getStateChecksum());
+
+        uniquePersonList.restore(snapshot);
+        assertEquals(checksum, uniquePersonList.getStateChecksum());
+        uniquePersonList.remove(alice);
+        uniquePersonList.add(0, alice);
+        assertEquals(checksum, uniquePersonList.getStateChecksum());
+
+        UniquePersonList rebuilt = new UniquePersonList();
+        rebuilt.setPersons(List.of(alice, benson));
+        assertEquals(checksum, rebuilt.getStateChecksum());
+    }
+
+    private static Person withAssignments(Person person, Assignment... assignments) {
+        return new Person(person.getName(), person.getPhone(), person.getLevel(), person.getClassGroups(),
+                Set.of(assignments));
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
@@ -0,0 +1,136 @@
+package seedu.address.model.query;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.assignment.Assignment;
+import seedu.address.model.classgroup.ClassGroup;
+import seedu.address.model.person.Level;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+
+public class PersonQueryTest {
+
+    private static final String MATH = "Math-1000";
+    private static final String PHYSICS = "Physics-1000";
+    private static final Assignment HOMEWORK = new Assignment("Homework1", MATH);
+
+    private AddressBook addressBook;
+
+    /**
+     * Fills the address book with persons in Math-1000 or Physics-1000 by turns, with every third Math-1000 student
+     * given the homework and every other one of those marked.
+     */
+    @BeforeEach
+    public void setUp() {
+        addressBook = new AddressBook();
+        for (int i = 0; i < 60; i++) {
+            String classGroup = i % 2 == 0 ? MATH : PHYSICS;
+            Set<Assignment> assignments = Set.of();
+            if (i % 6 == 0) {
+                assignments = Set.of(i % 12 == 0 ? HOMEWORK.mark() : HOMEWORK);
+            }
+            addressBook.addPerson(new Person(new Name((i % 5 == 0 ? "Alex " : "Sam ") + "Student" + i),
+                    new Phone(String.format("8%07d", i)), new Level(String.valueOf(i % 5 + 1)),
+                    Set.of(ClassGroup.of(classGroup)), assignments));
+        }
+    }
+
+    @Test
+    public void estimateCandidates_indexedQueries_countIndexedPersons() {
+        assertEquals(30, new ClassGroupQuery(MATH.toLowerCase()).estimateCandidates(addressBook));
+        assertEquals(10, new AssignmentQuery(HOMEWORK).estimateCandidates(addressBook));
+        assertEquals(5, new AssignmentQuery(HOMEWORK, true).estimateCandidates(addressBook));
+        assertEquals(13, new NameQuery(List.of("alex", "student3")).estimateCandidates(addressBook));
+        assertEquals(PersonQuery.UNINDEXED, new LevelQuery(new Level("3")).estimateCandidates(addressBook));
+        assertEquals(PersonQuery.UNINDEXED, new NotQuery(new AssignmentQuery(HOMEWORK))
+                .estimateCandidates(addressBook));
+    }
+
+    @Test
+    public void estimateCandidates_combinedQueries_plannedFromChildren() {
+        PersonQuery level = new LevelQuery(new Level("1"));
+        PersonQuery classGroup = new ClassGroupQuery(MATH);
+        PersonQuery homework = new AssignmentQuery(HOMEWORK, false);
+
+        // an AND looks up its most selective child
+        assertEquals(5, new AndQuery(List.of(level, classGroup, homework)).estimateCandidates(addressBook));
+        assertEquals(PersonQuery.UNINDEXED, new AndQuery(List.of(level)).estimateCandidates(addressBook));
+
+        // an OR looks up every child, or none if one cannot be looked up
+        assertEquals(35, new OrQuery(List.of(classGroup, homework)).estimateCandidates(addressBook));
+        assertEquals(PersonQuery.UNINDEXED, new OrQuery(List.of(classGroup, level)).estimateCandidates(addressBook));
+    }
+
+    @Test
+    public void findMatches_sameAsTestingEveryPerson() {
+        PersonQuery math = new ClassGroupQuery(MATH);
+        PersonQuery physics = new ClassGroupQuery(PHYSICS);
+        PersonQuery alex = new NameQuery(List.of("ALEX"));
+        PersonQuery level = new LevelQuery(new Level("1"));
+        PersonQuery marked = new AssignmentQuery(HOMEWORK, true);
+        PersonQuery unmarked = new AssignmentQuery(HOMEWORK, false);
+        PersonQuery phone = new PhoneQuery(new Phone("80000042"));
+
+        List<PersonQuery> queries = new ArrayList<>(List.of(math, alex, level, marked, phone));
+        queries.add(new AndQuery(List.of(math, alex)));
+        queries.add(new AndQuery(List.of(math, new NotQuery(marked))));
+        queries.add(new AndQuery(List.of(level, new OrQuery(List.of(marked, unmarked)))));
+        queries.add(new OrQuery(List.of(marked, alex)));
+        queries.add(new OrQuery(List.of(physics, new AndQuery(List.of(math, level)))));
+        queries.add(new OrQuery(List.of(phone, unmarked)));
+        queries.add(new NotQuery(new OrQuery(List.of(math, physics))));
+
+        for (PersonQuery query : queries) {
+            assertArrayEquals(scan(query), query.findMatches(addressBook), query.toString());
+        }
+    }
+
+    @Test
+    public void findMatches_afterChanges_usesUpdatedIndexes() {
+        PersonQuery query = new AndQuery(List.of(new ClassGroupQuery(MATH), new NameQuery(List.of("alex"))));
+        Person first = addressBook.getPersonList().get(0);
+        addressBook.removePerson(first);
+        addressBook.addPerson(new Person(new Name("Alex New"), new Phone("91234567"), new Level("2"),
+                Set.of(ClassGroup.of(MATH)), Set.of()));
+        assertArrayEquals(scan(query), query.findMatches(addressBook));
+        assertEquals(addressBook.getPersonList().size() - 1, query.findMatches(addressBook)[5]);
+    }
+
+    @Test
+    public void union() {
+        assertArrayEquals(new int[] {1, 2, 3, 5, 8}, PersonQuery.union(new int[] {1, 3, 5}, new int[] {2, 3, 8}));
+        assertArrayEquals(new int[] {4}, PersonQuery.union(new int[0], new int[] {4}));
+        assertArrayEquals(new int[0], PersonQuery.union(new int[0], new int[0]));
+    }
+
+    @Test
+    public void equals() {
+        PersonQuery math = new ClassGroupQuery(MATH);
+        PersonQuery marked = new AssignmentQuery(HOMEWORK, true);
+
+        assertTrue(new AndQuery(List.of(math, marked)).equals(new AndQuery(List.of(math, marked))));
+        assertFalse(new AndQuery(List.of(math, marked)).equals(new OrQuery(List.of(math, marked))));
+        assertTrue(new NotQuery(math).equals(new NotQuery(new ClassGroupQuery(MATH))));
+        assertFalse(marked.equals(new AssignmentQuery(HOMEWORK)));
+        assertFalse(marked.equals(new AssignmentQuery(HOMEWORK, false)));
+        assertFalse(math.equals(null));
+    }
+
+    private int[] scan(PersonQuery query) {
+        List<Person> persons = addressBook.getPersonList();
+        return IntStream.range(0, persons.size()).filter(i -> query.test(persons.get(i))).toArray();
+    }
+}
@@ -0,0 +1,150 @@
+package seedu.address.model.versionmanager;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.versionmanager.exceptions.NoPreviousCommitException;
+import seedu.address.model.versionmanager.exceptions.NoPreviousUndoException;
+
+public class AddressBookChangeJournalTest {
+
+    private AddressBook addressBook;
+    private AddressBookChangeJournal journal;
+
+    @BeforeEach
+    public void setUp() {
+        addressBook = getTypicalAddressBook();
+        journal = new AddressBookChangeJournal();
+    }
+
+    private void removePerson(Person person) {
+        int index = addressBook.indexOf(person);
+        addressBook.removePerson(person);
+        journal.recordChange(PersonChange.ofRemoval(index, person));
+    }
+
+    private void setPerson(Person target, Person editedPerson) {
+        int index = addressBook.indexOf(target);
+        addressBook.setPerson(target, editedPerson);
+        journal.recordChange(PersonChange.ofEdit(index, target, editedPerson));
+    }
+
+    private void addPerson(Person person) {
+        addressBook.addPerson(person);
+        journal.recordChange(PersonChange.ofAddition(addressBook.getPersonList().size() - 1, person));
+    }
+
+    @Test
+    public void undoChanges_noCommit_throwsNoPreviousCommitException() {
+        assertThrows(NoPreviousCommitException.class, () -> journal.undoChanges(addressBook));
+    }
+
+    @Test
+    public void redoChanges_noUndo_throwsNoPreviousUndoException() {
+        journal.commitChanges(addressBook);
+        assertThrows(NoPreviousUndoException.class, () -> journal.redoChanges(addressBook));
+    }
+
+    @Test
+    public void undoChanges_multipleChanges_restoresOrderAndContents() {
+        AddressBook original = new AddressBook(addressBook);
+
+        removePerson(BENSON);
+        setPerson(CARL, BOB);
+        addPerson(BENSON);
+        journal.commitChanges(addressBook);
+        AddressBook changed = new AddressBook(addressBook);
+
+        journal.undoChanges(addressBook);
+        assertEquals(original, addressBook);
+        assertEquals(1, journal.getRedoStack().size());
+
+        journal.redoChanges(addressBook);
+        assertEquals(changed, addressBook);
+        assertEquals(1, journal.getUndoStack().size());
+    }
+
+    @Test
+    public void undoChanges_uncommittedChanges_discardsThem() {
+        AddressBook original = new AddressBook(addressBook);
+        removePerson(ALICE);
+        journal.commitChanges(addressBook);
+        removePerson(BENSON);
+
+        journal.undoChanges(addressBook);
+
+        assertEquals(original, addressBook);
+        assertEquals(0, journal.getPendingChanges().size());
+    }
+
+    @Test
+    public void commitChanges_afterUndo_clearsRedoStack() {
+        removePerson(ALICE);
+        journal.commitChanges(addressBook);
+        journal.undoChanges(addressBook);
+
+        removePerson(BENSON);
+        journal.commitChanges(addressBook);
+
+        assertEquals(0, journal.getRedoStack().size());
+        assertThrows(NoPreviousUndoException.class, () -> journal.redoChanges(addressBook));
+    }
+
+    @Test
+    public void commitChanges_exceedsMaxVersions_evictsOldestVersions() {
+        journal = new AddressBookChangeJournal(new UndoHistoryBudget(1, Long.MAX_VALUE));
+        removePerson(ALICE);
+        journal.commitChanges(addressBook);
+        AddressBook afterFirstCommit = new AddressBook(addressBook);
+        removePerson(BENSON);
+        journal.commitChanges(addressBook);
+
+        assertEquals(1, journal.getVersionCount());
+        journal.undoChanges(addressBook);
+        assertEquals(afterFirstCommit, addressBook);
+        assertThrows(NoPreviousCommitException.class, () -> journal.undoChanges(addressBook));
+    }
+
+    @Test
+    public void commitChanges_exceedsMaxBytes_evictsOldestVersions() {
+        removePerson(ALICE);
+        journal.commitChanges(addressBook);
+        long sizeOfOneVersion = journal.getEstimatedSize();
+        journal = new AddressBookChangeJournal(new UndoHistoryBudget(Integer.MAX_VALUE, sizeOfOneVersion));
+
+        removePerson(BENSON);
+        journal.commitChanges(addressBook);
+        removePerson(CARL);
+        journal.commitChanges(addressBook);
+
+        assertEquals(1, journal.getVersionCount());
+        assertTrue(journal.getEstimatedSize() <= sizeOfOneVersion);
+    }
+
+    @Test
+    public void getEstimatedSize_undoAndCommit_tracksRetainedVersions() {
+        assertEquals(0, journal.getEstimatedSize());
+        removePerson(ALICE);
+        journal.commitChanges(addressBook);
+        long size = journal.getEstimatedSize();
+        assertTrue(size > 0);
+
+        journal.undoChanges(addressBook);
+        assertEquals(size, journal.getEstimatedSize());
+
+        journal.commitChanges(addressBook);
+        assertTrue(journal.getEstimatedSize() < size);
+        assertEquals(1, journal.getVersionCount());
+    }
+}
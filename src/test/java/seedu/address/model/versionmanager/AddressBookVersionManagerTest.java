@@ -1,18 +1,27 @@
 package seedu.address.model.versionmanager;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.BOB;
 import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.versionmanager.exceptions.CorruptedHistoryException;
 import seedu.address.model.versionmanager.exceptions.NoPreviousCommitException;
 import seedu.address.model.versionmanager.exceptions.NoPreviousUndoException;
 import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.PersonBuilder;
 
 public class AddressBookVersionManagerTest {
 
@@ -201,4 +210,108 @@ public class AddressBookVersionManagerTest {
         assertThrows(NoPreviousUndoException.class, () -> addressBookVersionManager.redo());
     }
 
+    @Test
+    public void commit_exceedsMaxVersions_evictsOldestVersions() {
+        addressBookVersionManager = new AddressBookVersionManager(addressBookState1,
+                new UndoHistoryBudget(1, Long.MAX_VALUE));
+        addressBookVersionManager.commit(addressBookState2);
+        addressBookVersionManager.commit(addressBookState3);
+
+        assertEquals(2, addressBookVersionManager.getVersionStack().size());
+        assertEquals(1, addressBookVersionManager.getVersionCount());
+        assertEquals(addressBookState2, addressBookVersionManager.undo());
+        assertThrows(NoPreviousCommitException.class, () -> addressBookVersionManager.undo());
+    }
+
+    @Test
+    public void commit_exceedsMaxBytes_evictsOldestVersions() {
+        addressBookVersionManager.commit(addressBookState2);
+        addressBookVersionManager.commit(addressBookState3);
+        long sizeOfTwoVersions = addressBookVersionManager.getEstimatedSize();
+        addressBookVersionManager = new AddressBookVersionManager(addressBookState1,
+                new UndoHistoryBudget(Integer.MAX_VALUE, sizeOfTwoVersions - 1));
+
+        addressBookVersionManager.commit(addressBookState2);
+        assertEquals(1, addressBookVersionManager.getVersionCount());
+        addressBookVersionManager.commit(addressBookState3);
+
+        assertEquals(1, addressBookVersionManager.getVersionCount());
+        assertEquals(addressBookState2, addressBookVersionManager.getVersionStack().get(0));
+    }
+
+    @Test
+    public void getEstimatedSize_undoRedoCommit_tracksRetainedVersions() {
+        assertEquals(0, addressBookVersionManager.getEstimatedSize());
+        addressBookVersionManager.commit(addressBookState2);
+        long size = addressBookVersionManager.getEstimatedSize();
+        assertTrue(size > 0);
+
+        addressBookVersionManager.undo();
+        assertEquals(size, addressBookVersionManager.getEstimatedSize());
+        assertEquals(1, addressBookVersionManager.getVersionCount());
+
+        addressBookVersionManager.commit(addressBookState1);
+        assertTrue(addressBookVersionManager.getEstimatedSize() < 2 * size);
+        assertEquals(1, addressBookVersionManager.getVersionCount());
+    }
+
+    @Test
+    public void getEstimatedSize_structurallySharedSnapshots_countsOnlyChanges() {
+        AddressBook addressBook = getTypicalAddressBook();
+        addressBookVersionManager = new AddressBookVersionManager(addressBook.snapshot());
+        addressBookVersionManager.commit(new AddressBook(addressBook));
+        long fullCopySize = addressBookVersionManager.getEstimatedSize();
+
+        addressBookVersionManager = new AddressBookVersionManager(addressBook.snapshot());
+        addressBook.setPerson(ALICE, BOB);
+        addressBookVersionManager.commit(addressBook.snapshot());
+
+        assertTrue(addressBookVersionManager.getEstimatedSize() < fullCopySize);
+    }
+
+    @Test
+    public void getEstimatedSize_removeFirstOfLargeRoster_countsOnlyCopiedNodes() {
+        AddressBook addressBook = new AddressBook();
+        for (int i = 0; i < 100_000; i++) {
+            addressBook.addPerson(new PersonBuilder().withName("Student " + i)
+                    .withPhone(String.format("8%07d", i)).build());
+        }
+        ReadOnlyAddressBook full = addressBook.snapshot();
+        addressBookVersionManager = new AddressBookVersionManager(full, new UndoHistoryBudget(
+                UserPrefs.DEFAULT_UNDO_HISTORY_MAX_VERSIONS, UserPrefs.DEFAULT_UNDO_HISTORY_MAX_BYTES));
+        addressBook.removePerson(addressBook.getPersonList().get(0));
+        addressBookVersionManager.commit(addressBook.snapshot());
+
+        // every later person shifts down by one, but is still shared with the previous version
+        assertTrue(addressBookVersionManager.getEstimatedSize() < 10_000);
+        assertEquals(1, addressBookVersionManager.getVersionCount());
+        assertEquals(full, addressBookVersionManager.undo());
+    }
+
+    @Test
+    public void restore_previousSessionVersions_undoesAndRedoesThem() {
+        AddressBook addressBook = new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build();
+        addressBookVersionManager = new AddressBookVersionManager(addressBook.snapshot());
+        addressBookVersionManager.restore(List.of(List.of(PersonChange.ofAddition(1, BENSON))),
+                List.of(List.of(PersonChange.ofAddition(2, CARL))));
+        assertEquals(2, addressBookVersionManager.getVersionCount());
+
+        assertEquals(addressBookState1, new AddressBook(addressBookVersionManager.undo()));
+        assertThrows(NoPreviousCommitException.class, () -> addressBookVersionManager.undo());
+        assertEquals(addressBookState2, new AddressBook(addressBookVersionManager.redo()));
+        assertEquals(addressBookState3, new AddressBook(addressBookVersionManager.redo()));
+        assertThrows(NoPreviousUndoException.class, () -> addressBookVersionManager.redo());
+    }
+
+    @Test
+    public void restore_unreadableVersion_dropsIt() {
+        DeferredChangeList unreadable = new DeferredChangeList(() -> {
+            throw new CorruptedHistoryException("unreadable", null);
+        }, 1);
+        addressBookVersionManager.restore(List.of(unreadable), List.of());
+
+        assertThrows(NoPreviousCommitException.class, () -> addressBookVersionManager.undo());
+        assertEquals(0, addressBookVersionManager.getVersionCount());
+        assertEquals(0, addressBookVersionManager.getEstimatedSize());
+    }
 }
@@ -0,0 +1,189 @@
+package seedu.address.model.versionmanager;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class PersistentVectorTest {
+
+    // Large enough to need a three-level trie
+    private static final int LARGE_SIZE = 40_000;
+
+    private static List<Integer> range(int size) {
+        List<Integer> list = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            list.add(i);
+        }
+        return list;
+    }
+
+    @Test
+    public void copyOf_largeList_preservesOrder() {
+        List<Integer> expected = range(LARGE_SIZE);
+        PersistentVector<Integer> vector = PersistentVector.copyOf(expected);
+        assertEquals(LARGE_SIZE, vector.size());
+        assertEquals(expected, vector.toList());
+    }
+
+    @Test
+    public void get_indexOutOfBounds_throwsIndexOutOfBoundsException() {
+        PersistentVector<Integer> vector = PersistentVector.copyOf(range(3));
+        assertThrows(IndexOutOfBoundsException.class, () -> vector.get(3));
+        assertThrows(IndexOutOfBoundsException.class, () -> PersistentVector.empty().get(0));
+    }
+
+    @Test
+    public void set_leavesOriginalUnchanged() {
+        PersistentVector<Integer> original = PersistentVector.copyOf(range(LARGE_SIZE));
+        PersistentVector<Integer> updated = original.set(1234, -1);
+
+        assertEquals(1234, (int) original.get(1234));
+        assertEquals(-1, (int) updated.get(1234));
+        assertEquals(LARGE_SIZE, updated.size());
+    }
+
+    @Test
+    public void remove_middleElement_shiftsLaterElements() {
+        List<Integer> expected = range(LARGE_SIZE);
+        PersistentVector<Integer> original = PersistentVector.copyOf(expected);
+        PersistentVector<Integer> removed = original.remove(500);
+        expected.remove(500);
+
+        assertEquals(expected, removed.toList());
+        assertEquals(LARGE_SIZE, original.size());
+    }
+
+    @Test
+    public void take_acrossLevels_success() {
+        PersistentVector<Integer> vector = PersistentVector.copyOf(range(LARGE_SIZE));
+        assertEquals(range(33), vector.take(33).toList());
+        assertEquals(range(32), vector.take(32).toList());
+        assertEquals(range(33), vector.take(32).append(32).toList());
+        assertTrue(vector.take(0).isEmpty());
+    }
+
+    @Test
+    public void insert_middleElement_shiftsLaterElements() {
+        List<Integer> expected = range(LARGE_SIZE);
+        PersistentVector<Integer> original = PersistentVector.copyOf(expected);
+        PersistentVector<Integer> inserted = original.insert(500, -1);
+        expected.add(500, -1);
+
+        assertEquals(expected, inserted.toList());
+        assertEquals(LARGE_SIZE, original.size());
+    }
+
+    @Test
+    public void insertAndRemove_randomPositions_matchArrayList() {
+        Random random = new Random(2103);
+        List<Integer> expected = new ArrayList<>();
+        PersistentVector<Integer> vector = PersistentVector.empty();
+        for (int i = 0; i < 20_000; i++) {
+            if (!expected.isEmpty() && random.nextInt(3) == 0) {
+                int index = random.nextInt(expected.size());
+                expected.remove(index);
+                vector = vector.remove(index);
+            } else {
+                int index = random.nextInt(expected.size() + 1);
+                expected.add(index, i);
+                vector = vector.insert(index, i);
+            }
+        }
+        assertEquals(expected, vector.toList());
+        for (int i = 0; i < expected.size(); i += 97) {
+            assertEquals(expected.get(i), vector.get(i));
+        }
+
+        while (!expected.isEmpty()) {
+            int index = random.nextInt(expected.size());
+            expected.remove(index);
+            vector = vector.remove(index);
+        }
+        assertTrue(vector.isEmpty());
+    }
+
+    @Test
+    public void removeAndInsert_middleElement_copiesOnlyAFewNodes() {
+        PersistentVector<Integer> original = PersistentVector.copyOf(range(LARGE_SIZE));
+
+        // the 4 nodes on the path from the root to the leaf, then 2 per level as full nodes split and a new root
+        assertEquals(4, original.remove(5).countNodesNotSharedWith(original));
+        assertEquals(7, original.insert(5, -1).countNodesNotSharedWith(original));
+        assertEquals(0, original.countNodesNotSharedWith(original));
+    }
+
+    @Test
+    public void forEachDifference_derivedVersion_reportsChangedRangesOnly() {
+        PersistentVector<Integer> original = PersistentVector.copyOf(range(LARGE_SIZE));
+        PersistentVector<Integer> updated = original.set(7, -1).set(30_000, -2).append(-3);
+
+        assertEquals(List.of(List.of(7, 1, 7, 1), List.of(30_000, 1, 30_000, 1), List.of(LARGE_SIZE, 0, LARGE_SIZE, 1)),
+                getDifferences(original, updated));
+        assertEquals(List.of(List.of(7, 1, 7, 1), List.of(30_000, 1, 30_000, 1), List.of(LARGE_SIZE, 1, LARGE_SIZE, 0)),
+                getDifferences(updated, original));
+    }
+
+    @Test
+    public void forEachDifference_removedAndInsertedElements_reportsThemOnly() {
+        PersistentVector<Integer> original = PersistentVector.copyOf(range(LARGE_SIZE));
+        PersistentVector<Integer> updated = original.remove(3).remove(3).insert(20_000, -1);
+
+        assertEquals(List.of(List.of(3, 2, 3, 0), List.of(20_002, 0, 20_000, 1)), getDifferences(original, updated));
+        assertEquals(List.of(List.of(3, 0, 3, 2), List.of(20_000, 1, 20_002, 0)), getDifferences(updated, original));
+        assertEquals(List.of(), getDifferences(original, original));
+    }
+
+    @Test
+    public void forEachDifference_differentDepths_reportsChangedRangesOnly() {
+        PersistentVector<Integer> small = PersistentVector.copyOf(range(1000));
+        PersistentVector<Integer> large = small;
+        for (int i = 1000; i < LARGE_SIZE; i++) {
+            large = large.append(i);
+        }
+        large = large.set(3, -1);
+
+        assertEquals(List.of(List.of(3, 1, 3, 1), List.of(1000, 0, 1000, LARGE_SIZE - 1000)),
+                getDifferences(small, large));
+    }
+
+    @Test
+    public void forEachDifference_unrelatedVectors_reportsDifferingRange() {
+        PersistentVector<Integer> first = PersistentVector.copyOf(range(100));
+        List<Integer> changed = range(100);
+        changed.set(40, -1);
+        PersistentVector<Integer> second = PersistentVector.copyOf(changed);
+
+        // equal elements are not the same objects outside the small integer cache, so compare in that range
+        assertEquals(List.of(List.of(40, 1, 40, 1)), getDifferences(first, second));
+    }
+
+    private static List<List<Integer>> getDifferences(PersistentVector<Integer> first,
+            PersistentVector<Integer> second) {
+        List<List<Integer>> differences = new ArrayList<>();
+        first.forEachDifference(second, (from, removedCount, otherFrom, addedCount) ->
+                differences.add(List.of(from, removedCount, otherFrom, addedCount)));
+        return differences;
+    }
+
+    @Test
+    public void equals() {
+        PersistentVector<Integer> vector = PersistentVector.copyOf(range(100));
+
+        // same values -> returns true
+        assertEquals(vector, PersistentVector.copyOf(range(100)));
+        assertEquals(vector.hashCode(), PersistentVector.copyOf(range(100)).hashCode());
+
+        // different size -> returns false
+        assertNotEquals(vector, vector.take(99));
+
+        // different element -> returns false
+        assertNotEquals(vector, vector.set(50, -1));
+    }
+}
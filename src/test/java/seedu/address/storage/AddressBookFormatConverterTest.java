@@ -0,0 +1,94 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.core.AddressBookSaveMode;
+import seedu.address.model.AddressBook;
+import seedu.address.model.versionmanager.PersonChange;
+
+public class AddressBookFormatConverterTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void convert_jsonToBinaryAndBack_sameAddressBook() throws Exception {
+        JsonAddressBookStorage json = new JsonAddressBookStorage(testFolder.resolve("ab.json"));
+        BinaryAddressBookStorage binary = new BinaryAddressBookStorage(testFolder.resolve("ab.bin"));
+        JsonAddressBookStorage export = new JsonAddressBookStorage(testFolder.resolve("export.json"));
+        AddressBook original = getTypicalAddressBook();
+        json.saveAddressBook(original);
+
+        assertTrue(AddressBookFormatConverter.convert(json, binary));
+        assertTrue(AddressBookFormatConverter.convert(binary, export));
+        assertEquals(original, new AddressBook(binary.readAddressBook().get()));
+        assertEquals(Files.readString(json.getAddressBookFilePath()),
+                Files.readString(export.getAddressBookFilePath()));
+    }
+
+    @Test
+    public void convert_missingSource_targetUntouched() throws Exception {
+        BinaryAddressBookStorage binary = new BinaryAddressBookStorage(testFolder.resolve("ab.bin"));
+        JsonAddressBookStorage json = new JsonAddressBookStorage(testFolder.resolve("ab.json"));
+        assertFalse(AddressBookFormatConverter.convert(binary, json));
+        assertFalse(Files.exists(json.getAddressBookFilePath()));
+    }
+
+    @Test
+    public void convertIfNewer_onlyConvertsMoreRecentData() throws Exception {
+        JsonAddressBookStorage json = new JsonAddressBookStorage(testFolder.resolve("ab.json"),
+                AddressBookSaveMode.WRITE_AHEAD_LOG, 10, true);
+        BinaryAddressBookStorage binary = new BinaryAddressBookStorage(testFolder.resolve("ab.bin"));
+        AddressBook original = getTypicalAddressBook();
+        json.saveAddressBook(original);
+
+        // the binary snapshot is missing
+        assertTrue(AddressBookFormatConverter.convertIfNewer(json, binary));
+        setLastModified(binary.getAddressBookFilePath(), 2000);
+        setLastModified(json.getAddressBookFilePath(), 1000);
+        setLastModified(json.getJournalFilePath(), 1000);
+        assertFalse(AddressBookFormatConverter.convertIfNewer(json, binary));
+
+        // changes journaled after the snapshot was written
+        original.removePerson(ALICE);
+        json.saveAddressBook(original, List.of(PersonChange.ofRemoval(0, ALICE)));
+        setLastModified(json.getJournalFilePath(), 3000);
+        assertTrue(AddressBookFormatConverter.convertIfNewer(json, binary));
+        assertEquals(original, new AddressBook(binary.readAddressBook().get()));
+    }
+
+    @Test
+    public void convertIfNewer_severalSources_convertsMostRecent() throws Exception {
+        JsonAddressBookStorage json = new JsonAddressBookStorage(testFolder.resolve("ab.json"));
+        BinaryAddressBookStorage binary = new BinaryAddressBookStorage(testFolder.resolve("ab.bin"));
+        SegmentedAddressBookStorage segmented = new SegmentedAddressBookStorage(
+                SegmentedAddressBookStorage.getManifestFilePath(testFolder.resolve("ab.json")));
+        AddressBook older = getTypicalAddressBook();
+        AddressBook newer = getTypicalAddressBook();
+        newer.removePerson(ALICE);
+        json.saveAddressBook(older);
+        binary.saveAddressBook(newer);
+        setLastModified(json.getAddressBookFilePath(), 1000);
+        setLastModified(binary.getAddressBookFilePath(), 2000);
+
+        assertTrue(AddressBookFormatConverter.convertIfNewer(List.of(json, binary), segmented));
+        assertEquals(newer, new AddressBook(segmented.readAddressBook().get()));
+        assertFalse(AddressBookFormatConverter.convertIfNewer(List.of(json, binary), segmented));
+    }
+
+    private static void setLastModified(Path file, long seconds) throws Exception {
+        Files.setLastModifiedTime(file, FileTime.fromMillis(seconds * 1000));
+    }
+}
@@ -0,0 +1,148 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.zip.CRC32;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.assignment.Assignment;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+
+public class BinaryAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private AddressBook getAddressBookWithAssignments() {
+        AddressBook addressBook = getTypicalAddressBook();
+        addressBook.addPerson(AMY);
+        addressBook.addPerson(BOB.withAssignments(Set.of(new Assignment("Lab 1", "Physics", true),
+                new Assignment("Lab 2", "Physics", false), new Assignment("Homework", "Math", true))));
+        return addressBook;
+    }
+
+    @Test
+    public void getSnapshotFilePath_replacesExtension() {
+        assertEquals(Paths.get("data", "tutortrack.bin"),
+                BinaryAddressBookStorage.getSnapshotFilePath(Paths.get("data", "tutortrack.json")));
+        assertEquals(Paths.get("data", "tutortrack.bin"),
+                BinaryAddressBookStorage.getSnapshotFilePath(Paths.get("data", "tutortrack")));
+    }
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        assertFalse(new BinaryAddressBookStorage(testFolder.resolve("missing.bin")).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("ab.bin");
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+        AddressBook original = getAddressBookWithAssignments();
+
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+        // marked flags are kept, which equals() does not check
+        Person readBob = storage.readAddressBook().get().getPersonList().get(original.getPersonList().size() - 1);
+        assertTrue(readBob.getAssignments().contains(new Assignment("Lab 1", "Physics")));
+        assertTrue(readBob.getAssignments().stream()
+                .allMatch(a -> a.isMarked() == !a.getAssignmentName().equals("Lab 2")));
+
+        original.removePerson(ALICE);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original, List.of());
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+
+        storage.saveAddressBook(new AddressBook());
+        assertEquals(new AddressBook(), new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_smallerThanJson() throws Exception {
+        Path binaryFilePath = testFolder.resolve("ab.bin");
+        Path jsonFilePath = testFolder.resolve("ab.json");
+        AddressBook original = getAddressBookWithAssignments();
+        new BinaryAddressBookStorage(binaryFilePath).saveAddressBook(original);
+        new JsonAddressBookStorage(jsonFilePath).saveAddressBook(original);
+        assertTrue(Files.size(binaryFilePath) * 2 < Files.size(jsonFilePath));
+    }
+
+    @Test
+    public void readAddressBook_sharesClassGroupsAndAssignments() throws Exception {
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(testFolder.resolve("ab.bin"));
+        AddressBook original = new AddressBook();
+        original.addPerson(AMY);
+        original.addPerson(AMY.withName(new Name("Amy Twin")));
+        storage.saveAddressBook(original);
+
+        List<Person> persons = storage.readAddressBook().get().getPersonList();
+        assertSame(persons.get(0).getClassGroups().iterator().next(),
+                persons.get(1).getClassGroups().iterator().next());
+        assertSame(persons.get(0).getAssignments().iterator().next(),
+                persons.get(1).getAssignments().iterator().next());
+    }
+
+    @Test
+    public void readAddressBook_notSnapshot_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("ab.bin");
+        Files.writeString(filePath, "{\"persons\": []}");
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_corruptedOrTruncated_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("ab.bin");
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+        storage.saveAddressBook(getAddressBookWithAssignments());
+        byte[] bytes = Files.readAllBytes(filePath);
+
+        byte[] corrupted = bytes.clone();
+        corrupted[bytes.length / 2] ^= 1;
+        Files.write(filePath, corrupted);
+        assertThrows(DataLoadingException.class, storage::readAddressBook);
+
+        Files.write(filePath, Arrays.copyOf(bytes, bytes.length - 1));
+        assertThrows(DataLoadingException.class, storage::readAddressBook);
+    }
+
+    @Test
+    public void decode_newerVersion_throwsIllegalValueException() {
+        ByteBuffer snapshot = ByteBuffer.allocate(12);
+        snapshot.putInt(BinaryAddressBookStorage.MAGIC).putShort((short) (BinaryAddressBookStorage.FORMAT_VERSION + 1))
+                .put((byte) 0).put((byte) 0);
+        CRC32 checksum = new CRC32();
+        checksum.update(snapshot.array(), 0, 8);
+        snapshot.putInt((int) checksum.getValue());
+
+        assertThrows(IllegalValueException.class, String.format(BinaryAddressBookStorage.MESSAGE_UNSUPPORTED_VERSION,
+                BinaryAddressBookStorage.FORMAT_VERSION + 1), () -> BinaryAddressBookStorage.decode(snapshot.array()));
+    }
+
+    @Test
+    public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(testFolder.resolve("ab.bin"));
+        assertThrows(NullPointerException.class, () -> storage.saveAddressBook(null));
+    }
+}
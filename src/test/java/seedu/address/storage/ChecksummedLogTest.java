@@ -0,0 +1,59 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.util.FileUtil;
+
+public class ChecksummedLogTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @AfterEach
+    public void tearDown() {
+        FileUtil.setSyncOnWrite(true);
+    }
+
+    @Test
+    public void unframe_framedPayload_returnsPayload() {
+        assertEquals(Optional.of("C 1 []"), ChecksummedLog.unframe(ChecksummedLog.frame("C 1 []")));
+        assertEquals(Optional.empty(), ChecksummedLog.unframe(ChecksummedLog.frame("C 1 []") + "x"));
+        assertEquals(Optional.empty(), ChecksummedLog.unframe("C 1 []"));
+    }
+
+    @Test
+    public void appendAndReplace_syncOnWrite_readBack() throws Exception {
+        assertAppendAndReplaceReadBack(true);
+    }
+
+    @Test
+    public void appendAndReplace_syncOnWriteOff_readBack() throws Exception {
+        assertAppendAndReplaceReadBack(false);
+    }
+
+    private void assertAppendAndReplaceReadBack(boolean isSyncOnWrite) throws Exception {
+        FileUtil.setSyncOnWrite(isSyncOnWrite);
+        Path file = testFolder.resolve("log");
+        ChecksummedLog.append(file, List.of("first"));
+        ChecksummedLog.append(file, List.of("second", "third"));
+        assertEquals(List.of("first", "second", "third"), readPayloads(file));
+
+        ChecksummedLog.replace(file, List.of("replaced"));
+        assertEquals(List.of("replaced"), readPayloads(file));
+    }
+
+    private static List<String> readPayloads(Path file) throws Exception {
+        return ChecksummedLog.readLines(file).stream()
+                .map(line -> ChecksummedLog.unframe(line).get())
+                .collect(Collectors.toList());
+    }
+}
@@ -2,22 +2,33 @@ package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
 import static seedu.address.testutil.TypicalPersons.HOON;
 import static seedu.address.testutil.TypicalPersons.IDA;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import javafx.collections.ObservableList;
+import seedu.address.commons.core.AddressBookSaveMode;
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.versionmanager.PersonChange;
 
 public class JsonAddressBookStorageTest {
     private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonAddressBookStorageTest");
@@ -86,6 +97,48 @@ public class JsonAddressBookStorageTest {
 
     }
 
+    @Test
+    public void saveAddressBook_prettyPrinted_sameAsSerializedAddressBook() throws Exception {
+        Path filePath = testFolder.resolve("pretty.json");
+        AddressBook original = getTypicalAddressBook();
+        new JsonAddressBookStorage(filePath).saveAddressBook(original);
+
+        assertEquals(JsonUtil.toJsonString(new JsonSerializableAddressBook(original)), Files.readString(filePath));
+    }
+
+    @Test
+    public void saveAddressBook_compact_smallerAndReadsBack() throws Exception {
+        Path prettyFilePath = testFolder.resolve("pretty.json");
+        Path compactFilePath = testFolder.resolve("compact.json");
+        AddressBook original = getTypicalAddressBook();
+        new JsonAddressBookStorage(prettyFilePath).saveAddressBook(original);
+        JsonAddressBookStorage compactStorage =
+                new JsonAddressBookStorage(compactFilePath, AddressBookSaveMode.FULL, Integer.MAX_VALUE, false);
+        compactStorage.saveAddressBook(original);
+
+        assertFalse(Files.readString(compactFilePath).contains("\n"));
+        assertTrue(Files.size(compactFilePath) < Files.size(prettyFilePath));
+        assertEquals(original, new AddressBook(compactStorage.readAddressBook().get()));
+        // either format can be read whatever the setting
+        assertEquals(original, new AddressBook(compactStorage.readAddressBook(prettyFilePath).get()));
+    }
+
+    @Test
+    public void readAddressBook_unknownFieldsAndNullPersons_ignored() throws Exception {
+        Path filePath = testFolder.resolve("unknown.json");
+        Files.writeString(filePath, "{\"version\": {\"major\": [1, 2]}, \"persons\": null, \"tags\": []}");
+        assertEquals(new AddressBook(), new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_truncatedFile_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("truncated.json");
+        new JsonAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        String json = Files.readString(filePath);
+        Files.writeString(filePath, json.substring(0, json.length() / 2));
+        assertThrows(DataLoadingException.class, () -> new JsonAddressBookStorage(filePath).readAddressBook());
+    }
+
     @Test
     public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveAddressBook(null, "SomeFile.json"));
@@ -107,4 +160,166 @@ public class JsonAddressBookStorageTest {
     public void saveAddressBook_nullFilePath_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveAddressBook(new AddressBook(), null));
     }
+
+    @Test
+    public void saveAddressBook_writeAheadLog_appendsChangesAndReplaysThem() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        JsonAddressBookStorage storage =
+                new JsonAddressBookStorage(filePath, AddressBookSaveMode.WRITE_AHEAD_LOG, 10, true);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original, List.of());
+        String checkpoint = Files.readString(filePath);
+
+        original.addPerson(HOON);
+        storage.saveAddressBook(original, List.of(PersonChange.ofAddition(original.indexOf(HOON), HOON)));
+        int aliceIndex = original.indexOf(ALICE);
+        original.removePerson(ALICE);
+        storage.saveAddressBook(original, List.of(PersonChange.ofRemoval(aliceIndex, ALICE)));
+
+        // only the journal was written
+        assertEquals(checkpoint, Files.readString(filePath));
+        assertEquals(3, Files.readAllLines(storage.getJournalFilePath()).size());
+
+        JsonAddressBookStorage reopened =
+                new JsonAddressBookStorage(filePath, AddressBookSaveMode.WRITE_AHEAD_LOG, 10, true);
+        assertEquals(original, new AddressBook(reopened.readAddressBook().get()));
+
+        // saves continue the replayed journal
+        original.addPerson(IDA);
+        reopened.saveAddressBook(original, List.of(PersonChange.ofAddition(original.indexOf(IDA), IDA)));
+        assertEquals(checkpoint, Files.readString(filePath));
+        assertEquals(original, new AddressBook(reopened.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_journaledSave_doesNotReadPersonList() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        JsonAddressBookStorage storage =
+                new JsonAddressBookStorage(filePath, AddressBookSaveMode.WRITE_AHEAD_LOG, 10, true);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original, List.of());
+
+        original.addPerson(HOON);
+        ReadOnlyAddressBook snapshot = original.snapshot();
+        // building the person list of a snapshot copies the whole roster
+        ReadOnlyAddressBook withoutPersonList = new ReadOnlyAddressBook() {
+            @Override
+            public ObservableList<Person> getPersonList() {
+                throw new AssertionError("The person list should not be read");
+            }
+
+            @Override
+            public int size() {
+                return snapshot.size();
+            }
+
+            @Override
+            public long getModificationCount() {
+                return snapshot.getModificationCount();
+            }
+        };
+        storage.saveAddressBook(withoutPersonList, List.of(PersonChange.ofAddition(original.indexOf(HOON), HOON)));
+
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_checkpointIntervalReached_rewritesDataFile() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        JsonAddressBookStorage storage =
+                new JsonAddressBookStorage(filePath, AddressBookSaveMode.WRITE_AHEAD_LOG, 1, true);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original, List.of());
+
+        original.addPerson(HOON);
+        storage.saveAddressBook(original, List.of(PersonChange.ofAddition(original.indexOf(HOON), HOON)));
+        original.addPerson(IDA);
+        storage.saveAddressBook(original, List.of(PersonChange.ofAddition(original.indexOf(IDA), IDA)));
+
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+        assertEquals(1, Files.readAllLines(storage.getJournalFilePath()).size());
+    }
+
+    @Test
+    public void readAddressBook_tornJournal_replaysCompleteLines() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        JsonAddressBookStorage storage =
+                new JsonAddressBookStorage(filePath, AddressBookSaveMode.WRITE_AHEAD_LOG, 10, true);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original, List.of());
+        original.addPerson(HOON);
+        storage.saveAddressBook(original, List.of(PersonChange.ofAddition(original.indexOf(HOON), HOON)));
+        Files.writeString(storage.getJournalFilePath(), "0123abcd C [{\"ind", StandardCharsets.UTF_8,
+                StandardOpenOption.APPEND);
+
+        JsonAddressBookStorage reopened =
+                new JsonAddressBookStorage(filePath, AddressBookSaveMode.WRITE_AHEAD_LOG, 10, true);
+        assertEquals(original, new AddressBook(reopened.readAddressBook().get()));
+
+        // the torn line is not appended after
+        original.addPerson(IDA);
+        reopened.saveAddressBook(original, List.of(PersonChange.ofAddition(original.indexOf(IDA), IDA)));
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+        assertEquals(1, Files.readAllLines(storage.getJournalFilePath()).size());
+    }
+
+    @Test
+    public void readAddressBook_journalOfOlderCheckpoint_ignored() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        JsonAddressBookStorage storage =
+                new JsonAddressBookStorage(filePath, AddressBookSaveMode.WRITE_AHEAD_LOG, 10, true);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original, List.of());
+        AddressBook modified = new AddressBook(original);
+        modified.addPerson(HOON);
+        storage.saveAddressBook(modified, List.of(PersonChange.ofAddition(modified.indexOf(HOON), HOON)));
+
+        // as if a crash happened after writing a checkpoint but before starting its journal
+        AddressBook checkpoint = new AddressBook(original);
+        checkpoint.addPerson(IDA);
+        new JsonAddressBookStorage(testFolder.resolve("other.json")).saveAddressBook(checkpoint, filePath);
+
+        assertEquals(checkpoint, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_journalNotMatchingData_replaysMatchingLines() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        JsonAddressBookStorage storage =
+                new JsonAddressBookStorage(filePath, AddressBookSaveMode.WRITE_AHEAD_LOG, 10, true);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original, List.of());
+        original.addPerson(HOON);
+        storage.saveAddressBook(original, List.of(PersonChange.ofAddition(original.indexOf(HOON), HOON)));
+        storage.saveAddressBook(original, List.of(PersonChange.ofEdit(original.indexOf(ALICE), BENSON, ALICE)));
+
+        JsonAddressBookStorage reopened =
+                new JsonAddressBookStorage(filePath, AddressBookSaveMode.WRITE_AHEAD_LOG, 10, true);
+        assertEquals(original, new AddressBook(reopened.readAddressBook().get()));
+
+        // the line that does not apply is not appended after
+        original.addPerson(IDA);
+        reopened.saveAddressBook(original, List.of(PersonChange.ofAddition(original.indexOf(IDA), IDA)));
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+        assertEquals(1, Files.readAllLines(storage.getJournalFilePath()).size());
+    }
+
+    @Test
+    public void saveAddressBook_fullMode_removesJournal() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        JsonAddressBookStorage walStorage =
+                new JsonAddressBookStorage(filePath, AddressBookSaveMode.WRITE_AHEAD_LOG, 10, true);
+        AddressBook original = getTypicalAddressBook();
+        walStorage.saveAddressBook(original, List.of());
+        original.addPerson(HOON);
+        walStorage.saveAddressBook(original, List.of(PersonChange.ofAddition(original.indexOf(HOON), HOON)));
+
+        // switching back to full saves keeps the journaled changes
+        JsonAddressBookStorage fullStorage = new JsonAddressBookStorage(filePath);
+        assertEquals(original, new AddressBook(fullStorage.readAddressBook().get()));
+        fullStorage.saveAddressBook(original, List.of());
+        assertFalse(Files.exists(walStorage.getJournalFilePath()));
+        assertTrue(Files.exists(filePath));
+        assertEquals(original, new AddressBook(fullStorage.readAddressBook().get()));
+    }
 }
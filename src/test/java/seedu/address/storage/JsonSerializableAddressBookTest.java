@@ -1,16 +1,28 @@
 package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.AddressBook;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Phone;
 import seedu.address.testutil.TypicalPersons;
 
 public class JsonSerializableAddressBookTest {
@@ -20,6 +32,10 @@ public class JsonSerializableAddressBookTest {
     private static final Path INVALID_PERSON_FILE = TEST_DATA_FOLDER.resolve("invalidPersonAddressBook.json");
     private static final Path DUPLICATE_PERSON_FILE = TEST_DATA_FOLDER.resolve("duplicatePersonAddressBook.json");
 
+    private static final int LARGE_ADDRESS_BOOK_SIZE = 100_000;
+    // Generous enough for slow CI machines, but far below what a quadratic duplicate check would need
+    private static final Duration LARGE_ADDRESS_BOOK_LOAD_BUDGET = Duration.ofSeconds(10);
+
     @Test
     public void toModelType_typicalPersonsFile_success() throws Exception {
         JsonSerializableAddressBook dataFromFile = JsonUtil.readJsonFile(TYPICAL_PERSONS_FILE,
@@ -44,4 +60,76 @@ public class JsonSerializableAddressBookTest {
                 dataFromFile::toModelType);
     }
 
+    @Test
+    public void toModelType_largeAddressBook_loadsWithinTimeBudget() {
+        List<JsonAdaptedPerson> persons = new ArrayList<>(LARGE_ADDRESS_BOOK_SIZE);
+        for (int i = 0; i < LARGE_ADDRESS_BOOK_SIZE; i++) {
+            persons.add(new JsonAdaptedPerson("Student " + i, String.format("8%07d", i), "1",
+                    Collections.emptyList(), Collections.emptyList()));
+        }
+        JsonSerializableAddressBook largeAddressBook = new JsonSerializableAddressBook(persons);
+
+        AddressBook addressBook = assertTimeoutPreemptively(LARGE_ADDRESS_BOOK_LOAD_BUDGET,
+                largeAddressBook::toModelType);
+        assertEquals(LARGE_ADDRESS_BOOK_SIZE, addressBook.getPersonList().size());
+    }
+
+    @Test
+    public void read_typicalPersonsFile_success() throws Exception {
+        for (boolean isParallel : new boolean[] {false, true}) {
+            try (InputStream in = Files.newInputStream(TYPICAL_PERSONS_FILE)) {
+                assertEquals(TypicalPersons.getTypicalAddressBook(), JsonSerializableAddressBook.read(in, isParallel));
+            }
+        }
+    }
+
+    @Test
+    public void read_invalidPersons_reportsAllWithIndices() {
+        String json = "{ \"persons\": ["
+                + "{ \"name\": \"Hans Muster\", \"phone\": \"948242@4\", \"level\": \"1\" },"
+                + "{ \"name\": \"Ida Mueller\", \"phone\": \"94821321\", \"level\": \"1\" },"
+                + "{ \"name\": \"R@chel\", \"phone\": \"94821322\", \"level\": \"1\" } ] }";
+        String expectedMessage = String.format(JsonSerializableAddressBook.MESSAGE_PERSON_ERROR_FORMAT,
+                0, Phone.MESSAGE_CONSTRAINTS) + "\n"
+                + String.format(JsonSerializableAddressBook.MESSAGE_PERSON_ERROR_FORMAT, 2, Name.MESSAGE_CONSTRAINTS);
+        for (boolean isParallel : new boolean[] {false, true}) {
+            assertThrows(IllegalValueException.class, expectedMessage, () ->
+                    JsonSerializableAddressBook.read(toStream(json), isParallel));
+        }
+    }
+
+    @Test
+    public void read_duplicatePersons_reportsIndexOfDuplicate() {
+        String expectedMessage = String.format(JsonSerializableAddressBook.MESSAGE_PERSON_ERROR_FORMAT, 1,
+                String.format(JsonSerializableAddressBook.MESSAGE_DUPLICATE_OF_FORMAT, 0));
+        for (boolean isParallel : new boolean[] {false, true}) {
+            assertThrows(IllegalValueException.class, expectedMessage, () -> {
+                try (InputStream in = Files.newInputStream(DUPLICATE_PERSON_FILE)) {
+                    JsonSerializableAddressBook.read(in, isParallel);
+                }
+            });
+        }
+    }
+
+    @Test
+    public void read_largeAddressBook_parallelMatchesSequential() throws Exception {
+        AddressBook addressBook = new AddressBook();
+        for (int i = 0; i < LARGE_ADDRESS_BOOK_SIZE; i++) {
+            addressBook.addPerson(new JsonAdaptedPerson("Student " + i, String.format("8%07d", i), "1",
+                    Collections.emptyList(), Collections.emptyList()).toModelType());
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        JsonSerializableAddressBook.write(addressBook, out, false);
+        byte[] bytes = out.toByteArray();
+
+        AddressBook sequential = JsonSerializableAddressBook.read(new ByteArrayInputStream(bytes), false);
+        AddressBook parallel = JsonSerializableAddressBook.read(new ByteArrayInputStream(bytes), true);
+        assertEquals(addressBook, sequential);
+        assertEquals(sequential, parallel);
+    }
+
+    private static InputStream toStream(String json) {
+        return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+    }
+
 }
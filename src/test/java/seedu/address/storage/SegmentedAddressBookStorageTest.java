@@ -0,0 +1,172 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.versionmanager.PersonChange;
+import seedu.address.testutil.PersonBuilder;
+
+public class SegmentedAddressBookStorageTest {
+
+    private static final int LARGE_ADDRESS_BOOK_SIZE = 4 * SegmentedAddressBookStorage.PERSONS_PER_SEGMENT;
+
+    @TempDir
+    public Path testFolder;
+
+    private Path getManifestFile() {
+        return testFolder.resolve("ab.segments").resolve(SegmentedAddressBookStorage.MANIFEST_FILE_NAME);
+    }
+
+    private static AddressBook getLargeAddressBook() {
+        AddressBook addressBook = new AddressBook();
+        for (int i = 0; i < LARGE_ADDRESS_BOOK_SIZE; i++) {
+            addressBook.addPerson(new PersonBuilder().withName("Student " + i)
+                    .withPhone(String.format("8%07d", i)).build());
+        }
+        return addressBook;
+    }
+
+    private Set<String> getSegmentFileNames() throws IOException {
+        try (Stream<Path> files = Files.list(getManifestFile().getParent())) {
+            return files.map(file -> file.getFileName().toString())
+                    .filter(name -> !name.equals(SegmentedAddressBookStorage.MANIFEST_FILE_NAME))
+                    .collect(Collectors.toSet());
+        }
+    }
+
+    private AddressBook readFresh() throws DataLoadingException {
+        return new AddressBook(new SegmentedAddressBookStorage(getManifestFile()).readAddressBook().get());
+    }
+
+    @Test
+    public void getManifestFilePath_replacesExtension() {
+        assertEquals(Paths.get("data", "tutortrack.segments", "manifest.json"),
+                SegmentedAddressBookStorage.getManifestFilePath(Paths.get("data", "tutortrack.json")));
+    }
+
+    @Test
+    public void readAddressBook_missingManifest_emptyResult() throws Exception {
+        assertFalse(new SegmentedAddressBookStorage(getManifestFile()).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        SegmentedAddressBookStorage storage = new SegmentedAddressBookStorage(getManifestFile());
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        assertEquals(original, readFresh());
+
+        original.removePerson(ALICE);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        assertEquals(original, readFresh());
+    }
+
+    @Test
+    public void saveAddressBook_changes_rewritesOnlyChangedSegments() throws Exception {
+        SegmentedAddressBookStorage storage = new SegmentedAddressBookStorage(getManifestFile());
+        AddressBook addressBook = getLargeAddressBook();
+        storage.saveAddressBook(addressBook);
+        Set<String> filesBefore = getSegmentFileNames();
+
+        Person before = addressBook.getPersonList().get(100);
+        Person after = new PersonBuilder(before).withLevel("3").build();
+        addressBook.setPerson(before, after);
+        storage.saveAddressBook(addressBook, List.of(PersonChange.ofEdit(100, before, after)));
+
+        Set<String> filesAfter = getSegmentFileNames();
+        Set<String> replaced = new HashSet<>(filesBefore);
+        replaced.removeAll(filesAfter);
+        assertEquals(1, replaced.size());
+        assertEquals(filesBefore.size(), filesAfter.size());
+        assertEquals(addressBook, readFresh());
+    }
+
+    @Test
+    public void saveAddressBook_additionsAndRemovals_keepsOrder() throws Exception {
+        SegmentedAddressBookStorage storage = new SegmentedAddressBookStorage(getManifestFile());
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+
+        List<PersonChange> changes = new ArrayList<>();
+        addressBook.addPerson(0, HOON);
+        changes.add(PersonChange.ofAddition(0, HOON));
+        addressBook.addPerson(3, IDA);
+        changes.add(PersonChange.ofAddition(3, IDA));
+        addressBook.addPerson(AMY);
+        changes.add(PersonChange.ofAddition(addressBook.indexOf(AMY), AMY));
+        changes.add(PersonChange.ofRemoval(addressBook.indexOf(BENSON), BENSON));
+        addressBook.removePerson(BENSON);
+        storage.saveAddressBook(addressBook, changes);
+        assertEquals(addressBook, readFresh());
+
+        // a storage that has read the segments saves further changes on top of them
+        SegmentedAddressBookStorage reopened = new SegmentedAddressBookStorage(getManifestFile());
+        reopened.readAddressBook();
+        addressBook.removePerson(HOON);
+        reopened.saveAddressBook(addressBook, List.of(PersonChange.ofRemoval(0, HOON)));
+        assertEquals(addressBook, readFresh());
+    }
+
+    @Test
+    public void saveAddressBook_repeatedInsertionsAtSamePosition_renumbersRanks() throws Exception {
+        SegmentedAddressBookStorage storage = new SegmentedAddressBookStorage(getManifestFile());
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+
+        // each insertion halves the gap between the first two ranks, until there is no room left
+        for (int i = 0; i < 30; i++) {
+            Person person = new PersonBuilder().withName("Student " + i).withPhone(String.format("8%07d", i)).build();
+            addressBook.addPerson(1, person);
+            storage.saveAddressBook(addressBook, List.of(PersonChange.ofAddition(1, person)));
+        }
+        assertEquals(addressBook, readFresh());
+    }
+
+    @Test
+    public void saveAddressBook_changesWithoutPriorSave_savesEverything() throws Exception {
+        SegmentedAddressBookStorage storage = new SegmentedAddressBookStorage(getManifestFile());
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook, List.of(PersonChange.ofAddition(0, ALICE)));
+        assertEquals(addressBook, readFresh());
+    }
+
+    @Test
+    public void readAddressBook_missingSegment_throwsDataLoadingException() throws Exception {
+        SegmentedAddressBookStorage storage = new SegmentedAddressBookStorage(getManifestFile());
+        storage.saveAddressBook(getLargeAddressBook());
+        Files.delete(getManifestFile().resolveSibling(getSegmentFileNames().iterator().next()));
+        assertThrows(DataLoadingException.class, storage::readAddressBook);
+    }
+
+    @Test
+    public void readAddressBook_wrongSegmentCount_throwsDataLoadingException() throws Exception {
+        Files.createDirectories(getManifestFile().getParent());
+        Files.writeString(getManifestFile(), "{ \"generation\": 1, \"segmentBits\": 2, \"segments\": [ null ] }");
+        assertThrows(DataLoadingException.class, new SegmentedAddressBookStorage(getManifestFile())::readAddressBook);
+    }
+}
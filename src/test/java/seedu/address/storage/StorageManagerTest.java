@@ -1,10 +1,14 @@
 package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.HOON;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.nio.file.Path;
+import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -14,6 +18,7 @@ import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.versionmanager.PersonChange;
 
 public class StorageManagerTest {
 
@@ -27,7 +32,9 @@ public class StorageManagerTest {
         JsonAddressBookStorage addressBookStorage = new JsonAddressBookStorage(getTempFilePath("ab"));
         JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(getTempFilePath("prefs"));
         TxtCommandHistoryStorage commandHistoryStorage = new TxtCommandHistoryStorage(getTempFilePath("hist"));
-        storageManager = new StorageManager(addressBookStorage, userPrefsStorage, commandHistoryStorage);
+        TxtUndoHistoryStorage undoHistoryStorage = new TxtUndoHistoryStorage(getTempFilePath("undo"));
+        storageManager = new StorageManager(addressBookStorage, userPrefsStorage, commandHistoryStorage,
+                undoHistoryStorage);
     }
 
     private Path getTempFilePath(String fileName) {
@@ -61,6 +68,21 @@ public class StorageManagerTest {
         assertEquals(original, new AddressBook(retrieved));
     }
 
+    @Test
+    public void hasUnsavedChanges_tracksModificationsSinceLastSave() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        assertTrue(storageManager.hasUnsavedChanges(addressBook));
+
+        storageManager.saveAddressBook(addressBook, List.of());
+        assertFalse(storageManager.hasUnsavedChanges(addressBook));
+        assertTrue(storageManager.hasUnsavedChanges(getTypicalAddressBook()));
+
+        addressBook.addPerson(HOON);
+        assertTrue(storageManager.hasUnsavedChanges(addressBook));
+        storageManager.saveAddressBook(addressBook, List.of(PersonChange.ofAddition(addressBook.indexOf(HOON), HOON)));
+        assertFalse(storageManager.hasUnsavedChanges(addressBook));
+    }
+
     @Test
     public void getAddressBookFilePath() {
         assertNotNull(storageManager.getAddressBookFilePath());
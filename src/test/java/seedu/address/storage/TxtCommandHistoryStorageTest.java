@@ -8,6 +8,7 @@ import static seedu.address.testutil.Assert.assertThrows;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.List;
 import java.util.Optional;
 
@@ -98,4 +99,38 @@ public class TxtCommandHistoryStorageTest {
 
         assertThrows(IOException.class, badStorage::readCommandHistory);
     }
+
+    @Test
+    public void saveCommandHistory_sameHistory_appendsOnlyNewCommands() throws IOException {
+        CommandHistory history = new CommandHistory(List.of("list"));
+        storage.saveCommandHistory(history);
+        // a line written by someone else is kept, which shows the file was appended to rather than rewritten
+        Files.writeString(historyFile, "edited" + System.lineSeparator(), StandardOpenOption.APPEND);
+
+        history.add("delete 1");
+        history.add("undo");
+        storage.saveCommandHistory(history);
+        assertEquals(List.of("list", "edited", "delete 1", "undo"), Files.readAllLines(historyFile));
+    }
+
+    @Test
+    public void saveCommandHistory_manyCommands_compactsFile() throws IOException {
+        int maxSize = 10;
+        TxtCommandHistoryStorage smallStorage = new TxtCommandHistoryStorage(historyFile, maxSize);
+        CommandHistory history = new CommandHistory(maxSize);
+        for (int i = 1; i <= 5 * maxSize; i++) {
+            history.add("cmd" + i);
+            smallStorage.saveCommandHistory(history);
+            assertTrue(Files.readAllLines(historyFile).size() <= 2 * maxSize);
+        }
+        assertEquals(history.getHistory(), smallStorage.readCommandHistory().get().getHistory());
+    }
+
+    @Test
+    public void appendCommandHistory_keepsLatestCommands() throws IOException {
+        TxtCommandHistoryStorage smallStorage = new TxtCommandHistoryStorage(historyFile, 3);
+        smallStorage.appendCommandHistory(List.of("a", "b"));
+        smallStorage.appendCommandHistory(List.of("c", "d"));
+        assertEquals(List.of("b", "c", "d"), smallStorage.readCommandHistory().get().getHistory());
+    }
 }
@@ -0,0 +1,165 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.BOB;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.zip.CRC32;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.versionmanager.DeferredChangeList;
+import seedu.address.model.versionmanager.PersonChange;
+import seedu.address.model.versionmanager.VersionHistoryEvent;
+import seedu.address.model.versionmanager.exceptions.CorruptedHistoryException;
+
+/**
+ * Unit tests for {@link TxtUndoHistoryStorage}.
+ */
+public class TxtUndoHistoryStorageTest {
+
+    private static final List<PersonChange> FIRST_CHANGES = List.of(PersonChange.ofAddition(0, ALICE));
+    private static final List<PersonChange> SECOND_CHANGES =
+            List.of(PersonChange.ofEdit(0, ALICE, BOB), PersonChange.ofRemoval(1, BENSON));
+
+    @TempDir
+    public Path tempDir;
+
+    private Path undoFile;
+    private TxtUndoHistoryStorage storage;
+
+    @BeforeEach
+    public void setUp() {
+        undoFile = tempDir.resolve("undo.log");
+        storage = new TxtUndoHistoryStorage(undoFile);
+    }
+
+    @Test
+    public void readUndoHistory_fileDoesNotExist_returnsEmptyOptional() throws IOException {
+        assertTrue(storage.readUndoHistory().isEmpty());
+    }
+
+    @Test
+    public void appendAndReadUndoHistory_success() throws IOException {
+        List<VersionHistoryEvent> events = List.of(
+                VersionHistoryEvent.ofCommit(FIRST_CHANGES, 1),
+                VersionHistoryEvent.ofCommit(SECOND_CHANGES, 2));
+        storage.appendUndoHistory(events.subList(0, 1));
+        storage.appendUndoHistory(events.subList(1, 2));
+
+        List<VersionHistoryEvent> readBack = storage.readUndoHistory().get();
+
+        assertEquals(events, readBack);
+        assertEquals(2, Files.readAllLines(undoFile).size());
+    }
+
+    @Test
+    public void readUndoHistory_changesAreLoadedLazily() throws IOException {
+        storage.appendUndoHistory(List.of(VersionHistoryEvent.ofCommit(FIRST_CHANGES, 1)));
+
+        DeferredChangeList changes = (DeferredChangeList) storage.readUndoHistory().get().get(0).getChanges();
+
+        assertFalse(changes.isLoaded());
+        assertEquals(FIRST_CHANGES, changes);
+        assertTrue(changes.isLoaded());
+    }
+
+    @Test
+    public void readUndoHistory_tornLastLine_ignoresAndRemovesIt() throws IOException {
+        storage.appendUndoHistory(List.of(VersionHistoryEvent.ofCommit(FIRST_CHANGES, 1)));
+        String fullLog = Files.readString(undoFile);
+        storage.appendUndoHistory(List.of(VersionHistoryEvent.ofCommit(SECOND_CHANGES, 2)));
+        String torn = Files.readString(undoFile);
+        Files.writeString(undoFile, torn.substring(0, torn.length() - 10));
+
+        List<VersionHistoryEvent> readBack = storage.readUndoHistory().get();
+
+        assertEquals(List.of(VersionHistoryEvent.ofCommit(FIRST_CHANGES, 1)), readBack);
+        assertEquals(fullLog, Files.readString(undoFile));
+    }
+
+    @Test
+    public void readUndoHistory_undoneVersionsOverwritten_compactsLog() throws IOException {
+        storage.appendUndoHistory(List.of(
+                VersionHistoryEvent.ofCommit(FIRST_CHANGES, 1),
+                VersionHistoryEvent.ofCommit(SECOND_CHANGES, 2),
+                VersionHistoryEvent.ofUndo(1),
+                VersionHistoryEvent.ofRedo(2),
+                VersionHistoryEvent.ofUndo(1),
+                VersionHistoryEvent.ofCommit(SECOND_CHANGES, 3),
+                VersionHistoryEvent.ofUndo(1)));
+
+        List<VersionHistoryEvent> readBack = storage.readUndoHistory().get();
+
+        assertEquals(List.of(
+                VersionHistoryEvent.ofCommit(FIRST_CHANGES, 1),
+                VersionHistoryEvent.ofCommit(SECOND_CHANGES, 3),
+                VersionHistoryEvent.ofUndo(1)), readBack);
+        assertEquals(3, Files.readAllLines(undoFile).size());
+        assertEquals(readBack, storage.readUndoHistory().get());
+    }
+
+    @Test
+    public void readUndoHistory_moreVersionsThanMaximum_dropsOldest() throws IOException {
+        storage = new TxtUndoHistoryStorage(undoFile, 1);
+        storage.appendUndoHistory(List.of(
+                VersionHistoryEvent.ofCommit(FIRST_CHANGES, 1),
+                VersionHistoryEvent.ofCommit(SECOND_CHANGES, 2)));
+
+        assertEquals(List.of(VersionHistoryEvent.ofCommit(SECOND_CHANGES, 2)), storage.readUndoHistory().get());
+    }
+
+    @Test
+    public void appendUndoHistory_longSession_keepsLogBounded() throws IOException {
+        storage = new TxtUndoHistoryStorage(undoFile, 3);
+        storage.readUndoHistory();
+        for (int i = 1; i <= 200; i++) {
+            storage.appendUndoHistory(List.of(VersionHistoryEvent.ofCommit(FIRST_CHANGES, i)));
+            if (i % 10 == 0) {
+                // an undo and redo pair adds lines without adding versions
+                storage.appendUndoHistory(List.of(VersionHistoryEvent.ofUndo(i - 1)));
+                storage.appendUndoHistory(List.of(VersionHistoryEvent.ofRedo(i)));
+            }
+            // bounded by the maximum number of versions, not by the length of the session
+            assertTrue(Files.readAllLines(undoFile).size() <= 4 * 3);
+        }
+
+        assertEquals(List.of(
+                VersionHistoryEvent.ofCommit(FIRST_CHANGES, 198),
+                VersionHistoryEvent.ofCommit(FIRST_CHANGES, 199),
+                VersionHistoryEvent.ofCommit(FIRST_CHANGES, 200)),
+                new TxtUndoHistoryStorage(undoFile, 3).readUndoHistory().get());
+    }
+
+    @Test
+    public void readUndoHistory_invalidChanges_throwsCorruptedHistoryExceptionOnLoad() throws IOException {
+        String payload = "C 1 [{\"index\":-1}]";
+        CRC32 crc = new CRC32();
+        crc.update(payload.getBytes(StandardCharsets.UTF_8));
+        Files.writeString(undoFile, String.format("%08x %s%n", crc.getValue(), payload),
+                StandardOpenOption.CREATE);
+
+        List<PersonChange> changes = storage.readUndoHistory().get().get(0).getChanges();
+
+        assertThrows(CorruptedHistoryException.class, changes::size);
+    }
+
+    @Test
+    public void clearUndoHistory_deletesLog() throws IOException {
+        storage.appendUndoHistory(List.of(VersionHistoryEvent.ofUndo(1)));
+        storage.clearUndoHistory();
+        assertFalse(Files.exists(undoFile));
+    }
+}
@@ -0,0 +1,206 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.core.AddressBookSaveMode;
+import seedu.address.model.AddressBook;
+import seedu.address.model.CommandHistory;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.versionmanager.PersonChange;
+import seedu.address.model.versionmanager.VersionHistoryEvent;
+
+public class WriteBehindStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private StorageManager createStorageManager(JsonAddressBookStorage addressBookStorage) {
+        return new StorageManager(addressBookStorage, new JsonUserPrefsStorage(testFolder.resolve("prefs")),
+                new TxtCommandHistoryStorage(testFolder.resolve("history")),
+                new TxtUndoHistoryStorage(testFolder.resolve("undo")));
+    }
+
+    @Test
+    public void flush_pendingSaves_writesThem() throws Exception {
+        StorageManager storageManager = createStorageManager(
+                new JsonAddressBookStorage(testFolder.resolve("ab.json")));
+        WriteBehindStorage storage = new WriteBehindStorage(storageManager);
+        AddressBook addressBook = getTypicalAddressBook();
+        CommandHistory history = new CommandHistory(List.of("list"));
+
+        storage.saveAddressBook(addressBook, List.of());
+        storage.saveCommandHistory(history);
+        AddressBook saved = new AddressBook(addressBook);
+        // later changes are not written until they are saved
+        addressBook.removePerson(ALICE);
+        history.add("delete 1");
+        storage.flush();
+
+        assertEquals(saved, new AddressBook(storageManager.readAddressBook().get()));
+        assertEquals(List.of("list"), storageManager.readCommandHistory().get().getHistory());
+    }
+
+    @Test
+    public void saveCommandHistory_savedBefore_appendsNewCommands() throws Exception {
+        StorageManager storageManager = createStorageManager(
+                new JsonAddressBookStorage(testFolder.resolve("ab.json")));
+        WriteBehindStorage storage = new WriteBehindStorage(storageManager);
+        CommandHistory history = new CommandHistory(List.of("list"));
+        storage.saveCommandHistory(history);
+        storage.flush();
+
+        history.add("delete 1");
+        storage.saveCommandHistory(history);
+        history.add("undo");
+        storage.saveCommandHistory(history);
+        storage.flush();
+
+        assertEquals(List.of("list", "delete 1", "undo"), Files.readAllLines(testFolder.resolve("history")));
+    }
+
+    @Test
+    public void saveAddressBook_writerBusy_coalescesSaves() throws Exception {
+        CountDownLatch isWriting = new CountDownLatch(1);
+        CountDownLatch canFinish = new CountDownLatch(1);
+        List<List<PersonChange>> writtenChanges = new ArrayList<>();
+        JsonAddressBookStorage addressBookStorage = new JsonAddressBookStorage(testFolder.resolve("ab.json")) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, List<PersonChange> changes)
+                    throws IOException {
+                isWriting.countDown();
+                try {
+                    canFinish.await();
+                } catch (InterruptedException e) {
+                    throw new AssertionError(e);
+                }
+                writtenChanges.add(changes);
+                super.saveAddressBook(addressBook, changes);
+            }
+        };
+        WriteBehindStorage storage = new WriteBehindStorage(createStorageManager(addressBookStorage));
+        AddressBook addressBook = getTypicalAddressBook();
+
+        storage.saveAddressBook(addressBook, List.of());
+        isWriting.await();
+        addressBook.addPerson(HOON);
+        PersonChange addHoon = PersonChange.ofAddition(addressBook.indexOf(HOON), HOON);
+        storage.saveAddressBook(addressBook, List.of(addHoon));
+        addressBook.addPerson(IDA);
+        PersonChange addIda = PersonChange.ofAddition(addressBook.indexOf(IDA), IDA);
+        storage.saveAddressBook(addressBook, List.of(addIda));
+        canFinish.countDown();
+        storage.flush();
+
+        assertEquals(List.of(List.of(), List.of(addHoon, addIda)), writtenChanges);
+        assertEquals(addressBook, new AddressBook(addressBookStorage.readAddressBook().get()));
+    }
+
+    @Test
+    public void flush_saveFailed_reportsFailure() throws Exception {
+        IOException failure = new IOException("disk full");
+        JsonAddressBookStorage addressBookStorage = new JsonAddressBookStorage(testFolder.resolve("ab.json")) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, List<PersonChange> changes)
+                    throws IOException {
+                throw failure;
+            }
+        };
+        WriteBehindStorage storage = new WriteBehindStorage(createStorageManager(addressBookStorage));
+        AtomicReference<IOException> reported = new AtomicReference<>();
+        storage.setSaveFailureHandler(reported::set);
+        AddressBook addressBook = getTypicalAddressBook();
+
+        storage.saveAddressBook(addressBook, List.of());
+        assertThrows(IOException.class, "disk full", storage::flush);
+        assertEquals(failure, reported.get());
+        // the address book counts as unsaved, so the next command saves it again
+        assertTrue(storage.hasUnsavedChanges(addressBook));
+        storage.flush();
+    }
+
+    @Test
+    public void saveAddressBook_afterFailedBatch_savesWholeAddressBook() throws Exception {
+        Path filePath = testFolder.resolve("ab.json");
+        JsonAddressBookStorage addressBookStorage = new JsonAddressBookStorage(filePath,
+                AddressBookSaveMode.WRITE_AHEAD_LOG, Integer.MAX_VALUE, false);
+        AtomicBoolean isFailing = new AtomicBoolean(false);
+        TxtUndoHistoryStorage undoHistoryStorage = new TxtUndoHistoryStorage(testFolder.resolve("undo")) {
+            @Override
+            public void appendUndoHistory(List<VersionHistoryEvent> events) throws IOException {
+                if (isFailing.get()) {
+                    throw new IOException("disk full");
+                }
+                super.appendUndoHistory(events);
+            }
+        };
+        WriteBehindStorage storage = new WriteBehindStorage(new StorageManager(addressBookStorage,
+                new JsonUserPrefsStorage(testFolder.resolve("prefs")),
+                new TxtCommandHistoryStorage(testFolder.resolve("history")), undoHistoryStorage));
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        storage.flush();
+
+        // the batch fails before its changes are written
+        isFailing.set(true);
+        addressBook.addPerson(HOON);
+        PersonChange addHoon = PersonChange.ofAddition(addressBook.indexOf(HOON), HOON);
+        storage.appendUndoHistory(List.of(VersionHistoryEvent.ofCommit(List.of(addHoon), 0)));
+        storage.saveAddressBook(addressBook, List.of(addHoon));
+        assertThrows(IOException.class, "disk full", storage::flush);
+
+        isFailing.set(false);
+        addressBook.addPerson(IDA);
+        storage.saveAddressBook(addressBook, List.of(PersonChange.ofAddition(addressBook.indexOf(IDA), IDA)));
+        storage.flush();
+
+        JsonAddressBookStorage reloaded = new JsonAddressBookStorage(filePath,
+                AddressBookSaveMode.WRITE_AHEAD_LOG, Integer.MAX_VALUE, false);
+        assertEquals(addressBook, new AddressBook(reloaded.readAddressBook().get()));
+    }
+
+    @Test
+    public void hasUnsavedChanges_tracksSubmittedSaves() {
+        WriteBehindStorage storage = new WriteBehindStorage(createStorageManager(
+                new JsonAddressBookStorage(testFolder.resolve("ab.json"))));
+        AddressBook addressBook = getTypicalAddressBook();
+        assertTrue(storage.hasUnsavedChanges(addressBook));
+
+        storage.saveAddressBook(addressBook, List.of());
+        assertFalse(storage.hasUnsavedChanges(addressBook));
+
+        addressBook.removePerson(ALICE);
+        assertTrue(storage.hasUnsavedChanges(addressBook));
+    }
+
+    @Test
+    public void markSaved_loadedAddressBook_hasNoUnsavedChangesUntilModified() {
+        WriteBehindStorage storage = new WriteBehindStorage(createStorageManager(
+                new JsonAddressBookStorage(testFolder.resolve("ab.json"))));
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.markSaved(addressBook);
+        assertFalse(storage.hasUnsavedChanges(addressBook));
+        assertTrue(storage.hasUnsavedChanges(getTypicalAddressBook()));
+
+        addressBook.removePerson(ALICE);
+        assertTrue(storage.hasUnsavedChanges(addressBook));
+    }
+}